@@ -1,5 +1,7 @@
 package com.banking.application.account.dto;
 
+import com.banking.application.shared.interfaces.AccountBalanceReader.AccountBalanceView;
+
 import java.math.BigDecimal;
 
 /**
@@ -23,6 +25,13 @@ public record AccountBalanceResponse(
         );
     }
 
+    /**
+     * Factory method para criar a partir da projeção de saldo
+     */
+    public static AccountBalanceResponse from(AccountBalanceView view) {
+        return new AccountBalanceResponse(view.accountId(), view.accountNumber(), view.balance());
+    }
+
     /**
      * Factory method para criar a partir de entidade de domínio
      */
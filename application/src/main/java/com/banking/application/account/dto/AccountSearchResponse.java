@@ -0,0 +1,28 @@
+package com.banking.application.account.dto;
+
+import com.banking.application.shared.interfaces.AccountSearch.AccountMatch;
+
+/**
+ * DTO de resposta para um resultado da busca de contas por nome.
+ */
+public record AccountSearchResponse(
+    String accountId,
+    String accountNumber,
+    String holderName,
+    boolean active,
+    double score
+) {
+
+    /**
+     * Factory method para criar a partir de um resultado da busca
+     */
+    public static AccountSearchResponse from(AccountMatch match) {
+        return new AccountSearchResponse(
+            match.accountId(),
+            match.accountNumber(),
+            match.holderName(),
+            match.active(),
+            match.score()
+        );
+    }
+}
@@ -3,10 +3,11 @@ package com.banking.application.account.query;
 import com.banking.application.account.dto.AccountBalanceResponse;
 import com.banking.application.shared.base.QueryHandler;
 import com.banking.application.shared.exception.ValidationException;
+import com.banking.application.shared.interfaces.AccountBalanceReader;
+import com.banking.application.shared.interfaces.AccountBalanceReader.AccountBalanceView;
 import com.banking.application.shared.interfaces.CacheService;
-import com.banking.domain.account.entity.Account;
-import com.banking.domain.account.repository.AccountRepository;
-import com.banking.domain.account.valueobject.AccountId;
+import com.banking.application.shared.interfaces.TransactionManager;
+import com.banking.application.shared.interfaces.TransactionManager.ReadResult;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -14,16 +15,21 @@ import java.util.Optional;
 
 /**
  * Handler para processar consulta de saldo de conta.
+ * Lê apenas a projeção de saldo, sem reconstruir o agregado Account.
+ * Saldos lidos de réplica não vão para o cache: poderiam anteceder a última transferência.
  */
 @Service
 public class GetAccountBalanceHandler implements QueryHandler<GetAccountBalanceQuery, AccountBalanceResponse> {
 
-    private final AccountRepository accountRepository;
+    private final AccountBalanceReader balanceReader;
     private final CacheService cacheService;
+    private final TransactionManager transactionManager;
 
-    public GetAccountBalanceHandler(AccountRepository accountRepository, CacheService cacheService) {
-        this.accountRepository = accountRepository;
+    public GetAccountBalanceHandler(AccountBalanceReader balanceReader, CacheService cacheService,
+                                    TransactionManager transactionManager) {
+        this.balanceReader = balanceReader;
         this.cacheService = cacheService;
+        this.transactionManager = transactionManager;
     }
 
     @Override
@@ -38,21 +44,22 @@ public class GetAccountBalanceHandler implements QueryHandler<GetAccountBalanceQ
             return cachedResult.get();
         }
 
-        // Buscar no repositório
-        AccountId accountId = AccountId.of(query.accountId());
-        Account account = accountRepository.findById(accountId)
+        // Buscar no repositório (transação somente leitura: atendida por réplica quando configurada)
+        ReadResult<Optional<AccountBalanceView>> read =
+            transactionManager.executeInTrackedReadOnlyTransaction(() -> balanceReader.findBalance(query.accountId()));
+        AccountBalanceView balance = read.value()
             .orElseThrow(() -> new ValidationException("Account not found with ID: " + query.accountId()));
 
         // Verificar se a conta está ativa
-        if (!account.isActive()) {
+        if (!balance.active()) {
             throw new ValidationException("Cannot retrieve balance from inactive account");
         }
 
         // Converter para DTO
-        AccountBalanceResponse response = AccountBalanceResponse.from(account);
+        AccountBalanceResponse response = AccountBalanceResponse.from(balance);
 
         // Armazenar no cache com TTL curto (saldo muda frequentemente)
-        if (shouldCache(query)) {
+        if (shouldCache(query) && !read.fromReplica()) {
             Duration ttl = Duration.ofSeconds(query.getCacheTtlSeconds());
             cacheService.put(cacheKey, response, ttl);
         }
@@ -12,6 +12,8 @@ public record GetAccountBalanceQuery(
     String accountId
 ) implements Query<AccountBalanceResponse> {
 
+    public static final int CACHE_TTL_SECONDS = 60; // 1 minuto (saldo muda frequentemente)
+
     public static GetAccountBalanceQuery of(String accountId) {
         return new GetAccountBalanceQuery(accountId);
     }
@@ -23,7 +25,7 @@ public record GetAccountBalanceQuery(
 
     @Override
     public int getCacheTtlSeconds() {
-        return 60; // 1 minuto (saldo muda frequentemente)
+        return CACHE_TTL_SECONDS;
     }
 
     @Override
@@ -0,0 +1,125 @@
+package com.banking.application.account.query;
+
+import com.banking.application.account.dto.AccountBalanceResponse;
+import com.banking.application.shared.base.QueryHandler;
+import com.banking.application.shared.exception.ValidationException;
+import com.banking.application.shared.interfaces.AccountBalanceReader;
+import com.banking.application.shared.interfaces.AccountBalanceReader.AccountBalanceView;
+import com.banking.application.shared.interfaces.CacheService;
+import com.banking.application.shared.interfaces.TransactionManager;
+import com.banking.application.shared.interfaces.TransactionManager.ReadResult;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Handler para consulta de saldo de várias contas.
+ * Resolve o lote com um multi-get no cache, carrega as ausentes com uma única consulta
+ * de projeção (WHERE id IN (...)) e grava os saldos carregados no cache em um único pipeline.
+ */
+@Service
+public class GetAccountBalancesHandler implements QueryHandler<GetAccountBalancesQuery, List<AccountBalanceResponse>> {
+
+    private final AccountBalanceReader balanceReader;
+    private final CacheService cacheService;
+    private final TransactionManager transactionManager;
+
+    public GetAccountBalancesHandler(AccountBalanceReader balanceReader, CacheService cacheService,
+                                     TransactionManager transactionManager) {
+        this.balanceReader = balanceReader;
+        this.cacheService = cacheService;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public List<AccountBalanceResponse> handle(GetAccountBalancesQuery query) throws Exception {
+        List<AccountBalanceResponse> balances = new ArrayList<>(query.accountIds().size());
+        stream(query, balances::add);
+        return balances;
+    }
+
+    /**
+     * Entrega cada saldo ao consumidor assim que é resolvido: primeiro os encontrados no cache,
+     * depois os carregados do banco. Retorna os IDs de contas inexistentes ou inativas.
+     */
+    public List<String> stream(GetAccountBalancesQuery query, Consumer<AccountBalanceResponse> sink) throws Exception {
+        validate(query);
+
+        // Mesma chave da consulta individual, para que a invalidação por evento valha para os dois caminhos
+        Map<String, String> cacheKeys = new LinkedHashMap<>();
+        for (String accountId : new LinkedHashSet<>(query.accountIds())) {
+            cacheKeys.put(GetAccountBalanceQuery.of(accountId).getCacheKey(), accountId);
+        }
+
+        Map<String, AccountBalanceResponse> cached = cacheService.getAll(cacheKeys.keySet(), AccountBalanceResponse.class);
+        Set<String> misses = new LinkedHashSet<>();
+        cacheKeys.forEach((key, accountId) -> {
+            AccountBalanceResponse hit = cached.get(key);
+            if (hit != null) {
+                sink.accept(hit);
+            } else {
+                misses.add(accountId);
+            }
+        });
+        if (misses.isEmpty()) {
+            return List.of();
+        }
+
+        // Transação somente leitura: atendida por réplica quando configurada
+        ReadResult<List<AccountBalanceView>> read =
+            transactionManager.executeInTrackedReadOnlyTransaction(() -> balanceReader.findBalances(misses));
+        List<AccountBalanceView> loaded = read.value();
+
+        Map<String, AccountBalanceResponse> backfill = new HashMap<>();
+        for (AccountBalanceView view : loaded) {
+            if (!view.active()) {
+                continue;
+            }
+            AccountBalanceResponse response = AccountBalanceResponse.from(view);
+            sink.accept(response);
+            backfill.put(GetAccountBalanceQuery.of(view.accountId()).getCacheKey(), response);
+            misses.remove(view.accountId());
+        }
+        // Saldos lidos de réplica podem anteceder a última transferência e não alimentam o cache
+        if (!read.fromReplica()) {
+            cacheService.putAll(backfill, Duration.ofSeconds(GetAccountBalanceQuery.CACHE_TTL_SECONDS));
+        }
+
+        return new ArrayList<>(misses);
+    }
+
+    @Override
+    public void validate(GetAccountBalancesQuery query) {
+        QueryHandler.super.validate(query);
+
+        if (query.accountIds() == null || query.accountIds().isEmpty()) {
+            throw new ValidationException("Account IDs cannot be null or empty");
+        }
+        if (query.accountIds().size() > GetAccountBalancesQuery.MAX_ACCOUNTS) {
+            throw new ValidationException("At most " + GetAccountBalancesQuery.MAX_ACCOUNTS + " account IDs per request");
+        }
+
+        // Validar formato UUID
+        for (String accountId : query.accountIds()) {
+            try {
+                UUID.fromString(accountId);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new ValidationException("Account ID must be a valid UUID: " + accountId);
+            }
+        }
+    }
+
+    @Override
+    public Class<GetAccountBalancesQuery> getQueryType() {
+        return GetAccountBalancesQuery.class;
+    }
+}
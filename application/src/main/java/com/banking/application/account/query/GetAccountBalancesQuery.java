@@ -0,0 +1,35 @@
+package com.banking.application.account.query;
+
+import com.banking.application.account.dto.AccountBalanceResponse;
+import com.banking.application.shared.base.Query;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Query para consultar o saldo de várias contas de uma vez.
+ * Não é cacheada como um todo: cada saldo usa a mesma entrada de cache da consulta individual.
+ */
+public record GetAccountBalancesQuery(
+    @NotEmpty(message = "Account IDs are required")
+    @Size(max = GetAccountBalancesQuery.MAX_ACCOUNTS, message = "Too many account IDs")
+    List<String> accountIds
+) implements Query<List<AccountBalanceResponse>> {
+
+    public static final int MAX_ACCOUNTS = 500;
+
+    public static GetAccountBalancesQuery of(List<String> accountIds) {
+        return new GetAccountBalancesQuery(accountIds);
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GetAccountBalancesQuery{accounts=%d}", accountIds != null ? accountIds.size() : 0);
+    }
+}
@@ -4,6 +4,8 @@ import com.banking.application.account.dto.AccountResponse;
 import com.banking.application.shared.base.QueryHandler;
 import com.banking.application.shared.exception.ValidationException;
 import com.banking.application.shared.interfaces.CacheService;
+import com.banking.application.shared.interfaces.TransactionManager;
+import com.banking.application.shared.interfaces.TransactionManager.ReadResult;
 import com.banking.domain.account.entity.Account;
 import com.banking.domain.account.repository.AccountRepository;
 import com.banking.domain.account.valueobject.AccountId;
@@ -14,16 +16,20 @@ import java.util.Optional;
 
 /**
  * Handler para processar consulta de conta por ID.
+ * Contas lidas de réplica não vão para o cache, pois podem estar atrasadas.
  */
 @Service
 public class GetAccountHandler implements QueryHandler<GetAccountQuery, AccountResponse> {
 
     private final AccountRepository accountRepository;
     private final CacheService cacheService;
+    private final TransactionManager transactionManager;
 
-    public GetAccountHandler(AccountRepository accountRepository, CacheService cacheService) {
+    public GetAccountHandler(AccountRepository accountRepository, CacheService cacheService,
+                             TransactionManager transactionManager) {
         this.accountRepository = accountRepository;
         this.cacheService = cacheService;
+        this.transactionManager = transactionManager;
     }
 
     @Override
@@ -38,16 +44,18 @@ public class GetAccountHandler implements QueryHandler<GetAccountQuery, AccountR
             return cachedResult.get();
         }
 
-        // Buscar no repositório
+        // Buscar no repositório (transação somente leitura: atendida por réplica quando configurada)
         AccountId accountId = AccountId.of(query.accountId());
-        Account account = accountRepository.findById(accountId)
+        ReadResult<Optional<Account>> read =
+            transactionManager.executeInTrackedReadOnlyTransaction(() -> accountRepository.findById(accountId));
+        Account account = read.value()
             .orElseThrow(() -> new ValidationException("Account not found with ID: " + query.accountId()));
 
         // Converter para DTO
         AccountResponse response = AccountResponse.from(account);
 
         // Armazenar no cache
-        if (shouldCache(query)) {
+        if (shouldCache(query) && !read.fromReplica()) {
             Duration ttl = Duration.ofSeconds(query.getCacheTtlSeconds());
             cacheService.put(cacheKey, response, ttl);
         }
@@ -0,0 +1,57 @@
+package com.banking.application.account.query;
+
+import com.banking.application.account.dto.AccountSearchResponse;
+import com.banking.application.shared.base.QueryHandler;
+import com.banking.application.shared.exception.ValidationException;
+import com.banking.application.shared.interfaces.AccountSearch;
+import com.banking.application.shared.interfaces.TransactionManager;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Handler para busca de contas por nome do titular.
+ */
+@Service
+public class SearchAccountsHandler implements QueryHandler<SearchAccountsQuery, List<AccountSearchResponse>> {
+
+    private final AccountSearch accountSearch;
+    private final TransactionManager transactionManager;
+
+    public SearchAccountsHandler(AccountSearch accountSearch, TransactionManager transactionManager) {
+        this.accountSearch = accountSearch;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public List<AccountSearchResponse> handle(SearchAccountsQuery query) throws Exception {
+        validate(query);
+
+        // Transação somente leitura: atendida por réplica quando configurada
+        return transactionManager.executeInReadOnlyTransaction(() ->
+                accountSearch.searchByHolderName(query.name().trim(), query.offset(), query.size()))
+            .stream()
+            .map(AccountSearchResponse::from)
+            .toList();
+    }
+
+    @Override
+    public void validate(SearchAccountsQuery query) {
+        QueryHandler.super.validate(query);
+
+        if (query.name() == null || query.name().trim().length() < SearchAccountsQuery.MIN_TERM_LENGTH) {
+            throw new ValidationException("Search term must have at least " + SearchAccountsQuery.MIN_TERM_LENGTH + " characters");
+        }
+        if (query.page() < 0) {
+            throw new ValidationException("Page must not be negative");
+        }
+        if (query.size() < 1 || query.size() > SearchAccountsQuery.MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + SearchAccountsQuery.MAX_PAGE_SIZE);
+        }
+    }
+
+    @Override
+    public Class<SearchAccountsQuery> getQueryType() {
+        return SearchAccountsQuery.class;
+    }
+}
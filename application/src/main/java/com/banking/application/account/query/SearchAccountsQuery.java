@@ -0,0 +1,46 @@
+package com.banking.application.account.query;
+
+import com.banking.application.account.dto.AccountSearchResponse;
+import com.banking.application.shared.base.Query;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Query para buscar contas pelo nome do titular, paginada e ordenada por similaridade.
+ */
+public record SearchAccountsQuery(
+    @NotBlank(message = "Search term is required")
+    @Size(min = SearchAccountsQuery.MIN_TERM_LENGTH, max = 100, message = "Search term must have between 3 and 100 characters")
+    String name,
+    @Min(value = 0, message = "Page must not be negative")
+    int page,
+    @Min(value = 1, message = "Page size must be positive")
+    @Max(value = SearchAccountsQuery.MAX_PAGE_SIZE, message = "Page size too large")
+    int size
+) implements Query<List<AccountSearchResponse>> {
+
+    public static final int MIN_TERM_LENGTH = 3;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static SearchAccountsQuery of(String name, int page, int size) {
+        return new SearchAccountsQuery(name, page, size);
+    }
+
+    public int offset() {
+        return page * size;
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return false; // Resultado muda a cada conta criada
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SearchAccountsQuery{name='%s', page=%d, size=%d}", name, page, size);
+    }
+}
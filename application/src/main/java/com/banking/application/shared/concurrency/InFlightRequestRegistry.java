@@ -0,0 +1,133 @@
+package com.banking.application.shared.concurrency;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Registro em memória de requisições em andamento, indexado por chave.
+ * Requisições duplicadas que chegam enquanto a original ainda executa
+ * aguardam o mesmo CompletableFuture em vez de repetir o trabalho.
+ *
+ * As chaves são distribuídas em stripes independentes, cada uma com limite
+ * próprio de entradas, para que a contabilização de capacidade não dependa
+ * de um contador global disputado. Quando uma stripe está cheia a requisição
+ * é executada normalmente, sem coalescência.
+ */
+public class InFlightRequestRegistry<V> {
+
+    private final ConcurrentHashMap<String, CompletableFuture<V>>[] stripes;
+    private final AtomicIntegerArray stripeSizes;
+    private final int stripeMask;
+    private final int maxEntriesPerStripe;
+    private final long awaitTimeoutMillis;
+
+    @SuppressWarnings("unchecked")
+    public InFlightRequestRegistry(int stripeCount, int maxEntriesPerStripe, long awaitTimeoutMillis) {
+        if (stripeCount <= 0 || maxEntriesPerStripe <= 0) {
+            throw new IllegalArgumentException("Stripe count and capacity must be positive");
+        }
+        int normalizedStripes = Integer.highestOneBit(stripeCount - 1) << 1;
+        if (normalizedStripes <= 0) {
+            normalizedStripes = 1;
+        }
+        this.stripes = new ConcurrentHashMap[normalizedStripes];
+        for (int i = 0; i < normalizedStripes; i++) {
+            this.stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.stripeSizes = new AtomicIntegerArray(normalizedStripes);
+        this.stripeMask = normalizedStripes - 1;
+        this.maxEntriesPerStripe = maxEntriesPerStripe;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+    }
+
+    /**
+     * Executa o trabalho associado à chave, ou aguarda o resultado da execução
+     * já em andamento para a mesma chave.
+     */
+    public V execute(String key, Callable<V> work) throws Exception {
+        if (key == null) {
+            return work.call();
+        }
+
+        int stripe = stripeIndex(key);
+        if (!tryAcquireSlot(stripe)) {
+            return work.call();
+        }
+
+        CompletableFuture<V> ownFuture = new CompletableFuture<>();
+        CompletableFuture<V> existing = stripes[stripe].putIfAbsent(key, ownFuture);
+        if (existing != null) {
+            releaseSlot(stripe);
+            return awaitExisting(existing, work);
+        }
+
+        try {
+            V result = work.call();
+            ownFuture.complete(result);
+            return result;
+        } catch (Exception | Error e) {
+            ownFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            stripes[stripe].remove(key, ownFuture);
+            releaseSlot(stripe);
+        }
+    }
+
+    /**
+     * Retorna o número de requisições atualmente registradas
+     */
+    public int size() {
+        int total = 0;
+        for (int i = 0; i < stripeSizes.length(); i++) {
+            total += stripeSizes.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Aguarda a execução original; se o tempo limite expirar, executa o trabalho diretamente
+     */
+    private V awaitExisting(CompletableFuture<V> existing, Callable<V> work) throws Exception {
+        try {
+            return existing.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } catch (TimeoutException e) {
+            return work.call();
+        }
+    }
+
+    private boolean tryAcquireSlot(int stripe) {
+        while (true) {
+            int current = stripeSizes.get(stripe);
+            if (current >= maxEntriesPerStripe) {
+                return false;
+            }
+            if (stripeSizes.compareAndSet(stripe, current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void releaseSlot(int stripe) {
+        stripeSizes.decrementAndGet(stripe);
+    }
+
+    private int stripeIndex(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & stripeMask;
+    }
+}
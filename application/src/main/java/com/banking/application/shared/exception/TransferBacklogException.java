@@ -0,0 +1,19 @@
+package com.banking.application.shared.exception;
+
+/**
+ * Exceção lançada quando a partição de transferências está cheia e não aceita novos comandos.
+ * É uma sobrecarga temporária: a mesma transferência pode ser reenviada depois de retryAfterSeconds.
+ */
+public class TransferBacklogException extends ApplicationException {
+
+    private final long retryAfterSeconds;
+
+    public TransferBacklogException(String message, long retryAfterSeconds) {
+        super(message, "TRANSFER_BACKLOG_FULL");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.banking.application.shared.exception;
+
+/**
+ * Exceção lançada quando a espera pelo resultado de uma transferência expira.
+ * A transferência continua na fila e ainda pode ser concluída; uma nova tentativa com a
+ * mesma chave de idempotência obtém o resultado.
+ */
+public class TransferPendingException extends ApplicationException {
+
+    private final long retryAfterSeconds;
+
+    public TransferPendingException(String message, long retryAfterSeconds) {
+        super(message, "TRANSFER_PENDING");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,37 @@
+package com.banking.application.shared.interfaces;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface para leitura de saldos sem reconstruir o agregado Account.
+ * Retorna apenas as colunas necessárias à consulta de saldo, dispensando a validação
+ * dos value objects (CPF, número da conta, nome) que a reconstrução do agregado exige.
+ */
+public interface AccountBalanceReader {
+
+    /**
+     * Recupera a projeção de saldo da conta
+     */
+    Optional<AccountBalanceView> findBalance(String accountId);
+
+    /**
+     * Recupera as projeções de saldo de várias contas em uma única consulta.
+     * Contas inexistentes são omitidas; a ordem do resultado não é garantida.
+     */
+    List<AccountBalanceView> findBalances(Collection<String> accountIds);
+
+    /**
+     * Projeção de saldo de uma conta
+     */
+    record AccountBalanceView(
+        String accountId,
+        String accountNumber,
+        BigDecimal balance,
+        boolean active,
+        long version
+    ) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.banking.application.shared.interfaces;
+
+/**
+ * Interface para rastreamento de contenção por conta.
+ * Conta a frequência de transferências, os conflitos de versão e o tempo de espera
+ * por locks de cada conta, com memória fixa independente do número de contas.
+ */
+public interface AccountContentionTracker {
+
+    /**
+     * Registra uma transferência entre as duas contas
+     */
+    void recordTransfer(String fromAccountId, String toAccountId);
+
+    /**
+     * Registra um conflito de versão (lock otimista) na conta
+     */
+    void recordConflict(String accountId);
+
+    /**
+     * Registra o tempo de espera para gravar a conta
+     */
+    void recordLockWait(String accountId, long waitNanos);
+}
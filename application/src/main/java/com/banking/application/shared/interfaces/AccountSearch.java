@@ -0,0 +1,27 @@
+package com.banking.application.shared.interfaces;
+
+import java.util.List;
+
+/**
+ * Interface para busca de contas por nome do titular.
+ * A implementação deve usar um índice (não varredura da tabela) e ordenar por relevância.
+ */
+public interface AccountSearch {
+
+    /**
+     * Busca contas cujo nome do titular contém ou se aproxima do termo, ordenadas por similaridade
+     */
+    List<AccountMatch> searchByHolderName(String name, int offset, int limit);
+
+    /**
+     * Conta encontrada na busca, com a pontuação de similaridade (0 a 1)
+     */
+    record AccountMatch(
+        String accountId,
+        String accountNumber,
+        String holderName,
+        boolean active,
+        double score
+    ) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.banking.application.shared.interfaces;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,6 +26,17 @@ public interface CacheService {
      */
     <T> Optional<T> get(String key, Class<T> type);
 
+    /**
+     * Recupera vários valores do cache em uma única operação.
+     * O mapa retornado contém apenas as chaves encontradas com valor do tipo esperado.
+     */
+    <T> Map<String, T> getAll(Collection<String> keys, Class<T> type);
+
+    /**
+     * Armazena vários valores com o mesmo TTL em uma única operação
+     */
+    void putAll(Map<String, ?> values, Duration ttl);
+
     /**
      * Verifica se uma chave existe no cache
      */
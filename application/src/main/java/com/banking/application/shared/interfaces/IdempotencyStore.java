@@ -0,0 +1,21 @@
+package com.banking.application.shared.interfaces;
+
+import java.util.Optional;
+
+/**
+ * Interface para o armazenamento de chaves de idempotência na camada de aplicação.
+ * Associa cada chave ao identificador da operação que ela originou.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Recupera o identificador da operação associada à chave, se ainda estiver na janela de retenção
+     */
+    Optional<String> findOperationId(String idempotencyKey);
+
+    /**
+     * Registra a chave para a operação na transação corrente.
+     * Retorna false se a chave já estava registrada para outra operação.
+     */
+    boolean register(String idempotencyKey, String operationId);
+}
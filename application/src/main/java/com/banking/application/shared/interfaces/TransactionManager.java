@@ -21,6 +21,18 @@ public interface TransactionManager {
      */
     <T> T executeInReadOnlyTransaction(TransactionalOperation<T> operation) throws Exception;
 
+    /**
+     * Executa uma operação em transação apenas para leitura e informa se ela foi atendida por réplica.
+     * Leituras de réplica podem estar atrasadas e não devem alimentar caches.
+     */
+    <T> ReadResult<T> executeInTrackedReadOnlyTransaction(TransactionalOperation<T> operation) throws Exception;
+
+    /**
+     * Executa uma operação em transação no pool de conexões da carga de trabalho informada.
+     * Se já houver transação em andamento, a operação participa dela e usa a mesma conexão.
+     */
+    <T> T executeInTransaction(Workload workload, TransactionalOperation<T> operation) throws Exception;
+
     /**
      * Inicia uma nova transação
      */
@@ -31,6 +43,24 @@ public interface TransactionManager {
      */
     TransactionContext getCurrentTransaction();
 
+    /**
+     * Cargas de trabalho com pools de conexão isolados
+     */
+    enum Workload {
+        /** Transferências e demais escritas do caminho crítico */
+        TRANSFER,
+        /** Consultas online (conta, saldo, extrato); executadas em transação somente leitura */
+        QUERY,
+        /** Lotes e relatórios */
+        BATCH
+    }
+
+    /**
+     * Resultado de uma leitura com a origem dos dados
+     */
+    record ReadResult<T>(T value, boolean fromReplica) {
+    }
+
     /**
      * Interface funcional para operações transacionais
      */
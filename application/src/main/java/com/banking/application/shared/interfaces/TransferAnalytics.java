@@ -0,0 +1,60 @@
+package com.banking.application.shared.interfaces;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interface para consulta dos agregados de transferências por intervalo de tempo.
+ * Os agregados são mantidos a partir dos eventos de transferência, sem varrer a tabela de transferências.
+ */
+public interface TransferAnalytics {
+
+    /**
+     * Granularidade dos buckets
+     */
+    enum Granularity {
+        MINUTE(ChronoUnit.MINUTES),
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public ChronoUnit unit() {
+            return unit;
+        }
+
+        /**
+         * Início do bucket que contém o instante
+         */
+        public LocalDateTime bucketOf(LocalDateTime instant) {
+            return instant.truncatedTo(unit);
+        }
+    }
+
+    /**
+     * Buckets com movimento em [from, to), em ordem cronológica
+     */
+    List<TransferRollup> rollups(Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Agregado de um bucket: transferências completadas (quantidade, volume, menor e maior valor)
+     * e falhadas (quantidade e contagem por motivo)
+     */
+    record TransferRollup(
+        LocalDateTime bucket,
+        long completedCount,
+        BigDecimal completedAmount,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        long failedCount,
+        Map<String, Long> failureReasons
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.banking.application.shared.interfaces;
+
+import com.banking.application.transfer.command.ProcessTransferCommand;
+import com.banking.application.transfer.dto.ProcessTransferRequest;
+import com.banking.domain.transfer.valueobject.TransferStatus;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Interface para a fila durável de transferências submetidas para processamento assíncrono.
+ * Os comandos enfileirados são executados por workers fora da thread da requisição.
+ */
+public interface TransferJobQueue {
+
+    /**
+     * Grava o comando de forma durável e retorna o ID da transferência.
+     * Uma submissão repetida com a mesma chave de idempotência retorna o ID já enfileirado.
+     */
+    String enqueue(ProcessTransferCommand command, String callbackUrl);
+
+    /**
+     * Recupera a situação de uma transferência enfileirada
+     */
+    Optional<QueuedTransfer> find(String transferId);
+
+    /**
+     * Situação de uma transferência enfileirada; resultTransferId identifica a transferência
+     * efetivamente gravada quando ela já foi processada
+     */
+    record QueuedTransfer(
+        String transferId,
+        ProcessTransferRequest request,
+        TransferStatus status,
+        String resultTransferId,
+        String failureReason,
+        LocalDateTime submittedAt,
+        LocalDateTime updatedAt
+    ) {
+    }
+}
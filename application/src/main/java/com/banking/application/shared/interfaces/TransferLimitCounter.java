@@ -0,0 +1,28 @@
+package com.banking.application.shared.interfaces;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Interface para contadores de limite de transferência em janela móvel.
+ * Reserva e libera valores por conta de forma atômica.
+ */
+public interface TransferLimitCounter {
+
+    /**
+     * Reserva o valor contra o limite da janela.
+     * Retorna vazio se a reserva ultrapassar o limite.
+     */
+    Optional<Reservation> tryReserve(String accountId, BigDecimal amount, BigDecimal limit);
+
+    /**
+     * Desfaz uma reserva feita anteriormente
+     */
+    void release(Reservation reservation);
+
+    /**
+     * Reserva efetuada em um bucket da janela
+     */
+    record Reservation(String accountId, long bucket, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.banking.application.shared.interfaces;
+
+import com.banking.application.transfer.command.TransferStageTrace;
+
+/**
+ * Interface para coleta dos tempos por etapa das transferências.
+ * A implementação decide a amostragem e agrega os tempos das transferências medidas.
+ */
+public interface TransferStageRecorder {
+
+    /**
+     * Inicia a medição de uma transferência; retorna TransferStageTrace.NOOP quando ela não é amostrada
+     */
+    TransferStageTrace start();
+
+    /**
+     * Registra os tempos de uma transferência medida
+     */
+    void record(TransferStageTrace trace);
+}
@@ -0,0 +1,103 @@
+package com.banking.application.transfer.command;
+
+import com.banking.application.shared.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Regras para URLs de callback de transferências assíncronas.
+ * Aceita apenas http(s) absolutas; com lista de hosts configurada, só esses hosts são aceitos.
+ * Hosts que resolvem para endereços de loopback, link-local (inclusive metadados de nuvem),
+ * redes privadas ou multicast são recusados, salvo se explicitamente permitido.
+ */
+@Component
+public class CallbackUrlPolicy {
+
+    private final Set<String> allowedHosts;
+    private final boolean allowPrivateAddresses;
+
+    public CallbackUrlPolicy(@Value("${banking.transfer.async.callback.allowed-hosts:}") String allowedHosts,
+                             @Value("${banking.transfer.async.callback.allow-private-addresses:false}") boolean allowPrivateAddresses) {
+        this.allowedHosts = Arrays.stream(allowedHosts.split(","))
+            .map(host -> host.trim().toLowerCase(Locale.ROOT))
+            .filter(host -> !host.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+        this.allowPrivateAddresses = allowPrivateAddresses;
+    }
+
+    /**
+     * Valida a URL de callback informada na submissão
+     */
+    public void validate(String callbackUrl) {
+        URI uri;
+        try {
+            uri = URI.create(callbackUrl);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Callback URL must be an absolute http(s) URL");
+        }
+        String scheme = uri.getScheme();
+        if (!uri.isAbsolute() || uri.getHost() == null
+            || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+            throw new ValidationException("Callback URL must be an absolute http(s) URL");
+        }
+        if (!isAllowed(uri)) {
+            throw new ValidationException("Callback URL host is not allowed");
+        }
+    }
+
+    /**
+     * Verifica o host da URL e os endereços para os quais ele resolve agora. No envio, a conexão
+     * deve usar endereços aprovados por isAllowedAddress, pois o DNS pode mudar entre a verificação e a conexão
+     */
+    public boolean isAllowed(URI uri) {
+        String host = uri.getHost();
+        if (host == null || !isAllowedHost(host)) {
+            return false;
+        }
+        try {
+            for (InetAddress address : InetAddress.getAllByName(host)) {
+                if (!isAllowedAddress(address)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Verifica o host contra a lista de hosts permitidos, se configurada
+     */
+    public boolean isAllowedHost(String host) {
+        return allowedHosts.isEmpty() || allowedHosts.contains(host.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Verifica um endereço já resolvido
+     */
+    public boolean isAllowedAddress(InetAddress address) {
+        return allowPrivateAddresses || isPublic(address);
+    }
+
+    private static boolean isPublic(InetAddress address) {
+        if (address.isLoopbackAddress() || address.isAnyLocalAddress() || address.isLinkLocalAddress()
+            || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        // IPv6 unique local (fc00::/7) e IPv4 compartilhado de CGNAT (100.64.0.0/10)
+        if (bytes.length == 16) {
+            return (bytes[0] & 0xFE) != 0xFC;
+        }
+        return !((bytes[0] & 0xFF) == 100 && (bytes[1] & 0xC0) == 64);
+    }
+}
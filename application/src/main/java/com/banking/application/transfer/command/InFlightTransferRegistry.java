@@ -0,0 +1,21 @@
+package com.banking.application.transfer.command;
+
+import com.banking.application.shared.concurrency.InFlightRequestRegistry;
+import com.banking.application.transfer.dto.TransferResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registro de transferências em andamento indexado por chave de idempotência.
+ * Retentativas do cliente recebem o mesmo TransferResponse da requisição original.
+ */
+@Component
+public class InFlightTransferRegistry extends InFlightRequestRegistry<TransferResponse> {
+
+    public InFlightTransferRegistry(
+            @Value("${banking.transfer.coalescing.stripes:16}") int stripes,
+            @Value("${banking.transfer.coalescing.max-in-flight-per-stripe:256}") int maxInFlightPerStripe,
+            @Value("${banking.transfer.coalescing.await-timeout-ms:5000}") long awaitTimeoutMillis) {
+        super(stripes, maxInFlightPerStripe, awaitTimeoutMillis);
+    }
+}
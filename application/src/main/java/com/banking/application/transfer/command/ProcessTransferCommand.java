@@ -11,14 +11,23 @@ import jakarta.validation.constraints.NotNull;
 public record ProcessTransferCommand(
     @NotNull(message = "Request cannot be null")
     @Valid
-    ProcessTransferRequest request
+    ProcessTransferRequest request,
+
+    String transferId
 ) implements Command {
 
     /**
      * Factory method para criar command a partir de request
      */
     public static ProcessTransferCommand from(ProcessTransferRequest request) {
-        return new ProcessTransferCommand(request);
+        return new ProcessTransferCommand(request, null);
+    }
+
+    /**
+     * Factory method para criar command com o ID da transferência já atribuído
+     */
+    public static ProcessTransferCommand from(ProcessTransferRequest request, String transferId) {
+        return new ProcessTransferCommand(request, transferId);
     }
 
     /**
@@ -49,6 +58,13 @@ public record ProcessTransferCommand(
         return request.description();
     }
 
+    /**
+     * Retorna o ID atribuído previamente à transferência, se houver
+     */
+    public String getTransferId() {
+        return transferId;
+    }
+
     /**
      * Retorna a chave de idempotência
      */
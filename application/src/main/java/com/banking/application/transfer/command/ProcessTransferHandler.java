@@ -2,8 +2,12 @@ package com.banking.application.transfer.command;
 
 import com.banking.application.shared.base.CommandHandler;
 import com.banking.application.shared.exception.ValidationException;
+import com.banking.application.shared.interfaces.AccountContentionTracker;
 import com.banking.application.shared.interfaces.EventBus;
+import com.banking.application.shared.interfaces.IdempotencyStore;
 import com.banking.application.shared.interfaces.TransactionManager;
+import com.banking.application.shared.interfaces.TransferLimitCounter;
+import com.banking.application.shared.interfaces.TransferStageRecorder;
 import com.banking.application.transfer.dto.TransferResponse;
 import com.banking.domain.account.entity.Account;
 import com.banking.domain.account.repository.AccountRepository;
@@ -13,8 +17,16 @@ import com.banking.domain.transfer.entity.Transfer;
 import com.banking.domain.transfer.repository.TransferRepository;
 import com.banking.domain.transfer.valueobject.Amount;
 import com.banking.domain.transfer.valueobject.IdempotencyKey;
+import com.banking.domain.transfer.valueobject.TransferId;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Handler para processar transferências bancárias.
  * Implementa o padrão Saga para garantir consistência transacional.
@@ -22,33 +34,98 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProcessTransferHandler implements CommandHandler<ProcessTransferCommand, TransferResponse> {
 
+    private static final Log log = LogFactory.getLog(ProcessTransferHandler.class);
+
     private final AccountRepository accountRepository;
     private final TransferRepository transferRepository;
     private final EventBus eventBus;
     private final TransactionManager transactionManager;
+    private final InFlightTransferRegistry inFlightTransfers;
+    private final IdempotencyStore idempotencyStore;
+    private final TransferLimitCounter transferLimitCounter;
+    private final TransferStageRecorder stageRecorder;
+    private final AccountContentionTracker contentionTracker;
+    private final BigDecimal maxAmount;
+    private final BigDecimal dailyLimit;
 
     public ProcessTransferHandler(AccountRepository accountRepository,
                                  TransferRepository transferRepository,
                                  EventBus eventBus,
-                                 TransactionManager transactionManager) {
+                                 TransactionManager transactionManager,
+                                 InFlightTransferRegistry inFlightTransfers,
+                                 IdempotencyStore idempotencyStore,
+                                 TransferLimitCounter transferLimitCounter,
+                                 TransferStageRecorder stageRecorder,
+                                 AccountContentionTracker contentionTracker,
+                                 @Value("${banking.business.transfer.max-amount:100000.00}") BigDecimal maxAmount,
+                                 @Value("${banking.business.transfer.daily-limit:500000.00}") BigDecimal dailyLimit) {
         this.accountRepository = accountRepository;
         this.transferRepository = transferRepository;
         this.eventBus = eventBus;
         this.transactionManager = transactionManager;
+        this.inFlightTransfers = inFlightTransfers;
+        this.idempotencyStore = idempotencyStore;
+        this.transferLimitCounter = transferLimitCounter;
+        this.stageRecorder = stageRecorder;
+        this.contentionTracker = contentionTracker;
+        this.maxAmount = maxAmount;
+        this.dailyLimit = dailyLimit;
     }
 
     @Override
     public TransferResponse handle(ProcessTransferCommand command) throws Exception {
-        validate(command);
+        TransferStageTrace trace = stageRecorder.start();
+        TransferResponse response = null;
+        try {
+            validate(command);
+            trace.mark(TransferStage.VALIDATION);
+
+            // Duplicatas em andamento aguardam o resultado da requisição original
+            response = inFlightTransfers.execute(command.getIdempotencyKey(), () -> processTransfer(command, trace));
+            return response;
+        } finally {
+            if (trace.isActive()) {
+                trace.finish(response != null ? response.id() : null, response != null);
+                stageRecorder.record(trace);
+            }
+        }
+    }
+
+    private TransferResponse processTransfer(ProcessTransferCommand command, TransferStageTrace trace) throws Exception {
+        AtomicReference<TransferLimitCounter.Reservation> limitReservation = new AtomicReference<>();
+        try {
+            // Descarta a eventual espera por uma requisição duplicata em andamento
+            trace.skip();
+            TransferResponse response = executeTransfer(command, limitReservation, trace);
+            trace.mark(TransferStage.COMMIT);
+            return response;
+        } catch (Exception e) {
+            // Devolver ao limite diário o valor reservado por uma transferência que não foi concluída
+            TransferLimitCounter.Reservation reservation = limitReservation.get();
+            if (reservation != null) {
+                // Uma falha na devolução não pode esconder a falha original da transferência
+                try {
+                    transferLimitCounter.release(reservation);
+                } catch (Exception releaseFailure) {
+                    log.warn("Falha ao devolver o valor reservado no limite diário: " + releaseFailure.getMessage());
+                    e.addSuppressed(releaseFailure);
+                }
+            }
+            throw e;
+        }
+    }
 
+    private TransferResponse executeTransfer(ProcessTransferCommand command,
+                                             AtomicReference<TransferLimitCounter.Reservation> limitReservation,
+                                             TransferStageTrace trace) throws Exception {
         return transactionManager.executeInTransaction(() -> {
             // Verificar idempotência
             IdempotencyKey idempotencyKey = IdempotencyKey.of(command.getIdempotencyKey());
-            if (transferRepository.existsByIdempotencyKey(idempotencyKey)) {
+            Optional<TransferResponse> existingTransfer = findExistingTransfer(idempotencyKey);
+            trace.mark(TransferStage.IDEMPOTENCY_LOOKUP);
+            if (existingTransfer.isPresent()) {
                 // Retornar transferência existente
-                Transfer existingTransfer = transferRepository.findByIdempotencyKey(idempotencyKey)
-                    .orElseThrow(() -> new ValidationException("Idempotency key conflict"));
-                return TransferResponse.from(existingTransfer);
+                return existingTransfer.get();
             }
 
             // Criar value objects
@@ -61,12 +138,15 @@ public class ProcessTransferHandler implements CommandHandler<ProcessTransferCom
                 .orElseThrow(() -> new ValidationException("From account not found"));
             Account toAccount = accountRepository.findById(toAccountId)
                 .orElseThrow(() -> new ValidationException("To account not found"));
+            trace.mark(TransferStage.ACCOUNT_LOAD);
+            contentionTracker.recordTransfer(fromAccountId.getValue(), toAccountId.getValue());
 
             // Validar contas
             validateAccounts(fromAccount, toAccount);
 
             // Criar transferência
             Transfer transfer = Transfer.create(
+                command.getTransferId() != null ? TransferId.of(command.getTransferId()) : TransferId.generate(),
                 fromAccountId, 
                 toAccountId, 
                 amount, 
@@ -74,8 +154,22 @@ public class ProcessTransferHandler implements CommandHandler<ProcessTransferCom
                 command.getDescription()
             );
 
+            // Registrar chave de idempotência; outra requisição pode ter registrado a mesma chave
+            if (!idempotencyStore.register(idempotencyKey.getValue(), transfer.getId().getValue())) {
+                return findExistingTransfer(idempotencyKey)
+                    .orElseThrow(() -> new ValidationException("Idempotency key conflict"));
+            }
+            trace.mark(TransferStage.IDEMPOTENCY_REGISTER);
+
+            // Reservar o valor no limite diário da conta de origem
+            limitReservation.set(transferLimitCounter
+                .tryReserve(fromAccountId.getValue(), amount.getValue(), dailyLimit)
+                .orElseThrow(() -> new ValidationException("Daily transfer limit exceeded")));
+            trace.mark(TransferStage.LIMIT_RESERVATION);
+
             // Salvar transferência como PENDING
             Transfer savedTransfer = transferRepository.save(transfer);
+            trace.mark(TransferStage.TRANSFER_SAVE);
 
             try {
                 // Processar transferência
@@ -85,17 +179,21 @@ public class ProcessTransferHandler implements CommandHandler<ProcessTransferCom
                 Balance transferBalance = Balance.of(amount.getValue());
                 fromAccount.debit(transferBalance, "Transfer to " + toAccountId.getValue());
                 toAccount.credit(transferBalance, "Transfer from " + fromAccountId.getValue());
+                trace.mark(TransferStage.BALANCE_UPDATE);
 
                 // Salvar contas atualizadas
                 accountRepository.save(fromAccount);
                 accountRepository.save(toAccount);
+                trace.mark(TransferStage.ACCOUNT_SAVE);
 
                 // Marcar transferência como concluída
                 transfer.markAsCompleted();
                 savedTransfer = transferRepository.save(transfer);
+                trace.mark(TransferStage.TRANSFER_SAVE);
 
                 // Publicar eventos
                 publishDomainEvents(fromAccount, toAccount, transfer);
+                trace.mark(TransferStage.EVENT_PUBLICATION);
 
                 return TransferResponse.from(savedTransfer);
 
@@ -115,6 +213,12 @@ public class ProcessTransferHandler implements CommandHandler<ProcessTransferCom
         });
     }
 
+    private Optional<TransferResponse> findExistingTransfer(IdempotencyKey idempotencyKey) {
+        return idempotencyStore.findOperationId(idempotencyKey.getValue())
+            .flatMap(transferId -> transferRepository.findById(TransferId.of(transferId)))
+            .map(TransferResponse::from);
+    }
+
     private void validateAccounts(Account fromAccount, Account toAccount) {
         if (!fromAccount.isActive()) {
             throw new ValidationException("From account is not active");
@@ -160,6 +264,10 @@ public class ProcessTransferHandler implements CommandHandler<ProcessTransferCom
         if (command.getAmount().compareTo(java.math.BigDecimal.ZERO) <= 0) {
             throw new ValidationException("Transfer amount must be positive");
         }
+
+        if (command.getAmount().compareTo(maxAmount) > 0) {
+            throw new ValidationException("Transfer amount exceeds maximum allowed");
+        }
     }
 
     @Override
@@ -0,0 +1,40 @@
+package com.banking.application.transfer.command;
+
+import com.banking.application.shared.base.Command;
+import com.banking.application.transfer.dto.ProcessTransferRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Command para submeter uma transferência para processamento assíncrono.
+ */
+public record SubmitTransferCommand(
+    @NotNull(message = "Request cannot be null")
+    @Valid
+    ProcessTransferRequest request,
+
+    @Size(max = 2048, message = "Callback URL cannot exceed 2048 characters")
+    String callbackUrl
+) implements Command {
+
+    /**
+     * Factory method para criar command a partir de request
+     */
+    public static SubmitTransferCommand from(ProcessTransferRequest request, String callbackUrl) {
+        return new SubmitTransferCommand(request, callbackUrl);
+    }
+
+    /**
+     * Retorna a chave de idempotência
+     */
+    public String getIdempotencyKey() {
+        return request.idempotencyKey();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SubmitTransferCommand{from='%s', to='%s', amount=%s, key='%s'}",
+            request.fromAccountId(), request.toAccountId(), request.amount(), request.idempotencyKey());
+    }
+}
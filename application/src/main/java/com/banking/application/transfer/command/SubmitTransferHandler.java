@@ -0,0 +1,85 @@
+package com.banking.application.transfer.command;
+
+import com.banking.application.shared.base.CommandHandler;
+import com.banking.application.shared.exception.ValidationException;
+import com.banking.application.shared.interfaces.TransferJobQueue;
+import com.banking.application.transfer.dto.ProcessTransferRequest;
+import com.banking.application.transfer.dto.TransferResponse;
+import com.banking.domain.transfer.valueobject.TransferId;
+import com.banking.domain.transfer.valueobject.TransferStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Handler para submeter transferências para processamento assíncrono.
+ * Valida o comando, grava-o na fila durável e retorna imediatamente a transferência como pendente;
+ * o processamento é feito pelos workers com o mesmo ProcessTransferHandler do fluxo síncrono.
+ * Uma chave de idempotência reutilizada só é aceita com os mesmos dados da submissão original.
+ */
+@Service
+public class SubmitTransferHandler implements CommandHandler<SubmitTransferCommand, TransferResponse> {
+
+    private final ProcessTransferHandler processTransferHandler;
+    private final TransferJobQueue transferJobQueue;
+    private final CallbackUrlPolicy callbackUrlPolicy;
+
+    public SubmitTransferHandler(ProcessTransferHandler processTransferHandler, TransferJobQueue transferJobQueue,
+                                 CallbackUrlPolicy callbackUrlPolicy) {
+        this.processTransferHandler = processTransferHandler;
+        this.transferJobQueue = transferJobQueue;
+        this.callbackUrlPolicy = callbackUrlPolicy;
+    }
+
+    @Override
+    public TransferResponse handle(SubmitTransferCommand command) throws Exception {
+        validate(command);
+
+        LocalDateTime submittedAt = LocalDateTime.now();
+        ProcessTransferCommand processCommand = ProcessTransferCommand.from(command.request(), TransferId.generate().getValue());
+        String transferId = transferJobQueue.enqueue(processCommand, command.callbackUrl());
+        if (!transferId.equals(processCommand.getTransferId())) {
+            ensureSamePayload(transferId, command.request());
+        }
+
+        return TransferResponse.queued(transferId, command.request(), TransferStatus.PENDING, null, submittedAt, submittedAt);
+    }
+
+    @Override
+    public void validate(SubmitTransferCommand command) {
+        CommandHandler.super.validate(command);
+
+        if (command.request() == null) {
+            throw new ValidationException("Transfer request cannot be null");
+        }
+
+        // Mesmas regras do fluxo síncrono, para recusar na submissão o que falharia no worker
+        processTransferHandler.validate(ProcessTransferCommand.from(command.request()));
+
+        if (command.callbackUrl() != null && !command.callbackUrl().isBlank()) {
+            callbackUrlPolicy.validate(command.callbackUrl());
+        }
+    }
+
+    /**
+     * Submissão repetida: a chave só pode ser reutilizada para a mesma transferência
+     */
+    private void ensureSamePayload(String transferId, ProcessTransferRequest request) {
+        transferJobQueue.find(transferId).ifPresent(queued -> {
+            ProcessTransferRequest original = queued.request();
+            boolean same = Objects.equals(original.fromAccountId(), request.fromAccountId())
+                && Objects.equals(original.toAccountId(), request.toAccountId())
+                && original.amount().compareTo(request.amount()) == 0
+                && Objects.equals(original.description(), request.description());
+            if (!same) {
+                throw new ValidationException("Idempotency key already used for a different transfer request");
+            }
+        });
+    }
+
+    @Override
+    public Class<SubmitTransferCommand> getCommandType() {
+        return SubmitTransferCommand.class;
+    }
+}
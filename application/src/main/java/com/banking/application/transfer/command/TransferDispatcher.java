@@ -0,0 +1,249 @@
+package com.banking.application.transfer.command;
+
+import com.banking.application.shared.exception.TransferBacklogException;
+import com.banking.application.shared.exception.TransferPendingException;
+import com.banking.application.transfer.dto.TransferResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Despachante de transferências particionado por conta.
+ * Cada comando é encaminhado à partição da conta de origem, e cada partição executa
+ * suas transferências em uma única thread: transferências que tocam a mesma conta são
+ * serializadas na JVM em vez de disputarem as mesmas linhas de accounts no banco.
+ *
+ * A conta de destino pode pertencer a outra partição, cuja thread a movimenta ao mesmo tempo.
+ * Por isso, ao chegar à frente da fila, cada transferência toma os locks das duas contas
+ * (locks particionados por hash da conta), sempre em ordem crescente de stripe, o que evita
+ * espera circular. A outra partição só é afetada enquanto a transferência executa: nada é
+ * enfileirado nela, então uma partição cheia ou lenta não atrasa as demais.
+ *
+ * Partição cheia e espera esgotada são condições temporárias, sinalizadas com
+ * TransferBacklogException e TransferPendingException para que o chamador tente de novo.
+ */
+@Component
+public class TransferDispatcher implements DisposableBean {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final ProcessTransferHandler processTransferHandler;
+    private final boolean enabled;
+    private final long awaitTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final Partition[] partitions;
+    private final ReentrantLock[] accountLocks;
+    private final AtomicLong crossPartitionTransfers = new AtomicLong();
+
+    public TransferDispatcher(ProcessTransferHandler processTransferHandler,
+                              @Value("${banking.transfer.partitions.enabled:true}") boolean enabled,
+                              @Value("${banking.transfer.partitions.count:8}") int partitionCount,
+                              @Value("${banking.transfer.partitions.queue-capacity:1000}") int queueCapacity,
+                              @Value("${banking.transfer.partitions.await-timeout-ms:30000}") long awaitTimeoutMillis,
+                              @Value("${banking.transfer.partitions.retry-after-seconds:1}") long retryAfterSeconds,
+                              @Value("${banking.transfer.partitions.lock-stripes:256}") int lockStripes) {
+        if (partitionCount <= 0 || queueCapacity <= 0 || lockStripes <= 0) {
+            throw new IllegalArgumentException("Partition count, queue capacity and lock stripes must be positive");
+        }
+        this.processTransferHandler = processTransferHandler;
+        this.enabled = enabled;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.partitions = new Partition[enabled ? partitionCount : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(i, queueCapacity);
+        }
+        this.accountLocks = new ReentrantLock[enabled ? lockStripes : 0];
+        for (int i = 0; i < accountLocks.length; i++) {
+            accountLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Processa a transferência na partição da conta de origem e aguarda o resultado
+     */
+    public TransferResponse dispatch(ProcessTransferCommand command) throws Exception {
+        if (!enabled) {
+            return processTransferHandler.handle(command);
+        }
+        try {
+            return submit(command).get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } catch (TimeoutException e) {
+            // A transferência continua na fila; uma nova tentativa com a mesma chave de idempotência obtém o resultado
+            throw new TransferPendingException("Transfer is still being processed, retry with the same idempotency key",
+                retryAfterSeconds);
+        }
+    }
+
+    /**
+     * Enfileira a transferência e retorna o resultado futuro
+     */
+    public CompletableFuture<TransferResponse> submit(ProcessTransferCommand command) {
+        // Rejeita comandos inválidos antes de ocupar uma partição
+        processTransferHandler.validate(command);
+
+        CompletableFuture<TransferResponse> result = new CompletableFuture<>();
+        Runnable work = () -> {
+            try {
+                result.complete(processTransferHandler.handle(command));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        };
+        if (!enabled) {
+            work.run();
+            return result;
+        }
+
+        String fromAccountId = command.getFromAccountId();
+        String toAccountId = command.getToAccountId();
+        try {
+            partitions[partitionOf(fromAccountId)].enqueue(() -> runLocked(fromAccountId, toAccountId, work));
+        } catch (PartitionFullException e) {
+            throw new TransferBacklogException("Transfer partition backlog is full, retry later", retryAfterSeconds);
+        }
+        if (partitionOf(fromAccountId) != partitionOf(toAccountId)) {
+            crossPartitionTransfers.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * Número de partições ativas (0 quando o despachante está desligado)
+     */
+    public int partitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * Transferências aguardando execução na partição
+     */
+    public int backlog(int partition) {
+        return partitions[partition].queue.size();
+    }
+
+    /**
+     * Total de transferências entre contas de partições diferentes
+     */
+    public long crossPartitionCount() {
+        return crossPartitionTransfers.get();
+    }
+
+    @Override
+    public void destroy() {
+        for (Partition partition : partitions) {
+            partition.stop();
+        }
+    }
+
+    /**
+     * Executa a transferência com os locks das duas contas, tomados em ordem crescente de stripe
+     */
+    private void runLocked(String fromAccountId, String toAccountId, Runnable work) {
+        int a = stripeOf(fromAccountId);
+        int b = stripeOf(toAccountId);
+        ReentrantLock first = accountLocks[Math.min(a, b)];
+        ReentrantLock second = accountLocks[Math.max(a, b)];
+        first.lock();
+        try {
+            // Com as duas contas no mesmo stripe o lock é reentrante
+            second.lock();
+            try {
+                work.run();
+            } finally {
+                second.unlock();
+            }
+        } finally {
+            first.unlock();
+        }
+    }
+
+    private int partitionOf(String accountId) {
+        return Math.floorMod(spread(accountId), partitions.length);
+    }
+
+    private int stripeOf(String accountId) {
+        return Math.floorMod(spread(accountId), accountLocks.length);
+    }
+
+    private static int spread(String accountId) {
+        int h = accountId.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Partição sem espaço na fila (ou encerrando)
+     */
+    private static final class PartitionFullException extends RuntimeException {
+
+        PartitionFullException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Partição: fila limitada com uma thread executora dedicada
+     */
+    private static final class Partition implements Runnable {
+
+        private final BlockingQueue<Runnable> queue;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        Partition(int index, int capacity) {
+            this.queue = new LinkedBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "transfer-partition-" + index);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        void enqueue(Runnable task) {
+            if (!running || !queue.offer(task)) {
+                throw new PartitionFullException();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Runnable task = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (task != null) {
+                        task.run();
+                    }
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        void stop() {
+            running = false;
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
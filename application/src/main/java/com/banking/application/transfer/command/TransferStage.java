@@ -0,0 +1,23 @@
+package com.banking.application.transfer.command;
+
+/**
+ * Etapas do processamento de uma transferência medidas pelo TransferStageTrace.
+ */
+public enum TransferStage {
+    VALIDATION,
+    IDEMPOTENCY_LOOKUP,
+    ACCOUNT_LOAD,
+    IDEMPOTENCY_REGISTER,
+    LIMIT_RESERVATION,
+    TRANSFER_SAVE,
+    BALANCE_UPDATE,
+    ACCOUNT_SAVE,
+    EVENT_PUBLICATION,
+    COMMIT;
+
+    private static final TransferStage[] VALUES = values();
+
+    static TransferStage[] all() {
+        return VALUES;
+    }
+}
@@ -0,0 +1,83 @@
+package com.banking.application.transfer.command;
+
+/**
+ * Tempos por etapa de uma transferência amostrada.
+ * Cada mark atribui à etapa o tempo decorrido desde o mark anterior, usando System.nanoTime;
+ * transferências fora da amostra recebem o NOOP, que não aloca nem lê o relógio.
+ */
+public final class TransferStageTrace {
+
+    public static final TransferStageTrace NOOP = new TransferStageTrace(false);
+
+    private final boolean active;
+    private final long startNanos;
+    private final long[] stageNanos;
+    private long lastMark;
+    private long totalNanos;
+    private String transferId;
+    private boolean success;
+
+    private TransferStageTrace(boolean active) {
+        this.active = active;
+        this.startNanos = active ? System.nanoTime() : 0;
+        this.stageNanos = active ? new long[TransferStage.all().length] : null;
+        this.lastMark = startNanos;
+    }
+
+    /**
+     * Inicia a medição de uma transferência amostrada
+     */
+    public static TransferStageTrace start() {
+        return new TransferStageTrace(true);
+    }
+
+    /**
+     * Atribui à etapa o tempo decorrido desde o último mark
+     */
+    public void mark(TransferStage stage) {
+        if (!active) {
+            return;
+        }
+        long now = System.nanoTime();
+        stageNanos[stage.ordinal()] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Descarta o tempo decorrido desde o último mark (ex.: espera por uma duplicata em andamento)
+     */
+    public void skip() {
+        if (active) {
+            lastMark = System.nanoTime();
+        }
+    }
+
+    void finish(String transferId, boolean success) {
+        if (!active) {
+            return;
+        }
+        this.totalNanos = System.nanoTime() - startNanos;
+        this.transferId = transferId;
+        this.success = success;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public long stageNanos(TransferStage stage) {
+        return active ? stageNanos[stage.ordinal()] : 0;
+    }
+
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    public String transferId() {
+        return transferId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+}
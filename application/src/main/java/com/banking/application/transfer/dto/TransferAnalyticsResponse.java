@@ -0,0 +1,45 @@
+package com.banking.application.transfer.dto;
+
+import com.banking.application.shared.interfaces.TransferAnalytics.TransferRollup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO de resposta com o agregado de transferências de um bucket de tempo.
+ */
+public record TransferAnalyticsResponse(
+    LocalDateTime bucket,
+    long transfers,
+    long completed,
+    long failed,
+    BigDecimal failureRate,
+    BigDecimal volume,
+    BigDecimal minAmount,
+    BigDecimal maxAmount,
+    Map<String, Long> failureReasons
+) {
+
+    /**
+     * Factory method para criar a partir de um agregado
+     */
+    public static TransferAnalyticsResponse from(TransferRollup rollup) {
+        long total = rollup.completedCount() + rollup.failedCount();
+        BigDecimal failureRate = total == 0
+            ? BigDecimal.ZERO
+            : BigDecimal.valueOf(rollup.failedCount()).divide(BigDecimal.valueOf(total), 4, RoundingMode.HALF_UP);
+        return new TransferAnalyticsResponse(
+            rollup.bucket(),
+            total,
+            rollup.completedCount(),
+            rollup.failedCount(),
+            failureRate,
+            rollup.completedAmount(),
+            rollup.minAmount(),
+            rollup.maxAmount(),
+            rollup.failureReasons()
+        );
+    }
+}
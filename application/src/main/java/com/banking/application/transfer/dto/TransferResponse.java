@@ -56,6 +56,26 @@ public record TransferResponse(
         return status == TransferStatus.PROCESSING;
     }
 
+    /**
+     * Factory method para criar a partir de uma transferência ainda não gravada (processamento assíncrono)
+     */
+    public static TransferResponse queued(String id, ProcessTransferRequest request, TransferStatus status,
+                                          String failureReason, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new TransferResponse(
+            id,
+            request.fromAccountId(),
+            request.toAccountId(),
+            request.amount(),
+            null,
+            status,
+            request.description(),
+            request.idempotencyKey(),
+            failureReason,
+            createdAt,
+            updatedAt
+        );
+    }
+
     /**
      * Factory method para criar a partir de entidade de domínio
      */
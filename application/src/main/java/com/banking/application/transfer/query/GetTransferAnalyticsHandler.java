@@ -0,0 +1,60 @@
+package com.banking.application.transfer.query;
+
+import com.banking.application.shared.base.QueryHandler;
+import com.banking.application.shared.exception.ValidationException;
+import com.banking.application.shared.interfaces.TransactionManager;
+import com.banking.application.shared.interfaces.TransferAnalytics;
+import com.banking.application.transfer.dto.TransferAnalyticsResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Handler para consulta dos agregados de transferências (quantidade por período, volume e taxa de falha por motivo).
+ */
+@Service
+public class GetTransferAnalyticsHandler implements QueryHandler<GetTransferAnalyticsQuery, List<TransferAnalyticsResponse>> {
+
+    private final TransferAnalytics transferAnalytics;
+    private final TransactionManager transactionManager;
+
+    public GetTransferAnalyticsHandler(TransferAnalytics transferAnalytics, TransactionManager transactionManager) {
+        this.transferAnalytics = transferAnalytics;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public List<TransferAnalyticsResponse> handle(GetTransferAnalyticsQuery query) throws Exception {
+        validate(query);
+
+        // Transação somente leitura: atendida por réplica quando configurada
+        return transactionManager.executeInReadOnlyTransaction(() ->
+                transferAnalytics.rollups(query.granularity(), query.from(), query.to()))
+            .stream()
+            .map(TransferAnalyticsResponse::from)
+            .toList();
+    }
+
+    @Override
+    public void validate(GetTransferAnalyticsQuery query) {
+        QueryHandler.super.validate(query);
+
+        if (query.granularity() == null || query.from() == null || query.to() == null) {
+            throw new ValidationException("Granularity and range are required");
+        }
+        if (!query.from().isBefore(query.to())) {
+            throw new ValidationException("Start of the range must be before its end");
+        }
+        long buckets = query.granularity().unit().between(
+            query.granularity().bucketOf(query.from()), query.to());
+        if (buckets > GetTransferAnalyticsQuery.MAX_BUCKETS) {
+            throw new ValidationException("Range too large: at most " + GetTransferAnalyticsQuery.MAX_BUCKETS
+                + " buckets of " + query.granularity().name().toLowerCase());
+        }
+    }
+
+    @Override
+    public Class<GetTransferAnalyticsQuery> getQueryType() {
+        return GetTransferAnalyticsQuery.class;
+    }
+}
@@ -0,0 +1,38 @@
+package com.banking.application.transfer.query;
+
+import com.banking.application.shared.base.Query;
+import com.banking.application.shared.interfaces.TransferAnalytics.Granularity;
+import com.banking.application.transfer.dto.TransferAnalyticsResponse;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Query para consultar os agregados de transferências em um intervalo [from, to).
+ */
+public record GetTransferAnalyticsQuery(
+    @NotNull(message = "Granularity is required")
+    Granularity granularity,
+    @NotNull(message = "Start of the range is required")
+    LocalDateTime from,
+    @NotNull(message = "End of the range is required")
+    LocalDateTime to
+) implements Query<List<TransferAnalyticsResponse>> {
+
+    public static final int MAX_BUCKETS = 1440;
+
+    public static GetTransferAnalyticsQuery of(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        return new GetTransferAnalyticsQuery(granularity, from, to);
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return false; // O bucket corrente e os eventos atrasados alteram o resultado
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GetTransferAnalyticsQuery{granularity=%s, from=%s, to=%s}", granularity, from, to);
+    }
+}
@@ -0,0 +1,78 @@
+package com.banking.application.transfer.query;
+
+import com.banking.application.shared.base.QueryHandler;
+import com.banking.application.shared.exception.ValidationException;
+import com.banking.application.shared.interfaces.TransferJobQueue;
+import com.banking.application.shared.interfaces.TransferJobQueue.QueuedTransfer;
+import com.banking.application.transfer.dto.TransferResponse;
+import com.banking.domain.transfer.repository.TransferRepository;
+import com.banking.domain.transfer.valueobject.TransferId;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Handler para processar consulta de transferência por ID.
+ * Transferências já gravadas vêm do repositório; as que ainda estão na fila assíncrona
+ * (ou falharam antes de serem gravadas) vêm da fila.
+ */
+@Service
+public class GetTransferHandler implements QueryHandler<GetTransferQuery, TransferResponse> {
+
+    private final TransferRepository transferRepository;
+    private final TransferJobQueue transferJobQueue;
+
+    public GetTransferHandler(TransferRepository transferRepository, TransferJobQueue transferJobQueue) {
+        this.transferRepository = transferRepository;
+        this.transferJobQueue = transferJobQueue;
+    }
+
+    @Override
+    public TransferResponse handle(GetTransferQuery query) throws Exception {
+        validate(query);
+
+        Optional<TransferResponse> stored = findStored(query.transferId());
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        QueuedTransfer queued = transferJobQueue.find(query.transferId())
+            .orElseThrow(() -> new ValidationException("Transfer not found with ID: " + query.transferId()));
+
+        // Submissão resolvida para uma transferência gravada anteriormente com a mesma chave de idempotência
+        if (queued.resultTransferId() != null && !queued.resultTransferId().equals(queued.transferId())) {
+            Optional<TransferResponse> result = findStored(queued.resultTransferId());
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+
+        return TransferResponse.queued(queued.transferId(), queued.request(), queued.status(),
+            queued.failureReason(), queued.submittedAt(), queued.updatedAt());
+    }
+
+    private Optional<TransferResponse> findStored(String transferId) {
+        return transferRepository.findById(TransferId.of(transferId)).map(TransferResponse::from);
+    }
+
+    @Override
+    public void validate(GetTransferQuery query) {
+        QueryHandler.super.validate(query);
+
+        if (query.transferId() == null || query.transferId().trim().isEmpty()) {
+            throw new ValidationException("Transfer ID cannot be null or empty");
+        }
+
+        // Validar formato UUID
+        try {
+            java.util.UUID.fromString(query.transferId());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Transfer ID must be a valid UUID");
+        }
+    }
+
+    @Override
+    public Class<GetTransferQuery> getQueryType() {
+        return GetTransferQuery.class;
+    }
+}
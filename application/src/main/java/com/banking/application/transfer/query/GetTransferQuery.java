@@ -0,0 +1,33 @@
+package com.banking.application.transfer.query;
+
+import com.banking.application.shared.base.Query;
+import com.banking.application.transfer.dto.TransferResponse;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Query para consultar uma transferência por ID, inclusive as submetidas de forma assíncrona.
+ */
+public record GetTransferQuery(
+    @NotBlank(message = "Transfer ID is required")
+    String transferId
+) implements Query<TransferResponse> {
+
+    public static GetTransferQuery of(String transferId) {
+        return new GetTransferQuery(transferId);
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return false; // O status muda enquanto a transferência é processada
+    }
+
+    @Override
+    public String getCacheKey() {
+        return "transfer_" + transferId;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GetTransferQuery{transferId='%s'}", transferId);
+    }
+}
@@ -0,0 +1,201 @@
+package com.banking.application.transfer.command;
+
+import com.banking.application.shared.exception.TransferBacklogException;
+import com.banking.application.transfer.dto.ProcessTransferRequest;
+import com.banking.application.transfer.dto.TransferResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransferDispatcherTest {
+
+    private final List<TransferDispatcher> dispatchers = new ArrayList<>();
+
+    @AfterEach
+    void stopDispatchers() {
+        dispatchers.forEach(TransferDispatcher::destroy);
+    }
+
+    /**
+     * Pares cruzados (A→B e B→A em partições diferentes) terminam sem deadlock e
+     * nenhuma conta é movimentada por duas transferências ao mesmo tempo
+     */
+    @Test
+    void crossingPairsNeverShareAnAccount() throws Exception {
+        Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+        AtomicInteger overlaps = new AtomicInteger();
+        ProcessTransferHandler handler = handler(command -> {
+            String from = command.getFromAccountId();
+            String to = command.getToAccountId();
+            if (active.computeIfAbsent(from, k -> new AtomicInteger()).incrementAndGet() > 1
+                    | active.computeIfAbsent(to, k -> new AtomicInteger()).incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            TimeUnit.MICROSECONDS.sleep(50);
+            active.get(from).decrementAndGet();
+            active.get(to).decrementAndGet();
+        });
+        TransferDispatcher dispatcher = dispatcher(handler, 4, 1000, 4);
+
+        List<CompletableFuture<TransferResponse>> results = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            for (int a = 0; a < 8; a++) {
+                for (int b = a + 1; b < 8; b++) {
+                    results.add(dispatcher.submit(command("acc-" + a, "acc-" + b)));
+                    results.add(dispatcher.submit(command("acc-" + b, "acc-" + a)));
+                }
+            }
+        }
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        assertEquals(0, overlaps.get());
+        assertTrue(dispatcher.crossPartitionCount() > 0);
+    }
+
+    /**
+     * Partição cheia rejeita com TransferBacklogException, e as transferências já aceitas terminam
+     */
+    @Test
+    void fullPartitionRejectsWithRetryAfter() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProcessTransferHandler handler = handler(command -> {
+            started.countDown();
+            release.await();
+        });
+        TransferDispatcher dispatcher = dispatcher(handler, 1, 1, 16);
+
+        CompletableFuture<TransferResponse> running = dispatcher.submit(command("acc-1", "acc-2"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<TransferResponse> queued = dispatcher.submit(command("acc-3", "acc-4"));
+
+        TransferBacklogException rejected = assertThrows(TransferBacklogException.class,
+            () -> dispatcher.submit(command("acc-5", "acc-6")));
+        assertEquals(7, rejected.getRetryAfterSeconds());
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Uma partição cheia e parada não atrasa transferências de outra partição que creditam contas dela
+     */
+    @Test
+    void fullPartitionDoesNotBlockOtherPartitions() throws Exception {
+        String target = "acc-0";
+        String source = accountInOtherPartition(target);
+        String blocked = accountInOtherPartition(source);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProcessTransferHandler handler = handler(command -> {
+            if (command.getFromAccountId().equals(blocked)) {
+                started.countDown();
+                release.await();
+            }
+        });
+        TransferDispatcher dispatcher = dispatcher(handler, 2, 1, 1024);
+
+        CompletableFuture<TransferResponse> running = dispatcher.submit(command(blocked, "acc-blocked-peer"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<TransferResponse> queued = dispatcher.submit(command(blocked, "acc-queued-peer"));
+        assertThrows(TransferBacklogException.class, () -> dispatcher.submit(command(blocked, "acc-rejected-peer")));
+
+        dispatcher.submit(command(source, target)).get(5, TimeUnit.SECONDS);
+        assertFalse(running.isDone());
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * O encerramento executa as transferências já aceitas e recusa novas
+     */
+    @Test
+    void shutdownDrainsAcceptedTransfersAndRejectsNewOnes() {
+        AtomicInteger executed = new AtomicInteger();
+        ProcessTransferHandler handler = handler(command -> {
+            TimeUnit.MILLISECONDS.sleep(1);
+            executed.incrementAndGet();
+        });
+        TransferDispatcher dispatcher = dispatcher(handler, 2, 1000, 16);
+
+        List<CompletableFuture<TransferResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(dispatcher.submit(command("acc-" + (i % 5), "acc-" + (5 + i % 3))));
+        }
+        dispatcher.destroy();
+
+        assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+        assertEquals(100, executed.get());
+        assertThrows(TransferBacklogException.class, () -> dispatcher.submit(command("acc-1", "acc-2")));
+    }
+
+    /**
+     * Encontra uma conta cuja partição (em 2 partições) é diferente da partição da conta informada
+     */
+    private String accountInOtherPartition(String account) {
+        TransferDispatcher probe = dispatcher(handler(command -> { }), 2, 10, 16);
+        for (int i = 1; i < 100; i++) {
+            String candidate = "acc-" + i;
+            if (candidate.equals(account)) {
+                continue;
+            }
+            long before = probe.crossPartitionCount();
+            probe.submit(command(account, candidate)).join();
+            if (probe.crossPartitionCount() != before) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Nenhuma conta em outra partição");
+    }
+
+    private TransferDispatcher dispatcher(ProcessTransferHandler handler, int partitions, int capacity, int stripes) {
+        TransferDispatcher dispatcher = new TransferDispatcher(handler, true, partitions, capacity, 5000, 7, stripes);
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+
+    private static ProcessTransferHandler handler(TransferBody body) {
+        ProcessTransferHandler handler = mock(ProcessTransferHandler.class);
+        try {
+            when(handler.handle(any())).thenAnswer(invocation -> {
+                body.run(invocation.getArgument(0));
+                return null;
+            });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return handler;
+    }
+
+    private static ProcessTransferCommand command(String from, String to) {
+        assertNotEquals(from, to);
+        return ProcessTransferCommand.from(new ProcessTransferRequest(from, to, BigDecimal.TEN, null, null));
+    }
+
+    @FunctionalInterface
+    private interface TransferBody {
+        void run(ProcessTransferCommand command) throws Exception;
+    }
+}
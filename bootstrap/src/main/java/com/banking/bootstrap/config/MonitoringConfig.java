@@ -1,16 +1,67 @@
 package com.banking.bootstrap.config;
 
+import com.banking.infrastructure.monitoring.HandlerMetrics;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.Arrays;
+
 /**
  * Configuração de monitoramento e métricas da aplicação.
- * Define indicadores de saúde e métricas customizadas para o sistema bancário.
- * 
- * TODO: Implementar quando as dependências do Actuator estiverem funcionando corretamente
+ * Define as tags comuns e os limites de SLO usados nos histogramas de latência dos handlers
+ * (RNF001: transferência em até 2s; RNF003: consulta de saldo em até 500ms).
  */
 @Configuration
 public class MonitoringConfig {
-    
-    // Temporariamente vazio até resolver problemas de dependência do Actuator
-    
+
+    @Value("${spring.application.name:banking-system}")
+    private String applicationName;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${banking.monitoring.handler-slo-ms:100,250,500,1000,2000}")
+    private long[] handlerSloMillis;
+
+    /**
+     * Tags comuns a todas as métricas; a tag threads permite comparar execuções com e sem virtual threads
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> commonTagsCustomizer() {
+        return registry -> registry.config().commonTags(
+            "application", applicationName,
+            "threads", virtualThreads ? "virtual" : "platform");
+    }
+
+    /**
+     * Buckets de SLO e faixa esperada para o histograma de latência dos handlers
+     */
+    @Bean
+    public MeterFilter handlerLatencyFilter() {
+        double[] objectives = Arrays.stream(handlerSloMillis)
+            .mapToDouble(ms -> Duration.ofMillis(ms).toNanos())
+            .toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HandlerMetrics.HANDLER_DURATION.equals(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                    .percentilesHistogram(true)
+                    .serviceLevelObjectives(objectives)
+                    .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                    .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                    .build()
+                    .merge(config);
+            }
+        };
+    }
 }
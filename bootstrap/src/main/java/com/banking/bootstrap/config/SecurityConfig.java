@@ -29,6 +29,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(authz -> authz
                 // Endpoints públicos (documentação, health checks)
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                // Gravações JFR expõem propriedades e ambiente da JVM
+                .requestMatchers("/actuator/jfr", "/actuator/jfr/**").hasRole("ADMIN")
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/api/v1/**").permitAll() // Para fins acadêmicos
                 
@@ -41,7 +41,13 @@ public class Account extends AggregateRoot<AccountId> {
     // Construtor para reconstrução (usado pela infraestrutura)
     public Account(AccountId id, AccountNumber accountNumber, HolderName holderName, 
                    Cpf holderCpf, Balance balance, boolean active) {
-        super(id);
+        this(id, accountNumber, holderName, holderCpf, balance, active, null);
+    }
+
+    // Construtor para reconstrução com a versão persistida (controle de concorrência otimista)
+    public Account(AccountId id, AccountNumber accountNumber, HolderName holderName,
+                   Cpf holderCpf, Balance balance, boolean active, Long persistedVersion) {
+        super(id, persistedVersion);
         this.accountNumber = accountNumber;
         this.holderName = holderName;
         this.holderCpf = holderCpf;
@@ -3,6 +3,7 @@ package com.banking.domain.account.event;
 import com.banking.domain.shared.base.DomainEvent;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,6 +28,19 @@ public class AccountCreated extends DomainEvent {
         this.initialBalance = initialBalance;
     }
 
+    /**
+     * Reconstrói o evento a partir de uma mensagem recebida
+     */
+    public AccountCreated(String eventId, LocalDateTime occurredOn,
+                          String accountId, String accountNumber, String holderName, String holderCpf, BigDecimal initialBalance) {
+        super(eventId, occurredOn);
+        this.accountId = accountId;
+        this.accountNumber = accountNumber;
+        this.holderName = holderName;
+        this.holderCpf = holderCpf;
+        this.initialBalance = initialBalance;
+    }
+
     @Override
     public String getAggregateId() {
         return accountId;
@@ -3,6 +3,7 @@ package com.banking.domain.account.event;
 import com.banking.domain.shared.base.DomainEvent;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,6 +26,18 @@ public class AccountDebited extends DomainEvent {
         this.reason = reason;
     }
 
+    /**
+     * Reconstrói o evento a partir de uma mensagem recebida
+     */
+    public AccountDebited(String eventId, LocalDateTime occurredOn,
+                          String accountId, BigDecimal debitAmount, BigDecimal newBalance, String reason) {
+        super(eventId, occurredOn);
+        this.accountId = accountId;
+        this.debitAmount = debitAmount;
+        this.newBalance = newBalance;
+        this.reason = reason;
+    }
+
     @Override
     public String getAggregateId() {
         return accountId;
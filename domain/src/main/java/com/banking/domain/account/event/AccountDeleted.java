@@ -0,0 +1,66 @@
+package com.banking.domain.account.event;
+
+import com.banking.domain.shared.base.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Domain Event disparado quando uma conta é excluída.
+ */
+public class AccountDeleted extends DomainEvent {
+
+    private final String accountId;
+    private final String accountNumber;
+    private final String holderCpf;
+
+    public AccountDeleted(String accountId, String accountNumber, String holderCpf) {
+        super();
+        this.accountId = accountId;
+        this.accountNumber = accountNumber;
+        this.holderCpf = holderCpf;
+    }
+
+    /**
+     * Reconstrói o evento a partir de uma mensagem recebida
+     */
+    public AccountDeleted(String eventId, LocalDateTime occurredOn,
+                          String accountId, String accountNumber, String holderCpf) {
+        super(eventId, occurredOn);
+        this.accountId = accountId;
+        this.accountNumber = accountNumber;
+        this.holderCpf = holderCpf;
+    }
+
+    @Override
+    public String getAggregateId() {
+        return accountId;
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "Account";
+    }
+
+    @Override
+    public Object getEventData() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("accountId", accountId);
+        data.put("accountNumber", accountNumber);
+        data.put("holderCpf", holderCpf);
+        return data;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public String getHolderCpf() {
+        return holderCpf;
+    }
+}
@@ -20,6 +20,10 @@ public abstract class AggregateRoot<ID> extends Entity<ID> {
         super(id);
     }
 
+    protected AggregateRoot(ID id, Long persistedVersion) {
+        super(id, persistedVersion);
+    }
+
     /**
      * Adiciona um domain event para ser publicado
      */
@@ -19,6 +19,15 @@ public abstract class DomainEvent {
         this.eventType = this.getClass().getSimpleName();
     }
 
+    /**
+     * Reconstrói um evento preservando identificador e instante originais
+     */
+    protected DomainEvent(String eventId, LocalDateTime occurredOn) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
+        this.eventType = this.getClass().getSimpleName();
+    }
+
     public String getEventId() {
         return eventId;
     }
@@ -13,6 +13,7 @@ public abstract class Entity<ID> {
     protected LocalDateTime createdAt;
     protected LocalDateTime updatedAt;
     protected Long version;
+    protected Long persistedVersion;
 
     protected Entity() {
         this.createdAt = LocalDateTime.now();
@@ -25,6 +26,17 @@ public abstract class Entity<ID> {
         this.id = Objects.requireNonNull(id, "ID cannot be null");
     }
 
+    /**
+     * Reconstrói a entidade com a versão lida da persistência
+     */
+    protected Entity(ID id, Long persistedVersion) {
+        this(id);
+        this.persistedVersion = persistedVersion;
+        if (persistedVersion != null) {
+            this.version = persistedVersion;
+        }
+    }
+
     public ID getId() {
         return id;
     }
@@ -41,6 +53,14 @@ public abstract class Entity<ID> {
         return version;
     }
 
+    /**
+     * Versão da entidade quando foi carregada; null para entidades ainda não persistidas.
+     * Usada pela infraestrutura para o controle de concorrência otimista.
+     */
+    public Long getPersistedVersion() {
+        return persistedVersion;
+    }
+
     protected void markAsUpdated() {
         this.updatedAt = LocalDateTime.now();
         this.version++;
@@ -43,7 +43,12 @@ public class Transfer extends AggregateRoot<TransferId> {
 
     public static Transfer create(AccountId fromAccountId, AccountId toAccountId, 
                                  Amount amount, IdempotencyKey idempotencyKey, String description) {
-        TransferId id = TransferId.generate();
+        return create(TransferId.generate(), fromAccountId, toAccountId, amount, idempotencyKey, description);
+    }
+
+    // Criação com ID atribuído previamente (ex.: transferências aceitas para processamento assíncrono)
+    public static Transfer create(TransferId id, AccountId fromAccountId, AccountId toAccountId,
+                                 Amount amount, IdempotencyKey idempotencyKey, String description) {
         return new Transfer(id, fromAccountId, toAccountId, amount, idempotencyKey, description);
     }
 
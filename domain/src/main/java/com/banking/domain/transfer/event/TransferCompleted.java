@@ -2,6 +2,7 @@ package com.banking.domain.transfer.event;
 
 import com.banking.domain.shared.base.DomainEvent;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,6 +20,15 @@ public class TransferCompleted extends DomainEvent {
         this.amount = amount;
     }
 
+    public TransferCompleted(String eventId, LocalDateTime occurredOn,
+                             String transferId, String fromAccountId, String toAccountId, BigDecimal amount) {
+        super(eventId, occurredOn);
+        this.transferId = transferId;
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+        this.amount = amount;
+    }
+
     @Override public String getAggregateId() { return transferId; }
     @Override public String getAggregateType() { return "Transfer"; }
     
@@ -2,6 +2,7 @@ package com.banking.domain.transfer.event;
 
 import com.banking.domain.shared.base.DomainEvent;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,6 +23,16 @@ public class TransferFailed extends DomainEvent {
         this.reason = reason;
     }
 
+    public TransferFailed(String eventId, LocalDateTime occurredOn,
+                          String transferId, String fromAccountId, String toAccountId, BigDecimal amount, String reason) {
+        super(eventId, occurredOn);
+        this.transferId = transferId;
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+        this.amount = amount;
+        this.reason = reason;
+    }
+
     @Override public String getAggregateId() { return transferId; }
     @Override public String getAggregateType() { return "Transfer"; }
     
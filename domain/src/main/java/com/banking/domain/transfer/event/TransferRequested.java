@@ -2,6 +2,7 @@ package com.banking.domain.transfer.event;
 
 import com.banking.domain.shared.base.DomainEvent;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,6 +25,17 @@ public class TransferRequested extends DomainEvent {
         this.description = description;
     }
 
+    public TransferRequested(String eventId, LocalDateTime occurredOn,
+                             String transferId, String fromAccountId, String toAccountId, BigDecimal amount, String idempotencyKey, String description) {
+        super(eventId, occurredOn);
+        this.transferId = transferId;
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+        this.amount = amount;
+        this.idempotencyKey = idempotencyKey;
+        this.description = description;
+    }
+
     @Override public String getAggregateId() { return transferId; }
     @Override public String getAggregateType() { return "Transfer"; }
     
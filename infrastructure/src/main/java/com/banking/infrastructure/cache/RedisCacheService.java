@@ -1,11 +1,20 @@
 package com.banking.infrastructure.cache;
 
 import com.banking.application.shared.interfaces.CacheService;
+import com.banking.infrastructure.monitoring.jfr.CacheOperationEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -26,12 +35,28 @@ public class RedisCacheService implements CacheService {
 
     @Override
     public void put(String key, Object value) {
-        redisTemplate.opsForValue().set(key, value);
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        String outcome = "failure";
+        try {
+            redisTemplate.opsForValue().set(key, value);
+            outcome = "success";
+        } finally {
+            commit(event, "put", key, false, outcome);
+        }
     }
 
     @Override
     public void put(String key, Object value, Duration ttl) {
-        redisTemplate.opsForValue().set(key, value, ttl);
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        String outcome = "failure";
+        try {
+            redisTemplate.opsForValue().set(key, value, ttl);
+            outcome = "success";
+        } finally {
+            commit(event, "put", key, false, outcome);
+        }
     }
 
     /**
@@ -51,11 +76,78 @@ public class RedisCacheService implements CacheService {
     @Override
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(String key, Class<T> type) {
-        Object value = redisTemplate.opsForValue().get(key);
-        if (value != null && type.isInstance(value)) {
-            return Optional.of((T) value);
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        String outcome = "failure";
+        boolean hit = false;
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            outcome = "success";
+            if (value != null && type.isInstance(value)) {
+                hit = true;
+                return Optional.of((T) value);
+            }
+            return Optional.empty();
+        } finally {
+            commit(event, "get", key, hit, outcome);
+        }
+    }
+
+    /**
+     * Recupera os valores com um único MGET
+     */
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        String outcome = "failure";
+        Map<String, T> found = new HashMap<>();
+        try {
+            List<String> orderedKeys = new ArrayList<>(keys);
+            List<Object> values = redisTemplate.opsForValue().multiGet(orderedKeys);
+            outcome = "success";
+            if (values != null) {
+                for (int i = 0; i < orderedKeys.size(); i++) {
+                    Object value = values.get(i);
+                    if (value != null && type.isInstance(value)) {
+                        found.put(orderedKeys.get(i), type.cast(value));
+                    }
+                }
+            }
+            return found;
+        } finally {
+            commit(event, "mget", keys.size() + " chaves", !found.isEmpty(), outcome);
+        }
+    }
+
+    /**
+     * Grava os valores com SET ... EX em um único pipeline
+     */
+    @Override
+    public void putAll(Map<String, ?> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        String outcome = "failure";
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    values.forEach((key, value) -> ops.opsForValue().set(key, value, ttl));
+                    return null;
+                }
+            });
+            outcome = "success";
+        } finally {
+            commit(event, "mset", values.size() + " chaves", false, outcome);
         }
-        return Optional.empty();
     }
 
     @Override
@@ -177,4 +269,15 @@ public class RedisCacheService implements CacheService {
         // Usa clear() que é mais seguro e não depende de métodos deprecados
         clear();
     }
-}
\ No newline at end of file
+
+    private static void commit(CacheOperationEvent event, String operation, String key, boolean hit, String outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.key = key;
+            event.hit = hit;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
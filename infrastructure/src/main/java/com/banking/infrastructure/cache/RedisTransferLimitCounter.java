@@ -0,0 +1,99 @@
+package com.banking.infrastructure.cache;
+
+import com.banking.application.shared.interfaces.TransferLimitCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementação do TransferLimitCounter com contadores Redis em janela móvel de 24 horas.
+ * Cada conta tem um hash com um campo por hora; a verificação e o incremento são feitos
+ * por script Lua, de forma atômica e em tempo constante (no máximo 24 campos por conta).
+ */
+@Service
+public class RedisTransferLimitCounter implements TransferLimitCounter {
+
+    private static final String KEY_PREFIX = "transfer_limit:";
+    private static final long BUCKET_SECONDS = 3600;
+    private static final long WINDOW_BUCKETS = 24;
+    private static final long KEY_TTL_SECONDS = BUCKET_SECONDS * (WINDOW_BUCKETS + 1);
+
+    /**
+     * Soma os buckets da janela, remove os expirados e incrementa o bucket corrente se couber no limite.
+     * Retorna o novo total ou -1 se o limite seria ultrapassado.
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+        "local amount = tonumber(ARGV[1]) " +
+        "local limit = tonumber(ARGV[2]) " +
+        "local bucket = tonumber(ARGV[3]) " +
+        "local oldest = bucket - tonumber(ARGV[4]) + 1 " +
+        "local fields = redis.call('HGETALL', KEYS[1]) " +
+        "local total = 0 " +
+        "for i = 1, #fields, 2 do " +
+        "  if tonumber(fields[i]) < oldest then " +
+        "    redis.call('HDEL', KEYS[1], fields[i]) " +
+        "  else " +
+        "    total = total + tonumber(fields[i + 1]) " +
+        "  end " +
+        "end " +
+        "if total + amount > limit then return -1 end " +
+        "redis.call('HINCRBY', KEYS[1], ARGV[3], amount) " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+        "return total + amount",
+        Long.class);
+
+    /**
+     * Decrementa o bucket da reserva, se ele ainda existir
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then " +
+        "  return redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[2])) " +
+        "end " +
+        "return 0",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Autowired
+    public RedisTransferLimitCounter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<Reservation> tryReserve(String accountId, BigDecimal amount, BigDecimal limit) {
+        long bucket = System.currentTimeMillis() / 1000 / BUCKET_SECONDS;
+        Long total = redisTemplate.execute(RESERVE_SCRIPT, List.of(buildKey(accountId)),
+            String.valueOf(toCents(amount)),
+            String.valueOf(toCents(limit)),
+            String.valueOf(bucket),
+            String.valueOf(WINDOW_BUCKETS),
+            String.valueOf(KEY_TTL_SECONDS));
+
+        if (total == null || total < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Reservation(accountId, bucket, amount));
+    }
+
+    @Override
+    public void release(Reservation reservation) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(buildKey(reservation.accountId())),
+            String.valueOf(reservation.bucket()),
+            String.valueOf(toCents(reservation.amount())));
+    }
+
+    private static long toCents(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+    }
+
+    private static String buildKey(String accountId) {
+        return KEY_PREFIX + accountId;
+    }
+}
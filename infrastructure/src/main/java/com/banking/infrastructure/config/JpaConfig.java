@@ -1,18 +1,44 @@
 package com.banking.infrastructure.config;
 
+import com.banking.application.shared.interfaces.TransactionManager.Workload;
+import com.banking.infrastructure.persistence.routing.ReadReplicaRoutingDataSource;
+import com.banking.infrastructure.persistence.routing.ReplicaPool;
+import com.banking.infrastructure.persistence.routing.WorkloadContext;
+import com.banking.infrastructure.persistence.routing.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Configuração do JPA e DataSource.
  * Define conexão com banco de dados e configurações de persistência.
+ * Cada carga de trabalho (transferências, consultas, lotes) tem um pool próprio no primário,
+ * com tamanho e timeouts independentes; com réplicas configuradas, transações somente
+ * leitura são roteadas para elas e o primário fica reservado às escritas.
  */
 @Configuration
 @EnableJpaRepositories(basePackages = "com.banking.infrastructure.persistence.jpa.repository")
@@ -20,6 +46,9 @@ import org.springframework.boot.jdbc.DataSourceBuilder;
 @EnableTransactionManagement
 public class JpaConfig {
 
+    private static final String POOLS_PREFIX = "banking.datasource.pools.";
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari.";
+
     @Value("${spring.datasource.url:jdbc:postgresql://localhost:5432/banking}")
     private String datasourceUrl;
 
@@ -32,16 +61,140 @@ public class JpaConfig {
     @Value("${spring.datasource.driver-class-name:org.postgresql.Driver}")
     private String driverClassName;
 
+    @Autowired
+    private Environment environment;
+
+    /**
+     * Configuração do DataSource: pools por carga de trabalho e, se houver, réplicas de leitura.
+     * Ao encerrar o contexto, close() fecha os pools por carga de trabalho; as réplicas
+     * são fechadas pelo próprio bean ReplicaPool
+     */
+    @Bean
+    public DataSource dataSource(ObjectProvider<ReplicaPool> replicaPool, ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            String name = workload.name().toLowerCase(Locale.ROOT);
+            pools.put(workload, pool(name, name, datasourceUrl, datasourceUsername, datasourcePassword, registry));
+        }
+        WorkloadRoutingDataSource workloads = new WorkloadRoutingDataSource(pools);
+        DataSource primary = workloads;
+
+        ReplicaPool replicas = replicaPool.getIfAvailable();
+        if (replicas != null) {
+            primary = new ReadReplicaRoutingDataSource(primary, replicas);
+        }
+        // A conexão física só é obtida no primeiro comando, quando a transação já está configurada
+        return new ClosingLazyConnectionDataSourceProxy(primary, workloads);
+    }
+
+    /**
+     * Réplicas de leitura (banking.datasource.replicas.urls, separadas por vírgula)
+     */
+    @Bean
+    @ConditionalOnExpression("'${banking.datasource.replicas.urls:}'.trim() != ''")
+    public ReplicaPool replicaPool(@Value("${banking.datasource.replicas.urls}") String urls,
+                                   @Value("${banking.datasource.replicas.username:${spring.datasource.username:banking}}") String username,
+                                   @Value("${banking.datasource.replicas.password:${spring.datasource.password:banking}}") String password,
+                                   @Value("${banking.datasource.replicas.max-lag-ms:1000}") long maxLagMillis,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        List<String> replicaUrls = Arrays.stream(urls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = pool(name, "replica", replicaUrls.get(i), username, password, meterRegistry.getIfAvailable());
+            replica.setReadOnly(true);
+            replicas.put(name, replica);
+        }
+        return new ReplicaPool(replicas, maxLagMillis);
+    }
+
     /**
-     * Configuração do DataSource
+     * Migrações executam no pool de lotes, sem o statement timeout do pool de transferências
      */
     @Bean
-    public DataSource dataSource() {
-        return DataSourceBuilder.create()
-                .url(datasourceUrl)
-                .username(datasourceUsername)
-                .password(datasourcePassword)
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+            try {
+                WorkloadContext.call(Workload.BATCH, flyway::migrate);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Falha ao executar as migrações", e);
+            }
+        };
+    }
+
+    /**
+     * Cria um pool Hikari: as propriedades de banking.datasource.pools.{settings} prevalecem sobre
+     * as de spring.datasource.hikari, que valem como padrão para todos os pools
+     */
+    private HikariDataSource pool(String poolName, String settings, String url, String username, String password,
+                                  MeterRegistry registry) {
+        HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
                 .driverClassName(driverClassName)
                 .build();
+        pool.setPoolName(poolName);
+        pool.setMaximumPoolSize(setting(settings, "maximum-pool-size", Integer.class, 10));
+        pool.setMinimumIdle(setting(settings, "minimum-idle", Integer.class, pool.getMaximumPoolSize()));
+        pool.setConnectionTimeout(setting(settings, "connection-timeout", Long.class, 30000L));
+        pool.setIdleTimeout(setting(settings, "idle-timeout", Long.class, 600000L));
+        pool.setMaxLifetime(setting(settings, "max-lifetime", Long.class, 1800000L));
+        pool.setLeakDetectionThreshold(setting(settings, "leak-detection-threshold", Long.class, 0L));
+
+        long statementTimeout = environment.getProperty(POOLS_PREFIX + settings + ".statement-timeout-ms", Long.class, 0L);
+        if (statementTimeout > 0 && url.startsWith("jdbc:postgresql:")) {
+            pool.setConnectionInitSql("SET statement_timeout = " + statementTimeout);
+        }
+
+        if (registry != null) {
+            // hikaricp.connections.acquire (espera), .pending, .active, .timeout por pool
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            Gauge.builder("banking.datasource.pool.saturation", pool, JpaConfig::saturation)
+                    .description("Fração das conexões do pool em uso")
+                    .tag("pool", poolName)
+                    .register(registry);
+        }
+        return pool;
+    }
+
+    private <T> T setting(String pool, String key, Class<T> type, T defaultValue) {
+        T shared = environment.getProperty(HIKARI_PREFIX + key, type, defaultValue);
+        return environment.getProperty(POOLS_PREFIX + pool + "." + key, type, shared);
+    }
+
+    /**
+     * LazyConnectionDataSourceProxy não tem close(): este repassa o encerramento aos pools
+     */
+    private static final class ClosingLazyConnectionDataSourceProxy extends LazyConnectionDataSourceProxy
+            implements AutoCloseable {
+
+        private final WorkloadRoutingDataSource pools;
+
+        ClosingLazyConnectionDataSourceProxy(DataSource target, WorkloadRoutingDataSource pools) {
+            super(target);
+            this.pools = pools;
+        }
+
+        @Override
+        public void close() {
+            pools.close();
+        }
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+        if (bean == null || pool.getMaximumPoolSize() == 0) {
+            return 0;
+        }
+        return (double) bean.getActiveConnections() / pool.getMaximumPoolSize();
     }
-}
\ No newline at end of file
+}
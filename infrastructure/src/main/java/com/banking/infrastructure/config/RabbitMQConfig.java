@@ -1,26 +1,52 @@
 package com.banking.infrastructure.config;
 
+import com.banking.infrastructure.messaging.converter.DomainEventMessageConverter;
+import com.banking.infrastructure.messaging.embedded.EmbeddedEventTransport;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 /**
  * Configuração do RabbitMQ para mensageria de eventos.
  * Define exchanges, filas, bindings e conversores para eventos de domínio.
+ * No perfil embedded-broker só a topologia e o conversor são registrados: os bindings
+ * passam a rotear os eventos do broker embutido e os beans de conexão não são criados.
  */
 @Configuration
-@EnableRabbit
 public class RabbitMQConfig {
 
+    public static final String DEAD_LETTER_EXCHANGE = "banking.events.dlx";
+
+    /**
+     * Habilita os @RabbitListener apenas quando há conexão com o RabbitMQ
+     */
+    @Configuration
+    @Profile("!" + EmbeddedEventTransport.PROFILE)
+    @EnableRabbit
+    static class RabbitListenerConfig {
+    }
+
     @Value("${banking.messaging.exchange:banking.events}")
     private String exchangeName;
 
@@ -33,6 +59,33 @@ public class RabbitMQConfig {
     @Value("${banking.messaging.queues.transfer-failed:banking.transfer.failed}")
     private String transferFailedQueue;
 
+    @Value("${banking.messaging.converter.format:json}")
+    private String converterFormat;
+
+    @Value("${banking.messaging.converter.compression-threshold:1024}")
+    private int compressionThreshold;
+
+    @Value("${banking.messaging.consumer.batch-size:50}")
+    private int consumerBatchSize;
+
+    @Value("${banking.messaging.consumer.receive-timeout-ms:200}")
+    private long consumerReceiveTimeout;
+
+    @Value("${banking.messaging.consumer.min-consumers:1}")
+    private int minConsumers;
+
+    @Value("${banking.messaging.consumer.retry.max-attempts:5}")
+    private int retryMaxAttempts;
+
+    @Value("${banking.messaging.consumer.retry.initial-interval-ms:500}")
+    private long retryInitialInterval;
+
+    @Value("${banking.messaging.consumer.retry.max-interval-ms:10000}")
+    private long retryMaxInterval;
+
+    @Autowired
+    private Environment environment;
+
     /**
      * Exchange principal para eventos de domínio
      */
@@ -99,17 +152,54 @@ public class RabbitMQConfig {
     }
 
     /**
-     * Conversor JSON para mensagens
+     * Fila exclusiva desta instância para o índice de contas: anônima, não durável e removida com a conexão
+     */
+    @Bean
+    @Profile("!" + EmbeddedEventTransport.PROFILE)
+    public AnonymousQueue accountLookupQueue() {
+        return new AnonymousQueue();
+    }
+
+    /**
+     * Bindings da fila do índice de contas: cada instância recebe todas as criações e exclusões
+     */
+    @Bean
+    @Profile("!" + EmbeddedEventTransport.PROFILE)
+    public Binding accountLookupCreatedBinding() {
+        return BindingBuilder
+                .bind(accountLookupQueue())
+                .to(bankingEventsExchange())
+                .with("account.created.event");
+    }
+
+    @Bean
+    @Profile("!" + EmbeddedEventTransport.PROFILE)
+    public Binding accountLookupDeletedBinding() {
+        return BindingBuilder
+                .bind(accountLookupQueue())
+                .to(bankingEventsExchange())
+                .with("account.deleted.event");
+    }
+
+    /**
+     * Conversor de eventos de domínio (binário ou JSON, conforme configuração)
      */
     @Bean
-    public Jackson2JsonMessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public DomainEventMessageConverter messageConverter() {
+        JsonMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        return new DomainEventMessageConverter(
+                DomainEventMessageConverter.Format.valueOf(converterFormat.trim().toUpperCase()), compressionThreshold, objectMapper);
     }
 
     /**
-     * Template do RabbitMQ com conversor JSON
+     * Template do RabbitMQ com o conversor de eventos de domínio (JSON ou binário)
      */
     @Bean
+    @Profile("!" + EmbeddedEventTransport.PROFILE)
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter());
@@ -120,6 +210,7 @@ public class RabbitMQConfig {
      * Container factory para listeners com configurações customizadas
      */
     @Bean
+    @Profile("!" + EmbeddedEventTransport.PROFILE)
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
@@ -130,10 +221,62 @@ public class RabbitMQConfig {
         factory.setMaxConcurrentConsumers(3);
         factory.setPrefetchCount(10);
         factory.setDefaultRequeueRejected(false);
+        applyThreading(factory);
         
         return factory;
     }
 
+    /**
+     * Container factory para listeners em lote: consome até batch-size mensagens ou aguarda
+     * receive-timeout, entrega o lote inteiro ao listener e confirma com um único ack.
+     * A concorrência inicial é mínima; ListenerConcurrencyScaler ajusta conforme a profundidade das filas.
+     * Um lote com falha é reprocessado com backoff exponencial até retry.max-attempts e então
+     * republicado na exchange de dead letter, em vez de voltar à fila indefinidamente.
+     */
+    @Bean
+    @Profile("!" + EmbeddedEventTransport.PROFILE)
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                                    RabbitTemplate rabbitTemplate) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(consumerBatchSize);
+        factory.setReceiveTimeout(consumerReceiveTimeout);
+        factory.setPrefetchCount(consumerBatchSize * 2);
+        factory.setConcurrentConsumers(minConsumers);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(retryMaxAttempts)
+                .backOffOptions(retryInitialInterval, 2.0, retryMaxInterval)
+                .recoverer(deadLetterRecoverer(rabbitTemplate))
+                .build());
+        applyThreading(factory);
+
+        return factory;
+    }
+
+    /**
+     * Republica cada mensagem do lote esgotado na exchange de dead letter, com a exceção nos headers
+     */
+    private static MessageBatchRecoverer deadLetterRecoverer(RabbitTemplate rabbitTemplate) {
+        RepublishMessageRecoverer republisher = new RepublishMessageRecoverer(rabbitTemplate, DEAD_LETTER_EXCHANGE);
+        return (messages, cause) -> messages.forEach(message -> republisher.recover(message, cause));
+    }
+
+    /**
+     * Com spring.threads.virtual.enabled os consumidores rodam em virtual threads
+     */
+    private void applyThreading(SimpleRabbitListenerContainerFactory factory) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("rabbit-listener-");
+            executor.setVirtualThreads(true);
+            factory.setTaskExecutor(executor);
+        }
+    }
+
     /**
      * Fila de Dead Letter para mensagens com falha
      */
@@ -147,7 +290,7 @@ public class RabbitMQConfig {
      */
     @Bean
     public TopicExchange deadLetterExchange() {
-        return new TopicExchange("banking.events.dlx", true, false);
+        return new TopicExchange(DEAD_LETTER_EXCHANGE, true, false);
     }
 
     /**
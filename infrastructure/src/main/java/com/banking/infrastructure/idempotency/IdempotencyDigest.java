@@ -0,0 +1,48 @@
+package com.banking.infrastructure.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Digest de 128 bits de uma chave de idempotência.
+ * Corresponde aos 16 primeiros bytes do SHA-256 da chave em UTF-8.
+ */
+public record IdempotencyDigest(long hi, long lo) implements Comparable<IdempotencyDigest> {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    });
+
+    /**
+     * Calcula o digest de uma chave de idempotência
+     */
+    public static IdempotencyDigest of(String idempotencyKey) {
+        MessageDigest sha = SHA_256.get();
+        sha.reset();
+        byte[] hash = sha.digest(idempotencyKey.getBytes(StandardCharsets.UTF_8));
+        return new IdempotencyDigest(readLong(hash, 0), readLong(hash, 8));
+    }
+
+    @Override
+    public int compareTo(IdempotencyDigest other) {
+        return compare(hi, lo, other.hi, other.lo);
+    }
+
+    static int compare(long hi1, long lo1, long hi2, long lo2) {
+        int c = Long.compare(hi1, hi2);
+        return c != 0 ? c : Long.compare(lo1, lo2);
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFFL);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,248 @@
+package com.banking.infrastructure.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice em memória das chaves de idempotência da janela de retenção.
+ * Cada dia é um segmento com arrays ordenados imutáveis em níveis e um pequeno buffer
+ * de inserções indexado por hash, que vira um novo nível quando enche. As entradas têm tamanho
+ * fixo: digest de 128 bits e id da operação (UUID) em quatro longs.
+ */
+@Component
+public class IdempotencyIndex {
+
+    private static final int STRIDE = 4;
+
+    private final ConcurrentSkipListMap<LocalDate, DaySegment> segments = new ConcurrentSkipListMap<>();
+    private final AtomicInteger totalEntries = new AtomicInteger();
+    private final int maxEntries;
+    private final int bufferCapacity;
+
+    public IdempotencyIndex(@Value("${banking.idempotency.memory.max-entries:2000000}") int maxEntries,
+                            @Value("${banking.idempotency.memory.buffer-size:4096}") int bufferCapacity) {
+        this.maxEntries = maxEntries;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    /**
+     * Procura o id da operação associado ao digest nos dias a partir de windowStart
+     */
+    public UUID find(IdempotencyDigest digest, LocalDate windowStart) {
+        for (DaySegment segment : segments.tailMap(windowStart, true).descendingMap().values()) {
+            UUID found = segment.find(digest.hi(), digest.lo());
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adiciona uma entrada ao segmento do dia. Ignora a entrada se o limite de memória foi atingido.
+     */
+    public boolean add(LocalDate day, IdempotencyDigest digest, UUID operationId) {
+        while (true) {
+            int current = totalEntries.get();
+            if (current >= maxEntries) {
+                return false;
+            }
+            if (totalEntries.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+        segments.computeIfAbsent(day, d -> new DaySegment(bufferCapacity))
+            .add(digest.hi(), digest.lo(), operationId.getMostSignificantBits(), operationId.getLeastSignificantBits());
+        return true;
+    }
+
+    /**
+     * Descarta os segmentos anteriores ao dia informado
+     */
+    public void evictBefore(LocalDate cutoff) {
+        Map<LocalDate, DaySegment> expired = segments.headMap(cutoff, false);
+        for (DaySegment segment : expired.values()) {
+            totalEntries.addAndGet(-segment.size());
+        }
+        expired.clear();
+    }
+
+    /**
+     * Retorna o número de entradas mantidas em memória
+     */
+    public int size() {
+        return totalEntries.get();
+    }
+
+    /**
+     * Segmento de um dia: buffer de inserções com tabela hash e uma pilha de arrays ordenados
+     * imutáveis. Um buffer cheio vira um novo array; arrays vizinhos de mesmo porte são mesclados,
+     * de modo que cada entrada é copiada O(log n) vezes ao longo do dia.
+     */
+    private static final class DaySegment {
+
+        private volatile long[][] runs = new long[0][];
+        private final long[] buffer;
+        private final int[] slots;
+        private final ReentrantLock lock = new ReentrantLock();
+        private int bufferSize;
+        private int runEntries;
+
+        DaySegment(int bufferCapacity) {
+            this.buffer = new long[bufferCapacity * STRIDE];
+            // Endereçamento aberto com ocupação máxima de 50%; guarda a posição no buffer + 1
+            this.slots = new int[Integer.highestOneBit(Math.max(1, bufferCapacity) * 2 - 1) << 1];
+        }
+
+        UUID find(long hi, long lo) {
+            long[][] snapshot;
+            lock.lock();
+            try {
+                int offset = bufferIndexOf(hi, lo);
+                if (offset >= 0) {
+                    return new UUID(buffer[offset + 2], buffer[offset + 3]);
+                }
+                snapshot = runs;
+            } finally {
+                lock.unlock();
+            }
+            // Do mais recente para o mais antigo
+            for (int r = snapshot.length - 1; r >= 0; r--) {
+                long[] run = snapshot[r];
+                int index = binarySearch(run, hi, lo);
+                if (index >= 0) {
+                    return new UUID(run[index + 2], run[index + 3]);
+                }
+            }
+            return null;
+        }
+
+        void add(long hi, long lo, long idHi, long idLo) {
+            lock.lock();
+            try {
+                buffer[bufferSize] = hi;
+                buffer[bufferSize + 1] = lo;
+                buffer[bufferSize + 2] = idHi;
+                buffer[bufferSize + 3] = idLo;
+                slots[freeSlot(hi, lo)] = bufferSize + 1;
+                bufferSize += STRIDE;
+                if (bufferSize == buffer.length) {
+                    flush();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return (runEntries + bufferSize) / STRIDE;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void flush() {
+            long[][] current = runs;
+            long[][] next = Arrays.copyOf(current, current.length + 1);
+            int count = next.length;
+            next[count - 1] = sortEntries(Arrays.copyOf(buffer, bufferSize));
+            while (count > 1 && next[count - 2].length <= next[count - 1].length) {
+                next[count - 2] = merge(next[count - 2], next[count - 1]);
+                count--;
+            }
+            runs = count == next.length ? next : Arrays.copyOf(next, count);
+            runEntries += bufferSize;
+            bufferSize = 0;
+            Arrays.fill(slots, 0);
+        }
+
+        private int bufferIndexOf(long hi, long lo) {
+            int mask = slots.length - 1;
+            for (int slot = hash(hi, lo) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+                int offset = slots[slot] - 1;
+                if (buffer[offset] == hi && buffer[offset + 1] == lo) {
+                    return offset;
+                }
+            }
+            return -1;
+        }
+
+        private int freeSlot(long hi, long lo) {
+            int mask = slots.length - 1;
+            int slot = hash(hi, lo) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static int hash(long hi, long lo) {
+            // O digest já é uniforme: basta dobrar os bits
+            long h = hi ^ lo;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private static int binarySearch(long[] entries, long hi, long lo) {
+            int low = 0;
+            int high = entries.length / STRIDE - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int offset = mid * STRIDE;
+                int c = IdempotencyDigest.compare(entries[offset], entries[offset + 1], hi, lo);
+                if (c < 0) {
+                    low = mid + 1;
+                } else if (c > 0) {
+                    high = mid - 1;
+                } else {
+                    return offset;
+                }
+            }
+            return -1;
+        }
+
+        private static long[] sortEntries(long[] entries) {
+            int count = entries.length / STRIDE;
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i * STRIDE;
+            }
+            Arrays.sort(order, (a, b) -> IdempotencyDigest.compare(entries[a], entries[a + 1], entries[b], entries[b + 1]));
+            long[] result = new long[entries.length];
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(entries, order[i], result, i * STRIDE, STRIDE);
+            }
+            return result;
+        }
+
+        private static long[] merge(long[] left, long[] right) {
+            long[] result = new long[left.length + right.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < left.length && j < right.length) {
+                if (IdempotencyDigest.compare(left[i], left[i + 1], right[j], right[j + 1]) <= 0) {
+                    System.arraycopy(left, i, result, k, STRIDE);
+                    i += STRIDE;
+                } else {
+                    System.arraycopy(right, j, result, k, STRIDE);
+                    j += STRIDE;
+                }
+                k += STRIDE;
+            }
+            System.arraycopy(left, i, result, k, left.length - i);
+            k += left.length - i;
+            System.arraycopy(right, j, result, k, right.length - j);
+            return result;
+        }
+    }
+}
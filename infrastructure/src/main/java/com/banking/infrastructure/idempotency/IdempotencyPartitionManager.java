@@ -0,0 +1,105 @@
+package com.banking.infrastructure.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Mantém as partições diárias da tabela idempotency_keys.
+ * Cria antecipadamente as partições dos próximos dias e descarta as que saíram
+ * da janela de retenção, expirando todas as chaves de um dia com um único DROP.
+ */
+@Component
+public class IdempotencyPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyPartitionManager.class);
+
+    private static final String PARTITION_PREFIX = "idempotency_keys_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String SELECT_PARTITIONS =
+        "SELECT c.relname FROM pg_inherits i " +
+        "JOIN pg_class c ON c.oid = i.inhrelid " +
+        "JOIN pg_class p ON p.oid = i.inhparent " +
+        "WHERE p.relname = 'idempotency_keys'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyIndex index;
+    private final int retentionDays;
+    private final int precreateDays;
+
+    @Autowired
+    public IdempotencyPartitionManager(JdbcTemplate jdbcTemplate,
+                                       IdempotencyIndex index,
+                                       @Value("${banking.idempotency.retention-days:2}") int retentionDays,
+                                       @Value("${banking.idempotency.precreate-days:2}") int precreateDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.index = index;
+        this.retentionDays = retentionDays;
+        this.precreateDays = precreateDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    /**
+     * Cria as partições futuras e remove as expiradas
+     */
+    @Scheduled(cron = "${banking.idempotency.maintenance-cron:0 5 * * * *}", zone = "UTC")
+    public void maintainPartitions() {
+        LocalDate today = JdbcIdempotencyStore.today();
+        LocalDate cutoff = today.minusDays(retentionDays - 1L);
+
+        try {
+            for (int i = 0; i <= precreateDays; i++) {
+                createPartition(today.plusDays(i));
+            }
+            dropPartitionsBefore(cutoff);
+            jdbcTemplate.update("DELETE FROM idempotency_keys_default WHERE bucket_day < ?", Date.valueOf(cutoff));
+        } catch (DataAccessException e) {
+            log.warn("Falha na manutenção das partições de idempotência: {}", e.getMessage());
+        }
+
+        index.evictBefore(cutoff);
+    }
+
+    private void createPartition(LocalDate day) {
+        String name = PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name +
+            " PARTITION OF idempotency_keys FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+    }
+
+    private void dropPartitionsBefore(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(SELECT_PARTITIONS, String.class);
+        for (String partition : partitions) {
+            if (!partition.startsWith(PARTITION_PREFIX)) {
+                continue;
+            }
+            LocalDate day;
+            try {
+                day = LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            } catch (DateTimeParseException e) {
+                continue;
+            }
+            if (day.isBefore(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Partição de idempotência {} removida", partition);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.banking.infrastructure.idempotency;
+
+import com.banking.application.shared.interfaces.IdempotencyStore;
+import com.banking.infrastructure.monitoring.jfr.IdempotencyCheckEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementação do IdempotencyStore sobre a tabela particionada idempotency_keys.
+ * Cada chave é guardada como digest de 128 bits no particionamento do dia em que foi
+ * registrada; a expiração é feita descartando partições inteiras.
+ * O índice em memória atende às consultas da janela corrente sem acessar o banco.
+ */
+@Service
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+
+    private static final String SELECT_BY_DIGEST =
+        "SELECT operation_id FROM idempotency_keys WHERE digest_hi = ? AND digest_lo = ? AND bucket_day >= ?";
+    private static final String LOCK_DIGEST =
+        "SELECT pg_advisory_xact_lock(hashtext('idempotency_keys'), ?)";
+    private static final String INSERT_KEY =
+        "INSERT INTO idempotency_keys (bucket_day, digest_hi, digest_lo, operation_id) " +
+        "SELECT ?, ?, ?, ? WHERE NOT EXISTS (" +
+        "SELECT 1 FROM idempotency_keys WHERE digest_hi = ? AND digest_lo = ? AND bucket_day >= ?) " +
+        "ON CONFLICT DO NOTHING";
+    private static final String SELECT_WINDOW =
+        "SELECT bucket_day, digest_hi, digest_lo, operation_id FROM idempotency_keys WHERE bucket_day >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyIndex index;
+    private final int retentionDays;
+
+    @Autowired
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate,
+                                IdempotencyIndex index,
+                                @Value("${banking.idempotency.retention-days:2}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.index = index;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public Optional<String> findOperationId(String idempotencyKey) {
+        IdempotencyCheckEvent event = new IdempotencyCheckEvent();
+        event.begin();
+        String source = "memory";
+        String result = null;
+        try {
+            IdempotencyDigest digest = IdempotencyDigest.of(idempotencyKey);
+            LocalDate windowStart = windowStart();
+
+            UUID cached = index.find(digest, windowStart);
+            if (cached != null) {
+                result = "hit";
+                return Optional.of(cached.toString());
+            }
+
+            source = "database";
+            List<UUID> found = jdbcTemplate.query(SELECT_BY_DIGEST,
+                (rs, rowNum) -> rs.getObject("operation_id", UUID.class),
+                digest.hi(), digest.lo(), Date.valueOf(windowStart));
+            result = found.isEmpty() ? "miss" : "hit";
+            return found.stream().findFirst().map(UUID::toString);
+        } finally {
+            commit(event, "find", source, result);
+        }
+    }
+
+    @Override
+    public boolean register(String idempotencyKey, String operationId) {
+        IdempotencyCheckEvent event = new IdempotencyCheckEvent();
+        event.begin();
+        String result = null;
+        try {
+            boolean registered = insert(idempotencyKey, operationId);
+            result = registered ? "registered" : "conflict";
+            return registered;
+        } finally {
+            commit(event, "register", "database", result);
+        }
+    }
+
+    /**
+     * Insere a chave no dia corrente se ela não existir em nenhum dia da janela de retenção.
+     * A chave primária inclui o dia, então a unicidade entre dias depende do lock por digest,
+     * que serializa registros concorrentes da mesma chave até o fim da transação.
+     */
+    private boolean insert(String idempotencyKey, String operationId) {
+        IdempotencyDigest digest = IdempotencyDigest.of(idempotencyKey);
+        LocalDate today = today();
+        UUID operationUuid = UUID.fromString(operationId);
+
+        if (index.find(digest, windowStart()) != null) {
+            return false;
+        }
+        jdbcTemplate.query(LOCK_DIGEST, rs -> { }, (int) (digest.hi() ^ (digest.hi() >>> 32)));
+        int inserted = jdbcTemplate.update(INSERT_KEY, Date.valueOf(today), digest.hi(), digest.lo(), operationUuid,
+            digest.hi(), digest.lo(), Date.valueOf(windowStart()));
+        if (inserted == 0) {
+            return false;
+        }
+
+        // A entrada só vai para o índice em memória depois que a transação confirmar
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.add(today, digest, operationUuid);
+                }
+            });
+        } else {
+            index.add(today, digest, operationUuid);
+        }
+        return true;
+    }
+
+    /**
+     * Carrega as chaves da janela de retenção no índice em memória
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            jdbcTemplate.query(SELECT_WINDOW, rs -> {
+                index.add(rs.getDate("bucket_day").toLocalDate(),
+                    new IdempotencyDigest(rs.getLong("digest_hi"), rs.getLong("digest_lo")),
+                    rs.getObject("operation_id", UUID.class));
+            }, Date.valueOf(windowStart()));
+            log.info("Índice de idempotência carregado com {} chaves", index.size());
+        } catch (DataAccessException e) {
+            log.warn("Não foi possível carregar o índice de idempotência: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Primeiro dia ainda coberto pela janela de retenção
+     */
+    LocalDate windowStart() {
+        return today().minusDays(retentionDays - 1L);
+    }
+
+    private static void commit(IdempotencyCheckEvent event, String operation, String source, String result) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.source = source;
+            event.result = result;
+            event.outcome = result != null ? "success" : "failure";
+            event.commit();
+        }
+    }
+
+    static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+}
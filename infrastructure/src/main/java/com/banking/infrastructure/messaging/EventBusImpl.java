@@ -2,36 +2,59 @@ package com.banking.infrastructure.messaging;
 
 import com.banking.application.shared.interfaces.EventBus;
 import com.banking.domain.shared.base.DomainEvent;
+import com.banking.infrastructure.messaging.dispatch.LocalEventDispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.List;
-import java.util.Map;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
- * Implementação do EventBus usando o EventPublisher para RabbitMQ.
- * Adapta a interface da camada de aplicação para a implementação de infraestrutura.
+ * Implementação do EventBus usando o EventTransport ativo (RabbitMQ ou broker embutido).
+ * Adapta a interface da camada de aplicação para a implementação de infraestrutura;
+ * a entrega aos listeners locais é feita pelo LocalEventDispatcher.
+ * Dentro de uma transação os eventos só saem depois do commit: eventos de uma tentativa desfeita
+ * são descartados, e os consumidores só veem o que foi confirmado.
  */
 @Service
 public class EventBusImpl implements EventBus {
 
-    private final EventPublisher eventPublisher;
-    private final Map<Class<? extends DomainEvent>, List<EventListener<? extends DomainEvent>>> listeners;
+    private static final Logger log = LoggerFactory.getLogger(EventBusImpl.class);
+
+    private final EventTransport eventTransport;
+    private final LocalEventDispatcher localDispatcher;
 
-    public EventBusImpl(EventPublisher eventPublisher) {
-        this.eventPublisher = eventPublisher;
-        this.listeners = new ConcurrentHashMap<>();
+    public EventBusImpl(EventTransport eventTransport, LocalEventDispatcher localDispatcher) {
+        this.eventTransport = eventTransport;
+        this.localDispatcher = localDispatcher;
     }
 
     @Override
     public void publish(DomainEvent event) {
-        // Publica via RabbitMQ
-        eventPublisher.publishEvent(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // A transação já confirmou: uma falha aqui não pode ser devolvida a quem publicou
+                try {
+                    deliver(event);
+                } catch (RuntimeException e) {
+                    log.error("Falha ao publicar evento {} após o commit: {}", event.getEventId(), e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private void deliver(DomainEvent event) {
+        // Publica para os consumidores assíncronos
+        eventTransport.publishEvent(event);
         
         // Notifica listeners locais
-        notifyLocalListeners(event);
+        localDispatcher.dispatch(event);
     }
 
     @Override
@@ -54,33 +77,12 @@ public class EventBusImpl implements EventBus {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends DomainEvent> void subscribe(Class<T> eventType, EventListener<T> listener) {
-        listeners.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>())
-                 .add((EventListener<DomainEvent>) listener);
+        localDispatcher.subscribe(eventType, listener);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends DomainEvent> void unsubscribe(Class<T> eventType, EventListener<T> listener) {
-        List<EventListener<? extends DomainEvent>> eventListeners = listeners.get(eventType);
-        if (eventListeners != null) {
-            eventListeners.remove(listener);
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private void notifyLocalListeners(DomainEvent event) {
-        List<EventListener<? extends DomainEvent>> eventListeners = listeners.get(event.getClass());
-        if (eventListeners != null) {
-            for (EventListener<? extends DomainEvent> listener : eventListeners) {
-                try {
-                    ((EventListener<DomainEvent>) listener).handle(event);
-                } catch (Exception e) {
-                    System.err.println("Erro ao processar evento localmente: " + e.getMessage());
-                    // Log do erro, mas não interrompe o processamento dos outros listeners
-                }
-            }
-        }
+        localDispatcher.unsubscribe(eventType, listener);
     }
-}
\ No newline at end of file
+}
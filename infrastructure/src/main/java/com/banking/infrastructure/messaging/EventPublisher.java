@@ -1,88 +1,273 @@
 package com.banking.infrastructure.messaging;
 
 import com.banking.domain.shared.base.DomainEvent;
+import com.banking.infrastructure.messaging.converter.DomainEventMessageConverter;
+import com.banking.infrastructure.messaging.embedded.EmbeddedEventTransport;
+import com.banking.infrastructure.monitoring.jfr.EventPublishEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Serviço para publicação de eventos de domínio usando RabbitMQ.
- * Implementa o padrão Event-Driven Architecture para comunicação assíncrona.
+ * Os eventos entram em uma fila limitada em memória e são enviados em lotes por uma
+ * thread dedicada, no mesmo canal, com publisher confirms assíncronos correlacionados
+ * a cada mensagem. Mensagens com nack são reenfileiradas até o limite de tentativas.
  */
 @Service
-public class EventPublisher {
+@Profile("!" + EmbeddedEventTransport.PROFILE)
+public class EventPublisher implements EventTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPublisher.class);
 
     private final RabbitTemplate rabbitTemplate;
+    private final DomainEventMessageConverter messageConverter;
+    private final BlockingQueue<PendingEvent> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long enqueueTimeoutMillis;
+    private final boolean packEvents;
+
+    private final Counter publishedCounter;
+    private final Counter nackCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Timer confirmLatency;
+    private final DistributionSummary batchSizeSummary;
 
     @Value("${banking.messaging.exchange:banking.events}")
     private String exchangeName;
 
+    private volatile boolean running;
+    private Thread dispatcher;
+
     @Autowired
-    public EventPublisher(RabbitTemplate rabbitTemplate) {
+    public EventPublisher(RabbitTemplate rabbitTemplate,
+                          DomainEventMessageConverter messageConverter,
+                          MeterRegistry meterRegistry,
+                          @Value("${banking.messaging.publisher.queue-capacity:10000}") int queueCapacity,
+                          @Value("${banking.messaging.publisher.batch-size:100}") int batchSize,
+                          @Value("${banking.messaging.publisher.max-attempts:3}") int maxAttempts,
+                          @Value("${banking.messaging.publisher.enqueue-timeout-ms:1000}") long enqueueTimeoutMillis,
+                          @Value("${banking.messaging.publisher.pack-events:false}") boolean packEvents) {
         this.rabbitTemplate = rabbitTemplate;
+        this.messageConverter = messageConverter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.packEvents = packEvents;
+
+        this.publishedCounter = Counter.builder("banking.events.published")
+            .description("Eventos confirmados pelo broker")
+            .register(meterRegistry);
+        this.nackCounter = Counter.builder("banking.events.nacked")
+            .description("Eventos recusados pelo broker")
+            .register(meterRegistry);
+        this.retryCounter = Counter.builder("banking.events.retried")
+            .description("Eventos reenfileirados após nack")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("banking.events.failed")
+            .description("Eventos descartados após esgotar as tentativas")
+            .register(meterRegistry);
+        this.confirmLatency = Timer.builder("banking.events.confirm.latency")
+            .description("Tempo entre o envio e a confirmação do broker")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("banking.events.batch.size")
+            .description("Eventos enviados por lote")
+            .register(meterRegistry);
+        Gauge.builder("banking.events.queue.size", queue, BlockingQueue::size)
+            .description("Eventos aguardando publicação")
+            .register(meterRegistry);
     }
 
-    /**
-     * Publica um evento de domínio
-     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "event-publisher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        // Envia o que restou na fila antes de encerrar
+        List<PendingEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            sendBatch(remaining);
+        }
+    }
+
+    @Override
     public void publishEvent(DomainEvent event) {
-        String routingKey = generateRoutingKey(event);
-        
+        publishEvent(event, EventRoutingKeys.of(event.getClass()));
+    }
+
+    @Override
+    public void publishEvent(DomainEvent event, String customRoutingKey) {
+        EventPublishEvent publishEvent = new EventPublishEvent();
+        publishEvent.begin();
+        String outcome = "failure";
+        try {
+            enqueue(new PendingEvent(event, customRoutingKey, 1));
+            outcome = "success";
+        } finally {
+            publishEvent.commit("rabbitmq", event, customRoutingKey, outcome);
+        }
+    }
+
+    @Override
+    public boolean isMessagingAvailable() {
         try {
-            rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
-            System.out.println("Evento publicado: " + event.getClass().getSimpleName() + 
-                             " com routing key: " + routingKey);
+            return Boolean.TRUE.equals(rabbitTemplate.execute(channel -> channel.isOpen()));
         } catch (Exception e) {
-            System.err.println("Erro ao publicar evento: " + e.getMessage());
-            // Em um cenário real, você poderia implementar retry logic ou dead letter queue
+            return false;
+        }
+    }
+
+    private void enqueue(PendingEvent pending) {
+        try {
+            if (!queue.offer(pending, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("Fila de publicação de eventos cheia");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException("Falha na publicação do evento", e);
         }
     }
 
+    private void dispatchLoop() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
     /**
-     * Publica um evento de domínio com routing key customizada
+     * Envia o lote inteiro no mesmo canal; as confirmações chegam de forma assíncrona.
+     * Com empacotamento ativo, eventos com a mesma routing key seguem em uma única mensagem.
+     * Se o canal falhar no meio do lote, só as mensagens ainda não enviadas são reenfileiradas;
+     * as já enviadas seguem o caminho da confirmação (o fechamento do canal gera nack).
      */
-    public void publishEvent(DomainEvent event, String customRoutingKey) {
+    private void sendBatch(List<PendingEvent> batch) {
+        batchSizeSummary.record(batch.size());
+        List<List<PendingEvent>> messages = packEvents ? groupByRoutingKey(batch) : singletons(batch);
+        int[] handedOff = {0};
         try {
-            rabbitTemplate.convertAndSend(exchangeName, customRoutingKey, event);
-            System.out.println("Evento publicado: " + event.getClass().getSimpleName() + 
-                             " com routing key customizada: " + customRoutingKey);
+            rabbitTemplate.invoke(operations -> {
+                for (List<PendingEvent> group : messages) {
+                    send(operations, group);
+                    handedOff[0]++;
+                }
+                return null;
+            });
         } catch (Exception e) {
-            System.err.println("Erro ao publicar evento: " + e.getMessage());
-            throw new RuntimeException("Falha na publicação do evento", e);
+            List<List<PendingEvent>> unsent = messages.subList(handedOff[0], messages.size());
+            log.error("Erro ao publicar lote de {} eventos ({} mensagens não enviadas): {}",
+                batch.size(), unsent.size(), e.getMessage());
+            unsent.forEach(group -> group.forEach(this::retryOrFail));
         }
     }
 
-    /**
-     * Publica múltiplos eventos em batch
-     */
-    public void publishEvents(java.util.List<DomainEvent> events) {
-        for (DomainEvent event : events) {
-            publishEvent(event);
+    private void send(RabbitOperations operations, List<PendingEvent> group) {
+        PendingEvent first = group.get(0);
+        CorrelationData correlation = new CorrelationData(first.event().getEventId());
+        long sentAt = System.nanoTime();
+        try {
+            if (group.size() == 1) {
+                operations.convertAndSend(exchangeName, first.routingKey(), first.event(), correlation);
+            } else {
+                List<DomainEvent> events = group.stream().map(PendingEvent::event).toList();
+                operations.send(exchangeName, first.routingKey(), messageConverter.toBatchMessage(events), correlation);
+            }
+        } catch (Exception e) {
+            log.warn("Erro ao enviar evento {}: {}", first.event().getEventId(), e.getMessage());
+            group.forEach(this::retryOrFail);
+            return;
         }
+        correlation.getFuture().whenComplete((confirm, error) -> {
+            confirmLatency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+            if (error == null && confirm.isAck()) {
+                publishedCounter.increment(group.size());
+            } else {
+                nackCounter.increment(group.size());
+                log.warn("Evento {} recusado pelo broker: {}", first.event().getEventId(),
+                    error != null ? error.getMessage() : confirm.getReason());
+                group.forEach(this::retryOrFail);
+            }
+        });
     }
 
-    /**
-     * Gera routing key baseada no tipo do evento
-     */
-    private String generateRoutingKey(DomainEvent event) {
-        String eventType = event.getClass().getSimpleName();
-        return eventType.replaceAll("([a-z])([A-Z])", "$1.$2").toLowerCase();
+    private static List<List<PendingEvent>> singletons(List<PendingEvent> batch) {
+        List<List<PendingEvent>> messages = new ArrayList<>(batch.size());
+        for (PendingEvent pending : batch) {
+            messages.add(List.of(pending));
+        }
+        return messages;
+    }
+
+    private static List<List<PendingEvent>> groupByRoutingKey(List<PendingEvent> batch) {
+        Map<String, List<PendingEvent>> groups = new LinkedHashMap<>();
+        for (PendingEvent pending : batch) {
+            groups.computeIfAbsent(pending.routingKey(), k -> new ArrayList<>()).add(pending);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private void retryOrFail(PendingEvent pending) {
+        if (pending.attempt() < maxAttempts && queue.offer(pending.nextAttempt())) {
+            retryCounter.increment();
+            return;
+        }
+        failedCounter.increment();
+        log.error("Evento {} ({}) descartado após {} tentativas", pending.event().getEventId(),
+            pending.event().getEventType(), pending.attempt());
     }
 
     /**
-     * Verifica se o sistema de messaging está disponível
+     * Evento aguardando publicação
      */
-    public boolean isMessagingAvailable() {
-        try {
-            // Tentativa simples de verificar a conexão
-            rabbitTemplate.execute(channel -> {
-                return channel.isOpen();
-            });
-            return true;
-        } catch (Exception e) {
-            return false;
+    private record PendingEvent(DomainEvent event, String routingKey, int attempt) {
+        PendingEvent nextAttempt() {
+            return new PendingEvent(event, routingKey, attempt + 1);
         }
     }
-}
\ No newline at end of file
+}
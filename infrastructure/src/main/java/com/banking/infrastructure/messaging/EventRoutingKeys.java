@@ -0,0 +1,31 @@
+package com.banking.infrastructure.messaging;
+
+/**
+ * Routing keys dos eventos de domínio, calculadas uma única vez por classe
+ * (ex.: TransferCompleted -> transfer.completed.event).
+ */
+public final class EventRoutingKeys {
+
+    private static final ClassValue<String> ROUTING_KEYS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String name = type.getSimpleName();
+            StringBuilder key = new StringBuilder(name.length() + 8);
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (Character.isUpperCase(c) && i > 0) {
+                    key.append('.');
+                }
+                key.append(Character.toLowerCase(c));
+            }
+            return key.append(".event").toString();
+        }
+    };
+
+    private EventRoutingKeys() {
+    }
+
+    public static String of(Class<?> eventType) {
+        return ROUTING_KEYS.get(eventType);
+    }
+}
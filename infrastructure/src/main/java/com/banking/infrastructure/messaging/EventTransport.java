@@ -0,0 +1,37 @@
+package com.banking.infrastructure.messaging;
+
+import com.banking.domain.shared.base.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Transporte de eventos de domínio para os consumidores assíncronos.
+ * Por padrão os eventos seguem pelo RabbitMQ (EventPublisher); no perfil embedded-broker
+ * são gravados em um log local e entregues no próprio processo (EmbeddedEventTransport).
+ */
+public interface EventTransport {
+
+    /**
+     * Publica um evento de domínio
+     */
+    void publishEvent(DomainEvent event);
+
+    /**
+     * Publica um evento de domínio com routing key customizada
+     */
+    void publishEvent(DomainEvent event, String customRoutingKey);
+
+    /**
+     * Publica múltiplos eventos em batch
+     */
+    default void publishEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            publishEvent(event);
+        }
+    }
+
+    /**
+     * Verifica se o sistema de messaging está disponível
+     */
+    boolean isMessagingAvailable();
+}
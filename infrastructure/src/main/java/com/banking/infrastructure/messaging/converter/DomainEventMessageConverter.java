@@ -0,0 +1,284 @@
+package com.banking.infrastructure.messaging.converter;
+
+import com.banking.domain.shared.base.DomainEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * MessageConverter para a hierarquia DomainEvent.
+ * No formato binário cada evento é gravado com tag de tipo e versão de schema explícitas;
+ * vários eventos podem ser empacotados em uma única mensagem, comprimida com deflate
+ * quando passa do limite configurado. Mensagens JSON continuam sendo lidas, e o formato
+ * de escrita pode voltar a JSON enquanto houver consumidores que só entendem JSON.
+ */
+public class DomainEventMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-banking-event";
+    public static final String EVENT_TYPE_HEADER = "x-event-type";
+    public static final String SCHEMA_VERSION_HEADER = "x-schema-version";
+    public static final String EVENT_COUNT_HEADER = "x-event-count";
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int FLAG_BATCH = 0x01;
+    private static final int FLAG_DEFLATE = 0x02;
+
+    /**
+     * Formato usado na escrita das mensagens
+     */
+    public enum Format {
+        JSON,
+        BINARY
+    }
+
+    private final Format format;
+    private final int compressionThreshold;
+    private final ObjectMapper objectMapper;
+    private final Jackson2JsonMessageConverter jsonConverter;
+    private final SimpleMessageConverter fallbackConverter = new SimpleMessageConverter();
+
+    public DomainEventMessageConverter(Format format, int compressionThreshold, ObjectMapper objectMapper) {
+        this.format = format;
+        this.compressionThreshold = compressionThreshold;
+        this.objectMapper = objectMapper;
+        this.jsonConverter = new Jackson2JsonMessageConverter(objectMapper);
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (format == Format.BINARY && object instanceof DomainEvent event && EventCodecs.forType(event.getClass()) != null) {
+            EventOutput out = new EventOutput(128);
+            writeEvent(out, event);
+            messageProperties.setHeader(EVENT_TYPE_HEADER, event.getEventType());
+            messageProperties.setHeader(SCHEMA_VERSION_HEADER, EventCodecs.forType(event.getClass()).schemaVersion());
+            return binaryMessage(out.toByteArray(), 0, messageProperties);
+        }
+        return jsonConverter.toMessage(object, messageProperties);
+    }
+
+    /**
+     * Empacota vários eventos em uma única mensagem
+     */
+    public Message toBatchMessage(List<? extends DomainEvent> events) {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setHeader(EVENT_COUNT_HEADER, events.size());
+
+        boolean allKnown = events.stream().allMatch(e -> EventCodecs.forType(e.getClass()) != null);
+        if (format == Format.JSON || !allKnown) {
+            return jsonConverter.toMessage(new ArrayList<>(events), messageProperties);
+        }
+
+        EventOutput out = new EventOutput(64 * events.size());
+        out.writeVarLong(events.size());
+        for (DomainEvent event : events) {
+            writeEvent(out, event);
+        }
+        byte[] body = out.toByteArray();
+        int flags = FLAG_BATCH;
+        if (body.length >= compressionThreshold) {
+            body = deflate(body);
+            flags |= FLAG_DEFLATE;
+        }
+        return binaryMessage(body, flags, messageProperties);
+    }
+
+    /**
+     * Retorna um DomainEvent, ou uma List de eventos quando a mensagem é um lote
+     */
+    @Override
+    public Object fromMessage(Message message) {
+        String contentType = message.getMessageProperties().getContentType();
+        if (CONTENT_TYPE.equals(contentType)) {
+            List<DomainEvent> events = decodeBinary(message.getBody());
+            return isBinaryBatch(message.getBody()) ? events : events.get(0);
+        }
+        if (contentType == null || contentType.contains("json")) {
+            JsonNode root = readTree(message.getBody());
+            if (root.isArray()) {
+                return fromJsonArray(root);
+            }
+            DomainEvent event = fromJson(root, typeIdHeader(message));
+            if (event != null) {
+                return event;
+            }
+            return jsonConverter.fromMessage(message);
+        }
+        return fallbackConverter.fromMessage(message);
+    }
+
+    /**
+     * Retorna os eventos de uma mensagem, seja ela individual ou um lote
+     */
+    public List<DomainEvent> toEvents(Message message) {
+        Object converted = fromMessage(message);
+        List<DomainEvent> events = new ArrayList<>();
+        if (converted instanceof DomainEvent event) {
+            events.add(event);
+        } else if (converted instanceof Collection<?> collection) {
+            for (Object item : collection) {
+                if (item instanceof DomainEvent event) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends DomainEvent> void writeEvent(EventOutput out, T event) {
+        EventCodec<T> codec = (EventCodec<T>) EventCodecs.forType(event.getClass());
+        out.writeByte(codec.tag());
+        out.writeByte(codec.schemaVersion());
+        out.writeId(event.getEventId());
+        out.writeTimestamp(event.getOccurredOn());
+        codec.write(out, event);
+    }
+
+    private DomainEvent readEvent(EventInput in) {
+        int tag = in.readByte();
+        int version = in.readByte();
+        EventCodec<?> codec = EventCodecs.forTag(tag);
+        if (codec == null) {
+            throw new MessageConversionException("Tipo de evento desconhecido na mensagem: " + tag);
+        }
+        if (version > codec.schemaVersion()) {
+            throw new MessageConversionException("Versão de schema não suportada para " +
+                codec.type().getSimpleName() + ": " + version);
+        }
+        String eventId = in.readId();
+        LocalDateTime occurredOn = in.readTimestamp();
+        return codec.read(in, version, eventId, occurredOn);
+    }
+
+    private Message binaryMessage(byte[] payload, int flags, MessageProperties messageProperties) {
+        byte[] body = new byte[payload.length + 2];
+        body[0] = (byte) FORMAT_VERSION;
+        body[1] = (byte) flags;
+        System.arraycopy(payload, 0, body, 2, payload.length);
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    private List<DomainEvent> decodeBinary(byte[] body) {
+        if (body.length < 2 || body[0] != FORMAT_VERSION) {
+            throw new MessageConversionException("Versão de formato de evento não suportada");
+        }
+        int flags = body[1];
+        byte[] payload = new byte[body.length - 2];
+        System.arraycopy(body, 2, payload, 0, payload.length);
+        if ((flags & FLAG_DEFLATE) != 0) {
+            payload = inflate(payload);
+        }
+
+        EventInput in = new EventInput(payload);
+        List<DomainEvent> events = new ArrayList<>();
+        if ((flags & FLAG_BATCH) != 0) {
+            int count = in.readVarInt();
+            for (int i = 0; i < count; i++) {
+                events.add(readEvent(in));
+            }
+        } else {
+            events.add(readEvent(in));
+        }
+        return events;
+    }
+
+    private static boolean isBinaryBatch(byte[] body) {
+        return body.length >= 2 && (body[1] & FLAG_BATCH) != 0;
+    }
+
+    private List<DomainEvent> fromJsonArray(JsonNode root) {
+        List<DomainEvent> events = new ArrayList<>(root.size());
+        for (JsonNode node : root) {
+            DomainEvent event = fromJson(node, null);
+            if (event == null) {
+                throw new MessageConversionException("Evento JSON sem tipo reconhecido no lote");
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    private DomainEvent fromJson(JsonNode node, String typeId) {
+        EventCodec<?> codec = EventCodecs.forName(EventCodec.text(node, "eventType"));
+        if (codec == null) {
+            codec = EventCodecs.forName(typeId);
+        }
+        if (codec == null) {
+            return null;
+        }
+        LocalDateTime occurredOn = node.hasNonNull("occurredOn")
+            ? objectMapper.convertValue(node.get("occurredOn"), LocalDateTime.class)
+            : LocalDateTime.now();
+        String eventId = EventCodec.text(node, "eventId");
+        return codec.fromJson(node, eventId, occurredOn);
+    }
+
+    private JsonNode readTree(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new MessageConversionException("Falha ao ler evento JSON", e);
+        }
+    }
+
+    private static String typeIdHeader(Message message) {
+        Object typeId = message.getMessageProperties().getHeaders().get(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        return typeId != null ? typeId.toString() : null;
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] chunk = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new MessageConversionException("Lote de eventos comprimido truncado");
+                }
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new MessageConversionException("Lote de eventos comprimido inválido", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.banking.infrastructure.messaging.converter;
+
+import com.banking.domain.shared.base.DomainEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Codec de um tipo de evento de domínio.
+ * Cada tipo tem uma tag fixa no formato binário e uma versão de schema; a leitura
+ * recebe a versão gravada na mensagem para aceitar versões anteriores.
+ */
+abstract class EventCodec<T extends DomainEvent> {
+
+    private final int tag;
+    private final int schemaVersion;
+    private final Class<T> type;
+
+    EventCodec(int tag, int schemaVersion, Class<T> type) {
+        this.tag = tag;
+        this.schemaVersion = schemaVersion;
+        this.type = type;
+    }
+
+    int tag() {
+        return tag;
+    }
+
+    int schemaVersion() {
+        return schemaVersion;
+    }
+
+    Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Escreve os campos específicos do evento
+     */
+    abstract void write(EventOutput out, T event);
+
+    /**
+     * Lê os campos específicos do evento gravados na versão de schema informada
+     */
+    abstract T read(EventInput in, int version, String eventId, LocalDateTime occurredOn);
+
+    /**
+     * Reconstrói o evento a partir da representação JSON usada pelos consumidores legados
+     */
+    abstract T fromJson(JsonNode node, String eventId, LocalDateTime occurredOn);
+
+    static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    static BigDecimal decimal(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.decimalValue();
+    }
+}
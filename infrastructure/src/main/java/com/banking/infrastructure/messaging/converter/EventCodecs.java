@@ -0,0 +1,209 @@
+package com.banking.infrastructure.messaging.converter;
+
+import com.banking.domain.account.event.AccountCreated;
+import com.banking.domain.account.event.AccountCredited;
+import com.banking.domain.account.event.AccountDebited;
+import com.banking.domain.account.event.AccountDeleted;
+import com.banking.domain.shared.base.DomainEvent;
+import com.banking.domain.transfer.event.TransferCompleted;
+import com.banking.domain.transfer.event.TransferFailed;
+import com.banking.domain.transfer.event.TransferRequested;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro dos codecs binários dos eventos de domínio.
+ * As tags são parte do formato e não podem ser reutilizadas; mudanças de campos
+ * devem incrementar a versão de schema do codec e manter a leitura das anteriores.
+ */
+final class EventCodecs {
+
+    private static final List<EventCodec<?>> CODECS = List.of(
+        new EventCodec<>(1, 1, AccountCreated.class) {
+            @Override
+            void write(EventOutput out, AccountCreated event) {
+                out.writeId(event.getAccountId());
+                out.writeString(event.getAccountNumber());
+                out.writeString(event.getHolderName());
+                out.writeString(event.getHolderCpf());
+                out.writeDecimal(event.getInitialBalance());
+            }
+
+            @Override
+            AccountCreated read(EventInput in, int version, String eventId, LocalDateTime occurredOn) {
+                return new AccountCreated(eventId, occurredOn, in.readId(), in.readString(),
+                    in.readString(), in.readString(), in.readDecimal());
+            }
+
+            @Override
+            AccountCreated fromJson(JsonNode node, String eventId, LocalDateTime occurredOn) {
+                return new AccountCreated(eventId, occurredOn, text(node, "accountId"), text(node, "accountNumber"),
+                    text(node, "holderName"), text(node, "holderCpf"), decimal(node, "initialBalance"));
+            }
+        },
+        new EventCodec<>(2, 1, AccountDebited.class) {
+            @Override
+            void write(EventOutput out, AccountDebited event) {
+                out.writeId(event.getAccountId());
+                out.writeDecimal(event.getDebitAmount());
+                out.writeDecimal(event.getNewBalance());
+                out.writeString(event.getReason());
+            }
+
+            @Override
+            AccountDebited read(EventInput in, int version, String eventId, LocalDateTime occurredOn) {
+                return new AccountDebited(eventId, occurredOn, in.readId(), in.readDecimal(),
+                    in.readDecimal(), in.readString());
+            }
+
+            @Override
+            AccountDebited fromJson(JsonNode node, String eventId, LocalDateTime occurredOn) {
+                return new AccountDebited(eventId, occurredOn, text(node, "accountId"), decimal(node, "debitAmount"),
+                    decimal(node, "newBalance"), text(node, "reason"));
+            }
+        },
+        new EventCodec<>(3, 1, AccountCredited.class) {
+            @Override
+            void write(EventOutput out, AccountCredited event) {
+                out.writeId(event.getAccountId());
+                out.writeDecimal(event.getCreditAmount());
+                out.writeDecimal(event.getNewBalance());
+                out.writeString(event.getReason());
+            }
+
+            @Override
+            AccountCredited read(EventInput in, int version, String eventId, LocalDateTime occurredOn) {
+                return new AccountCredited(eventId, occurredOn, in.readId(), in.readDecimal(),
+                    in.readDecimal(), in.readString());
+            }
+
+            @Override
+            AccountCredited fromJson(JsonNode node, String eventId, LocalDateTime occurredOn) {
+                return new AccountCredited(eventId, occurredOn, text(node, "accountId"), decimal(node, "creditAmount"),
+                    decimal(node, "newBalance"), text(node, "reason"));
+            }
+        },
+        new EventCodec<>(4, 1, TransferRequested.class) {
+            @Override
+            void write(EventOutput out, TransferRequested event) {
+                out.writeId(event.getTransferId());
+                out.writeId(event.getFromAccountId());
+                out.writeId(event.getToAccountId());
+                out.writeDecimal(event.getAmount());
+                out.writeString(event.getIdempotencyKey());
+                out.writeString(event.getDescription());
+            }
+
+            @Override
+            TransferRequested read(EventInput in, int version, String eventId, LocalDateTime occurredOn) {
+                return new TransferRequested(eventId, occurredOn, in.readId(), in.readId(), in.readId(),
+                    in.readDecimal(), in.readString(), in.readString());
+            }
+
+            @Override
+            TransferRequested fromJson(JsonNode node, String eventId, LocalDateTime occurredOn) {
+                return new TransferRequested(eventId, occurredOn, text(node, "transferId"), text(node, "fromAccountId"),
+                    text(node, "toAccountId"), decimal(node, "amount"), text(node, "idempotencyKey"),
+                    text(node, "description"));
+            }
+        },
+        new EventCodec<>(5, 1, TransferCompleted.class) {
+            @Override
+            void write(EventOutput out, TransferCompleted event) {
+                out.writeId(event.getTransferId());
+                out.writeId(event.getFromAccountId());
+                out.writeId(event.getToAccountId());
+                out.writeDecimal(event.getAmount());
+            }
+
+            @Override
+            TransferCompleted read(EventInput in, int version, String eventId, LocalDateTime occurredOn) {
+                return new TransferCompleted(eventId, occurredOn, in.readId(), in.readId(), in.readId(),
+                    in.readDecimal());
+            }
+
+            @Override
+            TransferCompleted fromJson(JsonNode node, String eventId, LocalDateTime occurredOn) {
+                return new TransferCompleted(eventId, occurredOn, text(node, "transferId"), text(node, "fromAccountId"),
+                    text(node, "toAccountId"), decimal(node, "amount"));
+            }
+        },
+        new EventCodec<>(6, 1, TransferFailed.class) {
+            @Override
+            void write(EventOutput out, TransferFailed event) {
+                out.writeId(event.getTransferId());
+                out.writeId(event.getFromAccountId());
+                out.writeId(event.getToAccountId());
+                out.writeDecimal(event.getAmount());
+                out.writeString(event.getReason());
+            }
+
+            @Override
+            TransferFailed read(EventInput in, int version, String eventId, LocalDateTime occurredOn) {
+                return new TransferFailed(eventId, occurredOn, in.readId(), in.readId(), in.readId(),
+                    in.readDecimal(), in.readString());
+            }
+
+            @Override
+            TransferFailed fromJson(JsonNode node, String eventId, LocalDateTime occurredOn) {
+                return new TransferFailed(eventId, occurredOn, text(node, "transferId"), text(node, "fromAccountId"),
+                    text(node, "toAccountId"), decimal(node, "amount"), text(node, "reason"));
+            }
+        },
+        new EventCodec<>(7, 1, AccountDeleted.class) {
+            @Override
+            void write(EventOutput out, AccountDeleted event) {
+                out.writeId(event.getAccountId());
+                out.writeString(event.getAccountNumber());
+                out.writeString(event.getHolderCpf());
+            }
+
+            @Override
+            AccountDeleted read(EventInput in, int version, String eventId, LocalDateTime occurredOn) {
+                return new AccountDeleted(eventId, occurredOn, in.readId(), in.readString(), in.readString());
+            }
+
+            @Override
+            AccountDeleted fromJson(JsonNode node, String eventId, LocalDateTime occurredOn) {
+                return new AccountDeleted(eventId, occurredOn, text(node, "accountId"), text(node, "accountNumber"),
+                    text(node, "holderCpf"));
+            }
+        }
+    );
+
+    private static final Map<Integer, EventCodec<?>> BY_TAG = new HashMap<>();
+    private static final Map<Class<?>, EventCodec<?>> BY_TYPE = new HashMap<>();
+    private static final Map<String, EventCodec<?>> BY_NAME = new HashMap<>();
+
+    static {
+        for (EventCodec<?> codec : CODECS) {
+            BY_TAG.put(codec.tag(), codec);
+            BY_TYPE.put(codec.type(), codec);
+            BY_NAME.put(codec.type().getSimpleName(), codec);
+            BY_NAME.put(codec.type().getName(), codec);
+        }
+    }
+
+    private EventCodecs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends DomainEvent> EventCodec<T> forType(Class<T> type) {
+        return (EventCodec<T>) BY_TYPE.get(type);
+    }
+
+    static EventCodec<?> forTag(int tag) {
+        return BY_TAG.get(tag);
+    }
+
+    /**
+     * Aceita tanto o nome simples (campo eventType) quanto o nome qualificado (cabeçalho __TypeId__)
+     */
+    static EventCodec<?> forName(String name) {
+        return name == null ? null : BY_NAME.get(name);
+    }
+}
@@ -0,0 +1,105 @@
+package com.banking.infrastructure.messaging.converter;
+
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Leitura do formato binário de eventos escrito por EventOutput.
+ */
+final class EventInput {
+
+    private final byte[] data;
+    private int position;
+
+    EventInput(byte[] data) {
+        this.data = data;
+    }
+
+    int readByte() {
+        if (position >= data.length) {
+            throw new MessageConversionException("Mensagem de evento truncada");
+        }
+        return data[position++] & 0xFF;
+    }
+
+    long readVarLong() {
+        long raw = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 63) {
+                throw new MessageConversionException("Inteiro variável inválido na mensagem de evento");
+            }
+            b = readByte();
+            raw |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    int readVarInt() {
+        return Math.toIntExact(readVarLong());
+    }
+
+    long readLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    byte[] readBytes() {
+        int length = readVarInt();
+        if (length < 0 || position + length > data.length) {
+            throw new MessageConversionException("Tamanho inválido na mensagem de evento");
+        }
+        byte[] bytes = new byte[length];
+        System.arraycopy(data, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    String readString() {
+        int length = readVarInt();
+        if (length < 0) {
+            return null;
+        }
+        if (position + length > data.length) {
+            throw new MessageConversionException("Mensagem de evento truncada");
+        }
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    String readId() {
+        if (readByte() == EventOutput.ID_UUID) {
+            return new UUID(readLong(), readLong()).toString();
+        }
+        return readString();
+    }
+
+    BigDecimal readDecimal() {
+        if (readByte() == 0) {
+            return null;
+        }
+        int scale = readVarInt();
+        BigInteger unscaled = readByte() == 0
+            ? BigInteger.valueOf(readVarLong())
+            : new BigInteger(readBytes());
+        return new BigDecimal(unscaled, scale);
+    }
+
+    LocalDateTime readTimestamp() {
+        long epochSecond = readVarLong();
+        int nano = readVarInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,111 @@
+package com.banking.infrastructure.messaging.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Escrita do formato binário de eventos: inteiros de tamanho variável,
+ * strings UTF-8 com prefixo de tamanho e identificadores UUID em 16 bytes.
+ */
+final class EventOutput {
+
+    static final int ID_UUID = 0;
+    static final int ID_TEXT = 1;
+
+    private final ByteArrayOutputStream buffer;
+
+    EventOutput(int initialCapacity) {
+        this.buffer = new ByteArrayOutputStream(initialCapacity);
+    }
+
+    void writeByte(int value) {
+        buffer.write(value);
+    }
+
+    void writeVarLong(long value) {
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            buffer.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buffer.write((int) v);
+    }
+
+    void writeLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer.write((int) (value >>> shift));
+        }
+    }
+
+    void writeBytes(byte[] bytes) {
+        writeVarLong(bytes.length);
+        buffer.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Strings nulas são codificadas com tamanho -1
+     */
+    void writeString(String value) {
+        if (value == null) {
+            writeVarLong(-1);
+            return;
+        }
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Identificadores no formato UUID ocupam 16 bytes; os demais são gravados como texto
+     */
+    void writeId(String value) {
+        UUID uuid = parseUuid(value);
+        if (uuid != null) {
+            writeByte(ID_UUID);
+            writeLong(uuid.getMostSignificantBits());
+            writeLong(uuid.getLeastSignificantBits());
+        } else {
+            writeByte(ID_TEXT);
+            writeString(value);
+        }
+    }
+
+    void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeVarLong(value.scale());
+        if (value.unscaledValue().bitLength() < 63) {
+            writeByte(0);
+            writeVarLong(value.unscaledValue().longValue());
+        } else {
+            writeByte(1);
+            writeBytes(value.unscaledValue().toByteArray());
+        }
+    }
+
+    void writeTimestamp(LocalDateTime value) {
+        writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeVarLong(value.getNano());
+    }
+
+    byte[] toByteArray() {
+        return buffer.toByteArray();
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.banking.infrastructure.messaging.dispatch;
+
+import com.banking.application.shared.interfaces.EventBus.EventListener;
+import com.banking.domain.shared.base.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Motor de entrega local de eventos de domínio.
+ * Os listeners são resolvidos por uma tabela de hierarquia de tipos pré-computada
+ * (um listener registrado para um supertipo recebe os subtipos). No modo assíncrono
+ * os eventos são distribuídos em lanes por agregado, cada uma com um ring buffer sem
+ * locks e uma thread consumidora dedicada, preservando a ordem por agregado.
+ * As threads só são iniciadas na primeira inscrição e, ociosas, ficam bloqueadas até a próxima publicação.
+ */
+@Component
+public class LocalEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalEventDispatcher.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final EventListener[] NO_LISTENERS = new EventListener[0];
+
+    /**
+     * Modo de entrega aos listeners locais
+     */
+    public enum Mode {
+        SYNC,
+        ASYNC
+    }
+
+    private final Map<Class<?>, List<EventListener<? extends DomainEvent>>> subscriptions = new ConcurrentHashMap<>();
+    @SuppressWarnings("rawtypes")
+    private final Map<Class<?>, EventListener[]> resolved = new ConcurrentHashMap<>();
+
+    private volatile int subscriptionVersion;
+
+    private final Mode mode;
+    private final Lane[] lanes;
+    private final Timer dispatchLatency;
+    private final Counter listenerErrors;
+
+    @Autowired
+    public LocalEventDispatcher(MeterRegistry meterRegistry,
+                                @Value("${banking.events.local.mode:async}") String mode,
+                                @Value("${banking.events.local.lanes:4}") int laneCount,
+                                @Value("${banking.events.local.ring-size:1024}") int ringSize) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase());
+        this.dispatchLatency = Timer.builder("banking.events.local.dispatch.latency")
+            .description("Tempo entre a publicação e a entrega aos listeners locais")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.listenerErrors = Counter.builder("banking.events.local.listener.errors")
+            .description("Falhas em listeners locais")
+            .register(meterRegistry);
+
+        if (this.mode == Mode.ASYNC) {
+            this.lanes = new Lane[Math.max(1, laneCount)];
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i] = new Lane(i, ringSize);
+            }
+            Gauge.builder("banking.events.local.queue.size", this, LocalEventDispatcher::queueSize)
+                .description("Eventos aguardando entrega local")
+                .register(meterRegistry);
+        } else {
+            this.lanes = new Lane[0];
+        }
+    }
+
+    public synchronized <T extends DomainEvent> void subscribe(Class<T> eventType, EventListener<T> listener) {
+        // Sem listeners nada é enfileirado: as lanes só precisam existir a partir da primeira inscrição
+        for (Lane lane : lanes) {
+            lane.start();
+        }
+        subscriptions.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(listener);
+        subscriptionVersion++;
+        resolved.clear();
+    }
+
+    public synchronized <T extends DomainEvent> void unsubscribe(Class<T> eventType, EventListener<T> listener) {
+        List<EventListener<? extends DomainEvent>> listeners = subscriptions.get(eventType);
+        if (listeners != null && listeners.remove(listener)) {
+            subscriptionVersion++;
+            resolved.clear();
+        }
+    }
+
+    /**
+     * Entrega o evento aos listeners locais conforme o modo configurado
+     */
+    @SuppressWarnings("rawtypes")
+    public void dispatch(DomainEvent event) {
+        EventListener[] listeners = listenersFor(event.getClass());
+        if (listeners.length == 0) {
+            return;
+        }
+        if (mode == Mode.SYNC) {
+            deliver(new Envelope(event, listeners, System.nanoTime()));
+            return;
+        }
+        laneFor(event).enqueue(new Envelope(event, listeners, System.nanoTime()));
+    }
+
+    /**
+     * Retorna os listeners aplicáveis ao tipo, consultando a tabela de hierarquia
+     */
+    @SuppressWarnings("rawtypes")
+    EventListener[] listenersFor(Class<?> eventType) {
+        EventListener[] cached = resolved.get(eventType);
+        if (cached != null) {
+            return cached;
+        }
+        int version = subscriptionVersion;
+        Set<EventListener<? extends DomainEvent>> collected = new LinkedHashSet<>();
+        for (Class<?> type : hierarchyOf(eventType)) {
+            List<EventListener<? extends DomainEvent>> listeners = subscriptions.get(type);
+            if (listeners != null) {
+                collected.addAll(listeners);
+            }
+        }
+        EventListener[] result = collected.isEmpty() ? NO_LISTENERS : collected.toArray(EventListener[]::new);
+        // Não guarda a resolução se houve inscrição concorrente durante o cálculo
+        if (version == subscriptionVersion) {
+            resolved.put(eventType, result);
+        }
+        return result;
+    }
+
+    int queueSize() {
+        int total = 0;
+        for (Lane lane : lanes) {
+            total += lane.buffer.size();
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void deliver(Envelope envelope) {
+        for (EventListener listener : envelope.listeners()) {
+            try {
+                listener.handle(envelope.event());
+            } catch (Exception e) {
+                listenerErrors.increment();
+                log.error("Erro ao processar evento {} localmente: {}", envelope.event().getEventType(), e.getMessage());
+            }
+        }
+        dispatchLatency.record(System.nanoTime() - envelope.publishedAt(), TimeUnit.NANOSECONDS);
+    }
+
+    private Lane laneFor(DomainEvent event) {
+        String aggregateId = event.getAggregateId();
+        int hash = aggregateId != null ? aggregateId.hashCode() : 0;
+        return lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+    }
+
+    /**
+     * Superclasses e interfaces do tipo, do mais específico ao mais genérico
+     */
+    private static List<Class<?>> hierarchyOf(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.poll();
+            if (current == Object.class || hierarchy.contains(current)) {
+                continue;
+            }
+            hierarchy.add(current);
+            if (current.getSuperclass() != null) {
+                pending.add(current.getSuperclass());
+            }
+            pending.addAll(List.of(current.getInterfaces()));
+        }
+        return hierarchy;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private record Envelope(DomainEvent event, EventListener[] listeners, long publishedAt) {
+    }
+
+    /**
+     * Lane de entrega: ring buffer com uma thread consumidora dedicada.
+     * A consumidora ociosa anuncia que vai dormir, confere o buffer outra vez e bloqueia sem prazo;
+     * o produtor só a acorda quando ela anunciou que dorme, então o caminho quente não faz syscalls.
+     */
+    private final class Lane implements Runnable {
+
+        private static final int SPINS_BEFORE_PARK = 100;
+        private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+        private final MpscRingBuffer<Envelope> buffer;
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile boolean sleeping;
+        private boolean started;
+
+        Lane(int index, int ringSize) {
+            this.buffer = new MpscRingBuffer<>(ringSize);
+            this.thread = new Thread(this, "local-events-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        /**
+         * Inicia a thread consumidora; chamado sob o lock das inscrições
+         */
+        void start() {
+            if (!started) {
+                started = true;
+                thread.start();
+            }
+        }
+
+        void enqueue(Envelope envelope) {
+            // Buffer cheio: o produtor aguarda, aplicando backpressure sem perder a ordem
+            while (!buffer.offer(envelope)) {
+                wake();
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+            wake();
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (running || buffer.size() > 0) {
+                Envelope envelope = buffer.poll();
+                if (envelope != null) {
+                    idle = 0;
+                    deliver(envelope);
+                } else if (++idle < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                } else {
+                    sleeping = true;
+                    // Confere de novo após anunciar: um offer concorrente vê sleeping ou é visto aqui
+                    if (running && buffer.size() == 0) {
+                        LockSupport.park(this);
+                    }
+                    sleeping = false;
+                    idle = 0;
+                }
+            }
+        }
+
+        void stop() {
+            running = false;
+            if (!started) {
+                return;
+            }
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void wake() {
+            if (sleeping) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+}
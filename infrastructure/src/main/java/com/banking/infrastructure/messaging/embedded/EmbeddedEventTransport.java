@@ -0,0 +1,374 @@
+package com.banking.infrastructure.messaging.embedded;
+
+import com.banking.domain.shared.base.DomainEvent;
+import com.banking.infrastructure.messaging.EventRoutingKeys;
+import com.banking.infrastructure.messaging.EventTransport;
+import com.banking.infrastructure.messaging.converter.DomainEventMessageConverter;
+import com.banking.infrastructure.monitoring.jfr.EventPublishEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Broker embutido para implantações de nó único (perfil embedded-broker).
+ * Os eventos são gravados em um log persistente mapeado em memória e entregues por uma
+ * thread dedicada aos mesmos métodos @RabbitListener, roteados pelos bindings declarados
+ * no RabbitMQConfig. A posição do log só é confirmada depois que todos os listeners do
+ * lote retornam; em caso de falha ou reinício o lote é reentregue (at-least-once).
+ * Um lote que falha max-attempts vezes seguidas é descartado e registrado no log, como a DLQ do RabbitMQ.
+ */
+@Service
+@Profile(EmbeddedEventTransport.PROFILE)
+public class EmbeddedEventTransport implements EventTransport {
+
+    public static final String PROFILE = "embedded-broker";
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedEventTransport.class);
+
+    private static final int SPINS_BEFORE_PARK = 100;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final DomainEventMessageConverter messageConverter;
+    private final List<Binding> bindings;
+    private final ApplicationContext applicationContext;
+    private final MappedEventLog eventLog;
+    private final int batchSize;
+    private final long retryBackoffNanos;
+    private final int maxAttempts;
+
+    private final Counter appendedCounter;
+    private final Counter deliveredCounter;
+    private final Counter redeliveredCounter;
+    private final Counter discardedCounter;
+
+    @Value("${banking.messaging.exchange:banking.events}")
+    private String exchangeName;
+
+    /**
+     * Listeners por fila e filas por routing key; acessados apenas pela thread de entrega
+     */
+    private Map<String, List<ListenerHandler>> handlers = Map.of();
+    private final Map<String, List<String>> routes = new HashMap<>();
+
+    private volatile boolean running;
+    private Thread deliveryThread;
+
+    @Autowired
+    public EmbeddedEventTransport(DomainEventMessageConverter messageConverter,
+                                  List<Binding> bindings,
+                                  ApplicationContext applicationContext,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${banking.messaging.embedded.log-dir:data/event-log}") String logDir,
+                                  @Value("${banking.messaging.embedded.segment-size-mb:64}") int segmentSizeMb,
+                                  @Value("${banking.messaging.embedded.force-on-append:false}") boolean forceOnAppend,
+                                  @Value("${banking.messaging.embedded.batch-size:100}") int batchSize,
+                                  @Value("${banking.messaging.embedded.retry-backoff-ms:1000}") long retryBackoffMillis,
+                                  @Value("${banking.messaging.embedded.max-attempts:5}") int maxAttempts) {
+        this.messageConverter = messageConverter;
+        this.bindings = bindings;
+        this.applicationContext = applicationContext;
+        this.batchSize = batchSize;
+        this.retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(retryBackoffMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        try {
+            this.eventLog = new MappedEventLog(Path.of(logDir), segmentSizeMb * 1024 * 1024, forceOnAppend);
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao abrir o log de eventos em " + logDir, e);
+        }
+
+        this.appendedCounter = Counter.builder("banking.events.embedded.appended")
+            .description("Eventos gravados no log do broker embutido")
+            .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("banking.events.embedded.delivered")
+            .description("Registros entregues e confirmados pelo broker embutido")
+            .register(meterRegistry);
+        this.redeliveredCounter = Counter.builder("banking.events.embedded.redelivered")
+            .description("Lotes reentregues após falha de um listener")
+            .register(meterRegistry);
+        this.discardedCounter = Counter.builder("banking.events.embedded.discarded")
+            .description("Registros descartados após esgotar as tentativas de entrega")
+            .register(meterRegistry);
+        Gauge.builder("banking.events.embedded.segments", eventLog, MappedEventLog::segmentCount)
+            .description("Segmentos do log ainda não totalmente consumidos")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Inicia a entrega quando a aplicação está pronta; eventos gravados antes disso,
+     * inclusive em execuções anteriores, são entregues a partir da última posição confirmada
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        handlers = discoverHandlers();
+        running = true;
+        deliveryThread = new Thread(this::deliveryLoop, "embedded-broker");
+        deliveryThread.setDaemon(true);
+        deliveryThread.start();
+        log.info("Broker embutido iniciado com listeners para as filas {}", handlers.keySet());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        if (deliveryThread != null) {
+            LockSupport.unpark(deliveryThread);
+            deliveryThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        eventLog.close();
+    }
+
+    @Override
+    public void publishEvent(DomainEvent event) {
+        publishEvent(event, EventRoutingKeys.of(event.getClass()));
+    }
+
+    @Override
+    public void publishEvent(DomainEvent event, String customRoutingKey) {
+        EventPublishEvent publishEvent = new EventPublishEvent();
+        publishEvent.begin();
+        String outcome = "failure";
+        try {
+            Message message = messageConverter.toMessage(event, new MessageProperties());
+            eventLog.append(customRoutingKey, message.getMessageProperties().getContentType(), message.getBody());
+            outcome = "success";
+        } catch (IOException e) {
+            throw new RuntimeException("Falha na publicação do evento", e);
+        } finally {
+            publishEvent.commit(PROFILE, event, customRoutingKey, outcome);
+        }
+        appendedCounter.increment();
+        Thread consumer = deliveryThread;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    @Override
+    public boolean isMessagingAvailable() {
+        Thread consumer = deliveryThread;
+        return running && consumer != null && consumer.isAlive();
+    }
+
+    private void deliveryLoop() {
+        int idle = 0;
+        int failures = 0;
+        while (running) {
+            List<MappedEventLog.LogRecord> records = eventLog.poll(batchSize);
+            if (records.isEmpty()) {
+                if (++idle < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+                continue;
+            }
+            idle = 0;
+            try {
+                deliver(records);
+                eventLog.commit(records.get(records.size() - 1).nextPosition());
+                deliveredCounter.increment(records.size());
+                failures = 0;
+            } catch (Exception e) {
+                if (++failures >= maxAttempts) {
+                    log.error("Lote de {} eventos descartado após {} tentativas: {}", records.size(), failures, e.getMessage(), e);
+                    eventLog.commit(records.get(records.size() - 1).nextPosition());
+                    discardedCounter.increment(records.size());
+                    failures = 0;
+                    continue;
+                }
+                redeliveredCounter.increment();
+                log.error("Erro ao entregar lote de {} eventos, será reentregue (tentativa {} de {}): {}",
+                    records.size(), failures, maxAttempts, e.getMessage());
+                eventLog.rewind();
+                LockSupport.parkNanos(retryBackoffNanos << Math.min(failures - 1, 6));
+            }
+        }
+    }
+
+    /**
+     * Agrupa os registros por fila de destino, mantendo a ordem, e entrega cada lote aos listeners da fila
+     */
+    private void deliver(List<MappedEventLog.LogRecord> records) throws Exception {
+        Map<String, List<Message>> byQueue = new LinkedHashMap<>();
+        for (MappedEventLog.LogRecord record : records) {
+            List<String> queues = queuesFor(record.routingKey());
+            if (queues.isEmpty()) {
+                log.debug("Evento sem fila para a routing key {} descartado", record.routingKey());
+                continue;
+            }
+            Message message = toMessage(record);
+            for (String queue : queues) {
+                byQueue.computeIfAbsent(queue, k -> new ArrayList<>()).add(message);
+            }
+        }
+        for (Map.Entry<String, List<Message>> entry : byQueue.entrySet()) {
+            for (ListenerHandler handler : handlers.getOrDefault(entry.getKey(), List.of())) {
+                handler.invoke(entry.getValue());
+            }
+        }
+    }
+
+    private Message toMessage(MappedEventLog.LogRecord record) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(record.contentType());
+        properties.setContentLength(record.body().length);
+        properties.setReceivedExchange(exchangeName);
+        properties.setReceivedRoutingKey(record.routingKey());
+        return new Message(record.body(), properties);
+    }
+
+    private List<String> queuesFor(String routingKey) {
+        return routes.computeIfAbsent(routingKey, key -> {
+            List<String> queues = new ArrayList<>();
+            for (Binding binding : bindings) {
+                if (binding.isDestinationQueue() && exchangeName.equals(binding.getExchange())
+                        && topicMatches(binding.getRoutingKey(), key)) {
+                    queues.add(binding.getDestination());
+                }
+            }
+            return queues;
+        });
+    }
+
+    /**
+     * Localiza os métodos @RabbitListener dos beans e os indexa pelas filas declaradas
+     */
+    private Map<String, List<ListenerHandler>> discoverHandlers() {
+        Map<String, List<ListenerHandler>> discovered = new HashMap<>();
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(beanName);
+            if (type == null) {
+                continue;
+            }
+            Map<Method, RabbitListener> methods = MethodIntrospector.selectMethods(ClassUtils.getUserClass(type),
+                (MethodIntrospector.MetadataLookup<RabbitListener>) method ->
+                    AnnotatedElementUtils.findMergedAnnotation(method, RabbitListener.class));
+            if (methods.isEmpty()) {
+                continue;
+            }
+            Object bean = applicationContext.getBean(beanName);
+            methods.forEach((method, listener) -> {
+                Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+                ReflectionUtils.makeAccessible(invocable);
+                ListenerHandler handler = new ListenerHandler(bean, invocable, ListenerHandler.Kind.of(method));
+                for (String queue : listener.queues()) {
+                    String queueName = applicationContext.getEnvironment().resolvePlaceholders(queue);
+                    discovered.computeIfAbsent(queueName, k -> new ArrayList<>()).add(handler);
+                }
+            });
+        }
+        return discovered;
+    }
+
+    /**
+     * Verifica a routing key contra o padrão de um binding de topic exchange (* = uma palavra, # = zero ou mais)
+     */
+    static boolean topicMatches(String pattern, String routingKey) {
+        return topicMatches(pattern.split("\\."), 0, routingKey.split("\\."), 0);
+    }
+
+    private static boolean topicMatches(String[] pattern, int p, String[] words, int w) {
+        if (p == pattern.length) {
+            return w == words.length;
+        }
+        if ("#".equals(pattern[p])) {
+            for (int next = w; next <= words.length; next++) {
+                if (topicMatches(pattern, p + 1, words, next)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return w < words.length
+            && ("*".equals(pattern[p]) || pattern[p].equals(words[w]))
+            && topicMatches(pattern, p + 1, words, w + 1);
+    }
+
+    /**
+     * Método listener: recebe o lote inteiro (List&lt;Message&gt;), cada Message ou cada payload convertido
+     */
+    private final class ListenerHandler {
+
+        enum Kind {
+            BATCH,
+            MESSAGE,
+            PAYLOAD;
+
+            static Kind of(Method method) {
+                Class<?>[] parameters = method.getParameterTypes();
+                if (parameters.length != 1) {
+                    throw new IllegalStateException("Listener com parâmetros não suportados pelo broker embutido: " + method);
+                }
+                if (List.class.isAssignableFrom(parameters[0])) {
+                    return BATCH;
+                }
+                return Message.class.isAssignableFrom(parameters[0]) ? MESSAGE : PAYLOAD;
+            }
+        }
+
+        private final Object bean;
+        private final Method method;
+        private final Kind kind;
+
+        ListenerHandler(Object bean, Method method, Kind kind) {
+            this.bean = bean;
+            this.method = method;
+            this.kind = kind;
+        }
+
+        void invoke(List<Message> messages) throws Exception {
+            switch (kind) {
+                case BATCH -> call(messages);
+                case MESSAGE -> {
+                    for (Message message : messages) {
+                        call(message);
+                    }
+                }
+                case PAYLOAD -> {
+                    for (Message message : messages) {
+                        call(messageConverter.fromMessage(message));
+                    }
+                }
+            }
+        }
+
+        private void call(Object argument) throws Exception {
+            try {
+                method.invoke(bean, argument);
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.banking.infrastructure.messaging.embedded;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Log de eventos persistente, dividido em segmentos de arquivo mapeados em memória.
+ * Cada registro é gravado como [tamanho][crc32c][payload] e só fica visível ao leitor
+ * depois de completo; a posição confirmada pelo leitor é mantida em um arquivo próprio,
+ * também mapeado, para que a entrega seja retomada do mesmo ponto após um reinício.
+ * Suporta vários produtores (append sob ReentrantLock, seguro para virtual threads) e um único leitor.
+ */
+final class MappedEventLog implements Closeable {
+
+    private static final int HEADER_SIZE = 8;
+    private static final int END_OF_SEGMENT = -1;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String OFFSET_FILE = "consumer.offset";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceOnAppend;
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private final FileChannel offsetChannel;
+    private final MappedByteBuffer offsetBuffer;
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    private Segment writeSegment;
+    private int writeOffset;
+    /**
+     * Posição logo após o último registro completo; é o limite de leitura
+     */
+    private volatile long published;
+
+    private long committed;
+    private long readPosition;
+
+    MappedEventLog(Path directory, int segmentSize, boolean forceOnAppend) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forceOnAppend = forceOnAppend;
+        Files.createDirectories(directory);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    int index = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                    segments.put(index, openSegment(index));
+                }
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(0, openSegment(0));
+        }
+        this.writeSegment = segments.lastEntry().getValue();
+        this.writeOffset = recover(writeSegment);
+        this.published = position(writeSegment.index(), writeOffset);
+
+        this.offsetChannel = FileChannel.open(directory.resolve(OFFSET_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.offsetBuffer = offsetChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+        long stored = offsetBuffer.getLong(0);
+        // Offset ausente, de um segmento já removido ou além do que foi recuperado: recomeça do primeiro segmento
+        if (!segments.containsKey(segmentOf(stored)) || Long.compareUnsigned(stored, published) > 0) {
+            stored = position(segments.firstKey(), 0);
+        }
+        this.committed = stored;
+        this.readPosition = stored;
+        deleteSegmentsBefore(segmentOf(stored));
+    }
+
+    /**
+     * Acrescenta um registro ao final do log
+     */
+    void append(String routingKey, String contentType, byte[] body) throws IOException {
+        appendLock.lock();
+        try {
+            byte[] key = routingKey.getBytes(StandardCharsets.UTF_8);
+            byte[] type = (contentType != null ? contentType : "").getBytes(StandardCharsets.UTF_8);
+            int length = Short.BYTES + key.length + Short.BYTES + type.length + body.length;
+            int recordSize = HEADER_SIZE + length;
+            if (recordSize > segmentSize) {
+                throw new IOException("Evento de " + recordSize + " bytes excede o tamanho do segmento do log");
+            }
+            if (writeOffset + recordSize > writeSegment.capacity()) {
+                roll();
+            }
+
+            MappedByteBuffer buffer = writeSegment.buffer();
+            int payload = writeOffset + HEADER_SIZE;
+            buffer.putShort(payload, (short) key.length);
+            buffer.put(payload + Short.BYTES, key);
+            int typeAt = payload + Short.BYTES + key.length;
+            buffer.putShort(typeAt, (short) type.length);
+            buffer.put(typeAt + Short.BYTES, type);
+            buffer.put(typeAt + Short.BYTES + type.length, body);
+            buffer.putInt(writeOffset + Integer.BYTES, checksum(buffer, payload, length));
+            // O tamanho é gravado por último: um registro interrompido no meio não passa na recuperação
+            buffer.putInt(writeOffset, length);
+            if (forceOnAppend) {
+                buffer.force(writeOffset, recordSize);
+            }
+            writeOffset += recordSize;
+            published = position(writeSegment.index(), writeOffset);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Lê até maxRecords registros a partir da posição de leitura atual
+     */
+    List<LogRecord> poll(int maxRecords) {
+        List<LogRecord> records = new ArrayList<>();
+        long limit = published;
+        while (records.size() < maxRecords && readPosition != limit) {
+            int index = segmentOf(readPosition);
+            int offset = offsetOf(readPosition);
+            Segment segment = segments.get(index);
+            MappedByteBuffer buffer = segment.buffer();
+            if (index < segmentOf(limit) && (offset + HEADER_SIZE > segment.capacity() || buffer.getInt(offset) == END_OF_SEGMENT)) {
+                readPosition = position(index + 1, 0);
+                continue;
+            }
+
+            int length = buffer.getInt(offset);
+            int payload = offset + HEADER_SIZE;
+            int keyLength = buffer.getShort(payload);
+            String routingKey = readString(buffer, payload + Short.BYTES, keyLength);
+            int typeAt = payload + Short.BYTES + keyLength;
+            int typeLength = buffer.getShort(typeAt);
+            String contentType = typeLength > 0 ? readString(buffer, typeAt + Short.BYTES, typeLength) : null;
+            int bodyAt = typeAt + Short.BYTES + typeLength;
+            byte[] body = new byte[payload + length - bodyAt];
+            buffer.get(bodyAt, body);
+
+            readPosition = position(index, payload + length);
+            records.add(new LogRecord(routingKey, contentType, body, readPosition));
+        }
+        return records;
+    }
+
+    /**
+     * Confirma a entrega até a posição informada e remove os segmentos já consumidos
+     */
+    void commit(long position) {
+        committed = position;
+        offsetBuffer.putLong(0, position);
+        if (forceOnAppend) {
+            offsetBuffer.force();
+        }
+        deleteSegmentsBefore(segmentOf(position));
+    }
+
+    /**
+     * Volta a leitura para a última posição confirmada, para reentregar registros
+     */
+    void rewind() {
+        readPosition = committed;
+    }
+
+    boolean hasPending() {
+        return readPosition != published;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.buffer().force();
+                segment.channel().close();
+            }
+            offsetBuffer.force();
+            offsetChannel.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        MappedByteBuffer buffer = writeSegment.buffer();
+        if (writeOffset + Integer.BYTES <= writeSegment.capacity()) {
+            buffer.putInt(writeOffset, END_OF_SEGMENT);
+        }
+        buffer.force();
+        Segment next = openSegment(writeSegment.index() + 1);
+        segments.put(next.index(), next);
+        writeSegment = next;
+        writeOffset = 0;
+    }
+
+    /**
+     * Percorre o segmento validando os registros e retorna a posição após o último íntegro
+     */
+    private static int recover(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer();
+        int offset = 0;
+        while (offset + HEADER_SIZE <= segment.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + HEADER_SIZE + length > segment.capacity()
+                    || buffer.getInt(offset + Integer.BYTES) != checksum(buffer, offset + HEADER_SIZE, length)) {
+                break;
+            }
+            offset += HEADER_SIZE + length;
+        }
+        return offset;
+    }
+
+    private Segment openSegment(int index) throws IOException {
+        Path path = directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Segmentos existentes mantêm o tamanho com que foram criados
+        long size = Math.max(channel.size(), segmentSize);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new Segment(index, path, channel, buffer);
+    }
+
+    private void deleteSegmentsBefore(int index) {
+        Map.Entry<Integer, Segment> first;
+        while ((first = segments.firstEntry()) != null && first.getKey() < index) {
+            Segment segment = first.getValue();
+            segments.remove(first.getKey());
+            try {
+                segment.channel().close();
+                Files.deleteIfExists(segment.path());
+            } catch (IOException e) {
+                throw new IllegalStateException("Falha ao remover segmento do log de eventos: " + segment.path(), e);
+            }
+        }
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static String readString(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long position(int segment, int offset) {
+        return ((long) segment << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentOf(long position) {
+        return (int) (position >>> 32);
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    /**
+     * Registro lido do log, com a posição seguinte a ser confirmada após a entrega
+     */
+    record LogRecord(String routingKey, String contentType, byte[] body, long nextPosition) {
+    }
+
+    private record Segment(int index, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        int capacity() {
+            return buffer.capacity();
+        }
+    }
+}
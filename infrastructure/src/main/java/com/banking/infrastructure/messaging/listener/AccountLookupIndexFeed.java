@@ -0,0 +1,89 @@
+package com.banking.infrastructure.messaging.listener;
+
+import com.banking.domain.account.event.AccountCreated;
+import com.banking.domain.account.event.AccountDeleted;
+import com.banking.domain.shared.base.DomainEvent;
+import com.banking.infrastructure.messaging.converter.DomainEventMessageConverter;
+import com.banking.infrastructure.messaging.embedded.EmbeddedEventTransport;
+import com.banking.infrastructure.persistence.index.AccountLookupIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.ConsumeOkEvent;
+import org.springframework.amqp.rabbit.listener.ListenerContainerConsumerFailedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mantém o AccountLookupIndex desta instância a partir de uma fila exclusiva (anônima e auto-delete)
+ * ligada às routing keys de criação e exclusão de contas: cada instância recebe todos os eventos.
+ * A confirmação da assinatura pelo broker recarrega o índice e a falha do consumidor o tira de prontidão.
+ */
+@Component
+@Profile("!" + EmbeddedEventTransport.PROFILE)
+public class AccountLookupIndexFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountLookupIndexFeed.class);
+
+    public static final String LISTENER_ID = "accountLookupIndexListener";
+
+    private final DomainEventMessageConverter messageConverter;
+    private final AccountLookupIndex lookupIndex;
+    private final String queueName;
+
+    @Autowired
+    public AccountLookupIndexFeed(DomainEventMessageConverter messageConverter, AccountLookupIndex lookupIndex,
+                                  @Qualifier("accountLookupQueue") AnonymousQueue accountLookupQueue) {
+        this.messageConverter = messageConverter;
+        this.lookupIndex = lookupIndex;
+        this.queueName = accountLookupQueue.getName();
+    }
+
+    /**
+     * Aplica ao índice, na ordem de chegada, as contas criadas e excluídas em qualquer instância
+     */
+    @RabbitListener(id = LISTENER_ID,
+                    queues = "#{accountLookupQueue.name}",
+                    containerFactory = "batchRabbitListenerContainerFactory")
+    public void handleAccountKeys(List<Message> messages) {
+        for (Message message : messages) {
+            for (DomainEvent event : messageConverter.toEvents(message)) {
+                if (event instanceof AccountCreated created) {
+                    lookupIndex.register(created.getAccountId(), created.getHolderCpf(), created.getAccountNumber());
+                } else if (event instanceof AccountDeleted deleted) {
+                    lookupIndex.unregister(deleted.getHolderCpf(), deleted.getAccountNumber());
+                }
+            }
+        }
+    }
+
+    /**
+     * Assinatura confirmada (na partida ou após reconexão): recarrega o índice fora da thread do consumidor
+     */
+    @Async
+    @EventListener
+    public void onConsumeOk(ConsumeOkEvent event) {
+        if (queueName.equals(event.getQueue())) {
+            log.info("Assinatura da fila {} confirmada, recarregando o índice de contas", queueName);
+            lookupIndex.feedConnected();
+        }
+    }
+
+    @EventListener
+    public void onConsumerFailed(ListenerContainerConsumerFailedEvent event) {
+        if (event.getSource() instanceof AbstractMessageListenerContainer container
+                && LISTENER_ID.equals(container.getListenerId())) {
+            log.warn("Consumidor da fila {} falhou, índice de contas fora de prontidão: {}", queueName, event.getReason());
+            lookupIndex.feedLost();
+        }
+    }
+}
@@ -1,137 +1,175 @@
 package com.banking.infrastructure.messaging.listener;
 
+import com.banking.application.account.query.GetAccountBalanceQuery;
+import com.banking.application.account.query.GetAccountQuery;
+import com.banking.application.shared.interfaces.CacheService;
 import com.banking.domain.account.event.AccountCreated;
+import com.banking.domain.shared.base.DomainEvent;
 import com.banking.domain.transfer.event.TransferCompleted;
 import com.banking.domain.transfer.event.TransferFailed;
+import com.banking.infrastructure.messaging.converter.DomainEventMessageConverter;
+import com.banking.infrastructure.transfer.JdbcTransferRollups;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Listeners para eventos de domínio usando RabbitMQ.
- * Processa eventos assíncronos para operações complementares.
+ * Cada invocação recebe um lote de mensagens (que podem conter vários eventos empacotados)
+ * e executa os efeitos colaterais do lote inteiro em operações agregadas.
  */
 @Component
 public class DomainEventListener {
 
+    private static final Logger log = LoggerFactory.getLogger(DomainEventListener.class);
+
+    public static final String ACCOUNT_CREATED_LISTENER = "accountCreatedListener";
+    public static final String TRANSFER_COMPLETED_LISTENER = "transferCompletedListener";
+    public static final String TRANSFER_FAILED_LISTENER = "transferFailedListener";
+
+    private final DomainEventMessageConverter messageConverter;
+    private final CacheService cacheService;
+    private final JdbcTransferRollups transferRollups;
+
+    @Autowired
+    public DomainEventListener(DomainEventMessageConverter messageConverter, CacheService cacheService,
+                               JdbcTransferRollups transferRollups) {
+        this.messageConverter = messageConverter;
+        this.cacheService = cacheService;
+        this.transferRollups = transferRollups;
+    }
+
     /**
      * Processa eventos de conta criada
      */
-    @RabbitListener(queues = "${banking.messaging.queues.account-created:banking.account.created}")
-    public void handleAccountCreated(AccountCreated event) {
+    @RabbitListener(id = ACCOUNT_CREATED_LISTENER,
+                    queues = "${banking.messaging.queues.account-created:banking.account.created}",
+                    containerFactory = "batchRabbitListenerContainerFactory")
+    public void handleAccountCreated(List<Message> messages) {
+        List<AccountCreated> events = expand(messages, AccountCreated.class);
         try {
-            System.out.println("=== EVENTO: Conta Criada ===");
-            System.out.println("Account ID: " + event.getAccountId());
-            System.out.println("Account Number: " + event.getAccountNumber());
-            System.out.println("Holder Name: " + event.getHolderName());
-            System.out.println("Timestamp: " + event.getOccurredOn());
-            
-            // Aqui você pode implementar lógicas complementares como:
-            // - Envio de email de boas-vindas
-            // - Criação de registros de auditoria
-            // - Integração com sistemas externos
-            // - Atualização de caches
-            
-            processAccountCreatedSideEffects(event);
-            
+            processAccountCreatedSideEffects(events);
         } catch (Exception e) {
-            System.err.println("Erro ao processar evento de conta criada: " + e.getMessage());
-            // Em produção, implementar retry logic e dead letter queue
+            log.error("Erro ao processar lote de {} eventos de conta criada: {}", events.size(), e.getMessage());
         }
     }
 
     /**
      * Processa eventos de transferência completada
      */
-    @RabbitListener(queues = "${banking.messaging.queues.transfer-completed:banking.transfer.completed}")
-    public void handleTransferCompleted(TransferCompleted event) {
+    @RabbitListener(id = TRANSFER_COMPLETED_LISTENER,
+                    queues = "${banking.messaging.queues.transfer-completed:banking.transfer.completed}",
+                    containerFactory = "batchRabbitListenerContainerFactory")
+    public void handleTransferCompleted(List<Message> messages) {
+        List<TransferCompleted> events = expand(messages, TransferCompleted.class);
         try {
-            System.out.println("=== EVENTO: Transferência Completada ===");
-            System.out.println("Transfer ID: " + event.getTransferId());
-            System.out.println("From Account: " + event.getFromAccountId());
-            System.out.println("To Account: " + event.getToAccountId());
-            System.out.println("Amount: " + event.getAmount());
-            System.out.println("Timestamp: " + event.getOccurredOn());
-            
-            // Lógicas complementares para transferência completada:
-            // - Notificações push/email para ambas as contas
-            // - Atualização de relatórios em tempo real
-            // - Sincronização com sistemas de contabilidade
-            // - Cálculo de cashback/recompensas
-            
-            processTransferCompletedSideEffects(event);
-            
+            processTransferCompletedSideEffects(events);
         } catch (Exception e) {
-            System.err.println("Erro ao processar evento de transferência completada: " + e.getMessage());
+            log.error("Erro ao processar lote de {} eventos de transferência completada: {}", events.size(), e.getMessage());
         }
+        recordRollups(events);
     }
 
     /**
      * Processa eventos de transferência falhada
      */
-    @RabbitListener(queues = "${banking.messaging.queues.transfer-failed:banking.transfer.failed}")
-    public void handleTransferFailed(TransferFailed event) {
+    @RabbitListener(id = TRANSFER_FAILED_LISTENER,
+                    queues = "${banking.messaging.queues.transfer-failed:banking.transfer.failed}",
+                    containerFactory = "batchRabbitListenerContainerFactory")
+    public void handleTransferFailed(List<Message> messages) {
+        List<TransferFailed> events = expand(messages, TransferFailed.class);
         try {
-            System.out.println("=== EVENTO: Transferência Falhada ===");
-            System.out.println("Transfer ID: " + event.getTransferId());
-            System.out.println("From Account: " + event.getFromAccountId());
-            System.out.println("To Account: " + event.getToAccountId());
-            System.out.println("Amount: " + event.getAmount());
-            System.out.println("Reason: " + event.getReason());
-            System.out.println("Timestamp: " + event.getOccurredOn());
-            
-            // Lógicas para transferência falhada:
-            // - Notificação de falha para o usuário
-            // - Log detalhado para análise
-            // - Potencial revert de operações relacionadas
-            // - Alertas para equipe de suporte
-            
-            processTransferFailedSideEffects(event);
-            
+            processTransferFailedSideEffects(events);
         } catch (Exception e) {
-            System.err.println("Erro ao processar evento de transferência falhada: " + e.getMessage());
+            log.error("Erro ao processar lote de {} eventos de transferência falhada: {}", events.size(), e.getMessage());
+        }
+        recordRollups(events);
+    }
+
+    /**
+     * Processa efeitos colaterais da criação de contas.
+     * O índice de CPF e número de conta é mantido pelo AccountLookupIndexFeed, que recebe todos os
+     * eventos numa fila por instância; esta fila é compartilhada e cada evento chega a uma só instância
+     */
+    private void processAccountCreatedSideEffects(List<AccountCreated> events) {
+        log.debug("Lote de {} contas criadas recebido", events.size());
+    }
+
+    /**
+     * Processa efeitos colaterais das transferências completadas:
+     * invalida de uma vez os caches de conta e saldo de todas as contas envolvidas no lote
+     */
+    private void processTransferCompletedSideEffects(List<TransferCompleted> events) {
+        Set<String> accountIds = new LinkedHashSet<>();
+        for (TransferCompleted event : events) {
+            accountIds.add(event.getFromAccountId());
+            accountIds.add(event.getToAccountId());
         }
+        evictAccountCaches(accountIds);
+        log.debug("Lote de {} transferências completadas processado ({} contas)", events.size(), accountIds.size());
     }
 
     /**
-     * Processa efeitos colaterais da criação de conta
+     * Processa efeitos colaterais das transferências falhadas
      */
-    private void processAccountCreatedSideEffects(AccountCreated event) {
-        // Implementar lógicas específicas do negócio
-        System.out.println("Processando efeitos colaterais da criação de conta...");
-        
-        // Exemplo: Cache warming
-        // cacheService.put("account:" + event.getAccountId(), event, Duration.ofHours(1));
-        
-        // Exemplo: Auditoria
-        // auditService.logAccountCreation(event);
-        
-        // Exemplo: Integração externa
-        // externalService.notifyAccountCreation(event);
+    private void processTransferFailedSideEffects(List<TransferFailed> events) {
+        for (TransferFailed event : events) {
+            log.warn("Transferência {} falhou: {}", event.getTransferId(), event.getReason());
+        }
     }
 
     /**
-     * Processa efeitos colaterais da transferência completada
+     * Atualiza os agregados de transferências (minuto, hora e dia) com o lote.
+     * Uma falha é propagada para o container, que reprocessa o lote com backoff e, esgotadas as tentativas,
+     * o envia à DLQ: os efeitos colaterais acima são idempotentes e os eventos já agregados são
+     * descartados pela deduplicação dos agregados
      */
-    private void processTransferCompletedSideEffects(TransferCompleted event) {
-        System.out.println("Processando efeitos colaterais da transferência completada...");
-        
-        // Exemplo: Atualização de estatísticas
-        // statisticsService.updateTransferStats(event);
-        
-        // Exemplo: Notificações
-        // notificationService.sendTransferCompletedNotification(event);
+    private void recordRollups(List<? extends DomainEvent> events) {
+        try {
+            transferRollups.record(events);
+        } catch (Exception e) {
+            log.error("Erro ao agregar lote de {} eventos de transferência: {}", events.size(), e.getMessage());
+            throw new AmqpException("Falha ao agregar eventos de transferência", e);
+        }
+    }
+
+    private void evictAccountCaches(Set<String> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(accountIds.size() * 2);
+        for (String accountId : accountIds) {
+            keys.add(GetAccountBalanceQuery.of(accountId).getCacheKey());
+            keys.add(GetAccountQuery.of(accountId).getCacheKey());
+        }
+        cacheService.evictAll(keys.toArray(String[]::new));
     }
 
     /**
-     * Processa efeitos colaterais da transferência falhada
+     * Converte o lote de mensagens nos eventos do tipo esperado, desempacotando mensagens com vários eventos
      */
-    private void processTransferFailedSideEffects(TransferFailed event) {
-        System.out.println("Processando efeitos colaterais da transferência falhada...");
-        
-        // Exemplo: Alertas
-        // alertService.sendTransferFailureAlert(event);
-        
-        // Exemplo: Métricas
-        // metricsService.incrementFailureCounter(event.getReason());
+    private <T extends DomainEvent> List<T> expand(List<Message> messages, Class<T> type) {
+        List<T> events = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                for (DomainEvent event : messageConverter.toEvents(message)) {
+                    if (type.isInstance(event)) {
+                        events.add(type.cast(event));
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Mensagem descartada por falha na conversão: {}", e.getMessage());
+            }
+        }
+        return events;
     }
-}
\ No newline at end of file
+}
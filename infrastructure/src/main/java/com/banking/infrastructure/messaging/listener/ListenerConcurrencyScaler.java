@@ -0,0 +1,111 @@
+package com.banking.infrastructure.messaging.listener;
+
+import com.banking.infrastructure.messaging.embedded.EmbeddedEventTransport;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ajusta a concorrência dos listeners de eventos conforme a profundidade das filas.
+ * Escala para cima de uma vez até o número necessário de consumidores e para baixo
+ * um consumidor por ciclo, evitando oscilação após picos.
+ */
+@Component
+@Profile("!" + EmbeddedEventTransport.PROFILE)
+public class ListenerConcurrencyScaler {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerConcurrencyScaler.class);
+
+    private final RabbitListenerEndpointRegistry registry;
+    private final AmqpAdmin amqpAdmin;
+    private final MeterRegistry meterRegistry;
+    private final int minConsumers;
+    private final int maxConsumers;
+    private final int messagesPerConsumer;
+
+    private final Map<String, Integer> currentConsumers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> queueDepths = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ListenerConcurrencyScaler(RabbitListenerEndpointRegistry registry,
+                                     AmqpAdmin amqpAdmin,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${banking.messaging.consumer.min-consumers:1}") int minConsumers,
+                                     @Value("${banking.messaging.consumer.max-consumers:8}") int maxConsumers,
+                                     @Value("${banking.messaging.consumer.messages-per-consumer:500}") int messagesPerConsumer) {
+        this.registry = registry;
+        this.amqpAdmin = amqpAdmin;
+        this.meterRegistry = meterRegistry;
+        this.minConsumers = minConsumers;
+        this.maxConsumers = maxConsumers;
+        this.messagesPerConsumer = messagesPerConsumer;
+    }
+
+    /**
+     * Verifica as filas e ajusta o número de consumidores de cada listener
+     */
+    @Scheduled(fixedDelayString = "${banking.messaging.consumer.scale-interval-ms:5000}")
+    public void scale() {
+        for (String listenerId : registry.getListenerContainerIds()) {
+            if (AccountLookupIndexFeed.LISTENER_ID.equals(listenerId)) {
+                // Um único consumidor preserva a ordem entre criação e exclusão de uma conta
+                continue;
+            }
+            MessageListenerContainer container = registry.getListenerContainer(listenerId);
+            if (container instanceof SimpleMessageListenerContainer simple && simple.isRunning()) {
+                try {
+                    scale(listenerId, simple);
+                } catch (Exception e) {
+                    log.warn("Não foi possível ajustar a concorrência do listener {}: {}", listenerId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void scale(String listenerId, SimpleMessageListenerContainer container) {
+        long depth = 0;
+        for (String queueName : container.getQueueNames()) {
+            QueueInformation info = amqpAdmin.getQueueInfo(queueName);
+            if (info != null) {
+                depth += info.getMessageCount();
+                depthGauge(queueName).set(info.getMessageCount());
+            }
+        }
+
+        int current = currentConsumers.getOrDefault(listenerId, minConsumers);
+        int needed = (int) Math.min(maxConsumers, Math.max(minConsumers, (depth + messagesPerConsumer - 1) / messagesPerConsumer));
+        int target = needed >= current ? needed : current - 1;
+
+        if (target != current) {
+            container.setConcurrentConsumers(target);
+            log.info("Listener {}: {} -> {} consumidores (profundidade da fila: {})", listenerId, current, target, depth);
+        }
+        currentConsumers.put(listenerId, target);
+    }
+
+    private AtomicLong depthGauge(String queueName) {
+        return queueDepths.computeIfAbsent(queueName, name -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("banking.events.queue.depth", value, AtomicLong::get)
+                .description("Mensagens aguardando consumo")
+                .tag("queue", name)
+                .register(meterRegistry);
+            return value;
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package com.banking.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas dos Command/Query Handlers: latência por handler e resultado, falhas por tipo
+ * de exceção e acertos de cache das queries. Os medidores são criados uma vez por
+ * combinação de tags e reaproveitados nas chamadas seguintes.
+ */
+public class HandlerMetrics {
+
+    public static final String HANDLER_DURATION = "banking.handler.duration";
+    public static final String HANDLER_EXCEPTIONS = "banking.handler.exceptions";
+    public static final String CACHE_REQUESTS = "banking.handler.cache.requests";
+    public static final String CACHE_HIT_RATIO = "banking.handler.cache.hit.ratio";
+
+    private static final String NO_HANDLER = "none";
+
+    /**
+     * Handler em execução na thread, usado para atribuir os acessos ao cache
+     */
+    private static final ThreadLocal<String> CURRENT_HANDLER = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> exceptions = new ConcurrentHashMap<>();
+    private final Map<String, CacheStats> cacheStats = new ConcurrentHashMap<>();
+
+    public HandlerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Marca o início da execução de um handler na thread atual; retorna o handler anterior
+     */
+    String enter(String handler) {
+        String previous = CURRENT_HANDLER.get();
+        CURRENT_HANDLER.set(handler);
+        return previous;
+    }
+
+    void exit(String previous) {
+        if (previous == null) {
+            CURRENT_HANDLER.remove();
+        } else {
+            CURRENT_HANDLER.set(previous);
+        }
+    }
+
+    void recordSuccess(String handler, String type, long elapsedNanos) {
+        timer(handler, type, "success").record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordFailure(String handler, String type, Throwable error, long elapsedNanos) {
+        timer(handler, type, "failure").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        String exception = error.getClass().getSimpleName();
+        exceptions.computeIfAbsent(handler + '|' + exception, k -> Counter.builder(HANDLER_EXCEPTIONS)
+            .description("Exceções lançadas pelos handlers")
+            .tag("handler", handler)
+            .tag("type", type)
+            .tag("exception", exception)
+            .register(meterRegistry)).increment();
+    }
+
+    /**
+     * Registra um acesso ao cache, atribuído ao handler em execução na thread
+     */
+    void recordCacheAccess(boolean hit) {
+        String handler = CURRENT_HANDLER.get();
+        cacheStats.computeIfAbsent(handler != null ? handler : NO_HANDLER, CacheStats::new).record(hit);
+    }
+
+    private Timer timer(String handler, String type, String outcome) {
+        return timers.computeIfAbsent(handler + '|' + outcome, k -> Timer.builder(HANDLER_DURATION)
+            .description("Tempo de execução dos handlers de comandos e consultas")
+            .tag("handler", handler)
+            .tag("type", type)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+
+    /**
+     * Acertos e faltas de cache de um handler, com a razão de acerto exposta como gauge
+     */
+    private final class CacheStats {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final Counter hitCounter;
+        private final Counter missCounter;
+
+        CacheStats(String handler) {
+            this.hitCounter = Counter.builder(CACHE_REQUESTS)
+                .description("Consultas ao cache feitas pelos handlers")
+                .tag("handler", handler)
+                .tag("result", "hit")
+                .register(meterRegistry);
+            this.missCounter = Counter.builder(CACHE_REQUESTS)
+                .description("Consultas ao cache feitas pelos handlers")
+                .tag("handler", handler)
+                .tag("result", "miss")
+                .register(meterRegistry);
+            Gauge.builder(CACHE_HIT_RATIO, this, CacheStats::hitRatio)
+                .description("Razão de acertos de cache do handler")
+                .tag("handler", handler)
+                .register(meterRegistry);
+        }
+
+        void record(boolean hit) {
+            if (hit) {
+                hits.increment();
+                hitCounter.increment();
+            } else {
+                misses.increment();
+                missCounter.increment();
+            }
+        }
+
+        double hitRatio() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.banking.infrastructure.monitoring;
+
+import com.banking.application.shared.base.CommandHandler;
+import com.banking.application.shared.base.QueryHandler;
+import com.banking.application.shared.interfaces.CacheService;
+import com.banking.application.transfer.command.ProcessTransferCommand;
+import com.banking.infrastructure.monitoring.jfr.TransferProcessingEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Optional;
+
+/**
+ * Decora os Command/Query Handlers e o CacheService com a coleta de métricas.
+ * O método handle de cada handler é cronometrado e tem o resultado contabilizado;
+ * as leituras de cache feitas durante a execução são atribuídas ao handler corrente.
+ * Transferências também geram um evento JFR (TransferProcessingEvent).
+ */
+@Component
+public class HandlerMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile HandlerMetrics metrics;
+
+    public HandlerMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof CommandHandler<?, ?>) {
+            return decorate(bean, new HandlerInterceptor(handlerName(bean), "command"));
+        }
+        if (bean instanceof QueryHandler<?, ?>) {
+            return decorate(bean, new HandlerInterceptor(handlerName(bean), "query"));
+        }
+        if (bean instanceof CacheService) {
+            return decorate(bean, new CacheInterceptor());
+        }
+        return bean;
+    }
+
+    /**
+     * Resolve o registry na primeira chamada, evitando instanciá-lo durante o registro dos post-processors
+     */
+    private HandlerMetrics metrics() {
+        HandlerMetrics current = metrics;
+        if (current == null) {
+            synchronized (this) {
+                current = metrics;
+                if (current == null) {
+                    current = new HandlerMetrics(meterRegistry.getObject());
+                    metrics = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Object decorate(Object bean, MethodInterceptor interceptor) {
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(interceptor);
+        return factory.getProxy(ClassUtils.getDefaultClassLoader());
+    }
+
+    private static String handlerName(Object bean) {
+        return ClassUtils.getUserClass(bean).getSimpleName();
+    }
+
+    private final class HandlerInterceptor implements MethodInterceptor {
+
+        private final String handler;
+        private final String type;
+
+        HandlerInterceptor(String handler, String type) {
+            this.handler = handler;
+            this.type = type;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (!"handle".equals(invocation.getMethod().getName()) || invocation.getArguments().length != 1) {
+                return invocation.proceed();
+            }
+            HandlerMetrics handlerMetrics = metrics();
+            TransferProcessingEvent transferEvent = invocation.getArguments()[0] instanceof ProcessTransferCommand
+                ? new TransferProcessingEvent() : null;
+            if (transferEvent != null) {
+                transferEvent.begin();
+            }
+            String previous = handlerMetrics.enter(handler);
+            long start = System.nanoTime();
+            String outcome = "failure";
+            try {
+                Object result = invocation.proceed();
+                handlerMetrics.recordSuccess(handler, type, System.nanoTime() - start);
+                outcome = "success";
+                return result;
+            } catch (Throwable e) {
+                handlerMetrics.recordFailure(handler, type, e, System.nanoTime() - start);
+                throw e;
+            } finally {
+                handlerMetrics.exit(previous);
+                if (transferEvent != null) {
+                    commit(transferEvent, (ProcessTransferCommand) invocation.getArguments()[0], outcome);
+                }
+            }
+        }
+    }
+
+    private static void commit(TransferProcessingEvent event, ProcessTransferCommand command, String outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.fromAccountId = command.getFromAccountId();
+            event.toAccountId = command.getToAccountId();
+            event.amount = String.valueOf(command.getAmount());
+            event.idempotencyKey = command.getIdempotencyKey();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    private final class CacheInterceptor implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            if ("get".equals(invocation.getMethod().getName()) && result instanceof Optional<?> value) {
+                metrics().recordCacheAccess(value.isPresent());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.banking.infrastructure.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint do Actuator com as contas de maior contenção recente: transferências,
+ * conflitos de versão e tempo de espera por lock (estimativas dos sketches, com decaimento).
+ */
+@Component
+@Endpoint(id = "hotaccounts")
+public class HotAccountsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final SketchAccountContentionTracker tracker;
+
+    public HotAccountsEndpoint(SketchAccountContentionTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public Map<String, Object> hotAccounts(@Nullable Integer limit) {
+        int size = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("transfers", describe(tracker.topTransfers(size), "transfers", 1));
+        result.put("conflicts", describe(tracker.topConflicts(size), "conflicts", 1));
+        result.put("lockWait", describe(tracker.topLockWaits(size), "waitMs", 1000));
+        return result;
+    }
+
+    private static List<Map<String, Object>> describe(List<Map.Entry<String, Long>> entries, String field, long divisor) {
+        return entries.stream().map(entry -> {
+            Map<String, Object> account = new LinkedHashMap<>();
+            account.put("accountId", entry.getKey());
+            account.put(field, divisor == 1 ? entry.getValue() : entry.getValue() / (double) divisor);
+            return account;
+        }).toList();
+    }
+}
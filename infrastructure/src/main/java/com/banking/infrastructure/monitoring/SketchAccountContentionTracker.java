@@ -0,0 +1,95 @@
+package com.banking.infrastructure.monitoring;
+
+import com.banking.application.shared.interfaces.AccountContentionTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detector de contas quentes baseado em sketches de memória fixa.
+ * Mantém um TopKSketch para frequência de transferências, outro para conflitos de versão
+ * e outro para tempo de espera por lock (em microssegundos); os pesos decaem pela metade
+ * a cada intervalo para refletir a contenção recente.
+ */
+@Component
+public class SketchAccountContentionTracker implements AccountContentionTracker {
+
+    private final TopKSketch transfers;
+    private final TopKSketch conflicts;
+    private final TopKSketch lockWaits;
+    private final Counter conflictCounter;
+    private final Timer lockWaitTimer;
+
+    @Autowired
+    public SketchAccountContentionTracker(MeterRegistry meterRegistry,
+                                          @Value("${banking.monitoring.hot-accounts.depth:4}") int depth,
+                                          @Value("${banking.monitoring.hot-accounts.width:4096}") int width,
+                                          @Value("${banking.monitoring.hot-accounts.top-k:32}") int topK) {
+        this.transfers = new TopKSketch(depth, width, topK);
+        this.conflicts = new TopKSketch(depth, width, topK);
+        this.lockWaits = new TopKSketch(depth, width, topK);
+
+        this.conflictCounter = Counter.builder("banking.accounts.contention.conflicts")
+            .description("Conflitos de versão ao gravar contas")
+            .register(meterRegistry);
+        this.lockWaitTimer = Timer.builder("banking.accounts.contention.lock.wait")
+            .description("Tempo de espera para gravar contas")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Gauge.builder("banking.accounts.hot.transfer.share", transfers, TopKSketch::topShare)
+            .description("Fração das transferências recentes concentrada nas contas mais ativas")
+            .register(meterRegistry);
+        Gauge.builder("banking.accounts.hot.conflict.share", conflicts, TopKSketch::topShare)
+            .description("Fração dos conflitos recentes concentrada nas contas com mais conflitos")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void recordTransfer(String fromAccountId, String toAccountId) {
+        transfers.add(fromAccountId, 1);
+        transfers.add(toAccountId, 1);
+    }
+
+    @Override
+    public void recordConflict(String accountId) {
+        conflicts.add(accountId, 1);
+        conflictCounter.increment();
+    }
+
+    @Override
+    public void recordLockWait(String accountId, long waitNanos) {
+        lockWaits.add(accountId, TimeUnit.NANOSECONDS.toMicros(waitNanos));
+        lockWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${banking.monitoring.hot-accounts.decay-interval-ms:60000}")
+    public void decay() {
+        transfers.decay();
+        conflicts.decay();
+        lockWaits.decay();
+    }
+
+    public List<Map.Entry<String, Long>> topTransfers(int limit) {
+        return transfers.top(limit);
+    }
+
+    public List<Map.Entry<String, Long>> topConflicts(int limit) {
+        return conflicts.top(limit);
+    }
+
+    /**
+     * Contas com maior tempo de espera acumulado, em microssegundos
+     */
+    public List<Map.Entry<String, Long>> topLockWaits(int limit) {
+        return lockWaits.top(limit);
+    }
+}
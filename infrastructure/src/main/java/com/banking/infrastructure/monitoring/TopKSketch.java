@@ -0,0 +1,183 @@
+package com.banking.infrastructure.monitoring;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Count-min sketch com atualização conservadora e lista dos K itens mais pesados.
+ * O sketch estima o peso acumulado de qualquer chave em memória fixa (depth x width);
+ * a lista guarda apenas as K chaves com maior estimativa, substituindo a menor quando
+ * uma chave de fora a ultrapassa. Usa ReentrantLock em vez de synchronized para não
+ * fixar a carrier thread quando chamado de virtual threads.
+ */
+final class TopKSketch {
+
+    private final long[] counters;
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final int capacity;
+    private final Map<String, Long> top;
+    private final int[] indexes;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private String minKey;
+    private long minValue;
+    private long total;
+
+    TopKSketch(int depth, int requestedWidth, int capacity) {
+        this.depth = depth;
+        this.width = Integer.highestOneBit(Math.max(2, requestedWidth) - 1) << 1;
+        this.mask = width - 1;
+        this.counters = new long[depth * width];
+        this.capacity = capacity;
+        this.top = new HashMap<>(capacity * 2);
+        this.indexes = new int[depth];
+    }
+
+    /**
+     * Soma o peso à chave e retorna a nova estimativa
+     */
+    long add(String key, long weight) {
+        lock.lock();
+        try {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            long current = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                indexes[row] = row * width + ((h1 + row * h2) & mask);
+                current = Math.min(current, counters[indexes[row]]);
+            }
+            long estimate = current + weight;
+            // Atualização conservadora: só eleva os contadores que ficariam abaixo da nova estimativa
+            for (int row = 0; row < depth; row++) {
+                if (counters[indexes[row]] < estimate) {
+                    counters[indexes[row]] = estimate;
+                }
+            }
+            total += weight;
+            offer(key, estimate);
+            return estimate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Chaves mais pesadas, da maior para a menor estimativa
+     */
+    List<Map.Entry<String, Long>> top(int limit) {
+        lock.lock();
+        try {
+            List<Map.Entry<String, Long>> entries = new ArrayList<>(top.entrySet().size());
+            for (Map.Entry<String, Long> entry : top.entrySet()) {
+                entries.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+            entries.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+            return entries.size() > limit ? entries.subList(0, limit) : entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fração do peso total concentrada nas K chaves mais pesadas
+     */
+    double topShare() {
+        lock.lock();
+        try {
+            if (total == 0) {
+                return 0.0;
+            }
+            long sum = 0;
+            for (long value : top.values()) {
+                sum += value;
+            }
+            return Math.min(1.0, (double) sum / total);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reduz todos os pesos à metade, para que as estimativas reflitam a atividade recente
+     */
+    void decay() {
+        lock.lock();
+        try {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] >>>= 1;
+            }
+            total >>>= 1;
+            Iterator<Map.Entry<String, Long>> iterator = top.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                long value = entry.getValue() >>> 1;
+                if (value == 0) {
+                    iterator.remove();
+                } else {
+                    entry.setValue(value);
+                }
+            }
+            recomputeMin();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void offer(String key, long estimate) {
+        if (top.containsKey(key)) {
+            top.put(key, estimate);
+            if (key.equals(minKey)) {
+                recomputeMin();
+            }
+            return;
+        }
+        if (top.size() < capacity) {
+            top.put(key, estimate);
+            if (minKey == null || estimate < minValue) {
+                minKey = key;
+                minValue = estimate;
+            }
+            return;
+        }
+        if (estimate > minValue) {
+            top.remove(minKey);
+            top.put(key, estimate);
+            recomputeMin();
+        }
+    }
+
+    private void recomputeMin() {
+        minKey = null;
+        minValue = Long.MAX_VALUE;
+        for (Map.Entry<String, Long> entry : top.entrySet()) {
+            if (entry.getValue() < minValue) {
+                minKey = entry.getKey();
+                minValue = entry.getValue();
+            }
+        }
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre os bytes da chave, com mistura final
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
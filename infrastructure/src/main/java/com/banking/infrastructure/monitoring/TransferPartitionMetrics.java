@@ -0,0 +1,30 @@
+package com.banking.infrastructure.monitoring;
+
+import com.banking.application.transfer.command.TransferDispatcher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas das partições do TransferDispatcher: fila de cada partição e
+ * volume de transferências entre contas de partições diferentes.
+ */
+@Component
+public class TransferPartitionMetrics {
+
+    @Autowired
+    public TransferPartitionMetrics(TransferDispatcher dispatcher, MeterRegistry meterRegistry) {
+        for (int i = 0; i < dispatcher.partitionCount(); i++) {
+            int partition = i;
+            Gauge.builder("banking.transfer.partition.backlog", dispatcher, d -> d.backlog(partition))
+                .description("Transferências aguardando execução na partição")
+                .tag("partition", String.valueOf(partition))
+                .register(meterRegistry);
+        }
+        FunctionCounter.builder("banking.transfer.partition.cross", dispatcher, TransferDispatcher::crossPartitionCount)
+            .description("Transferências entre contas de partições diferentes")
+            .register(meterRegistry);
+    }
+}
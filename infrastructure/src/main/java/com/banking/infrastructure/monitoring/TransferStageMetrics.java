@@ -0,0 +1,196 @@
+package com.banking.infrastructure.monitoring;
+
+import com.banking.application.shared.interfaces.TransferStageRecorder;
+import com.banking.application.transfer.command.TransferStage;
+import com.banking.application.transfer.command.TransferStageTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Agrega os tempos por etapa das transferências amostradas.
+ * Cada etapa alimenta um histograma (banking.transfer.stage.duration) e as transferências
+ * mais lentas são guardadas por janela de tempo: a janela atual e a anterior formam
+ * a lista de transferências lentas recentes exposta pelo TransferStagesEndpoint.
+ */
+@Component
+public class TransferStageMetrics implements TransferStageRecorder {
+
+    public static final String STAGE_DURATION = "banking.transfer.stage.duration";
+
+    private final double sampleRate;
+    private final int slowestSize;
+    private final long windowMillis;
+    private final Timer[] stageTimers;
+    private final Timer totalTimer;
+
+    private final ReentrantLock windowLock = new ReentrantLock();
+    private SlowestWindow current;
+    private SlowestWindow previous;
+
+    @Autowired
+    public TransferStageMetrics(MeterRegistry meterRegistry,
+                                @Value("${banking.monitoring.transfer-stages.sample-rate:0.1}") double sampleRate,
+                                @Value("${banking.monitoring.transfer-stages.slowest-size:20}") int slowestSize,
+                                @Value("${banking.monitoring.transfer-stages.window-seconds:300}") long windowSeconds) {
+        this.sampleRate = sampleRate;
+        this.slowestSize = slowestSize;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+
+        TransferStage[] stages = TransferStage.values();
+        this.stageTimers = new Timer[stages.length];
+        for (TransferStage stage : stages) {
+            stageTimers[stage.ordinal()] = stageTimer(meterRegistry, stage.name().toLowerCase());
+        }
+        this.totalTimer = stageTimer(meterRegistry, "total");
+
+        long now = System.currentTimeMillis();
+        this.current = new SlowestWindow(now);
+        this.previous = new SlowestWindow(now - windowMillis);
+    }
+
+    @Override
+    public TransferStageTrace start() {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return TransferStageTrace.NOOP;
+        }
+        return TransferStageTrace.start();
+    }
+
+    @Override
+    public void record(TransferStageTrace trace) {
+        if (!trace.isActive()) {
+            return;
+        }
+        for (TransferStage stage : TransferStage.values()) {
+            long nanos = trace.stageNanos(stage);
+            if (nanos > 0) {
+                stageTimers[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        totalTimer.record(trace.totalNanos(), TimeUnit.NANOSECONDS);
+
+        long now = System.currentTimeMillis();
+        SlowestWindow window = windowFor(now);
+        if (trace.totalNanos() > window.threshold) {
+            window.offer(new SlowTransfer(trace, Instant.ofEpochMilli(now)));
+        }
+    }
+
+    public double sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Transferências mais lentas das duas últimas janelas, da mais lenta para a mais rápida
+     */
+    public List<SlowTransfer> slowest() {
+        List<SlowTransfer> result = new ArrayList<>();
+        SlowestWindow older;
+        SlowestWindow newer;
+        windowLock.lock();
+        try {
+            older = previous;
+            newer = current;
+        } finally {
+            windowLock.unlock();
+        }
+        result.addAll(older.snapshot());
+        result.addAll(newer.snapshot());
+        result.sort(Comparator.comparingLong(SlowTransfer::totalNanos).reversed());
+        return result.size() > slowestSize ? result.subList(0, slowestSize) : result;
+    }
+
+    private SlowestWindow windowFor(long now) {
+        windowLock.lock();
+        try {
+            if (now - current.startedAt >= windowMillis) {
+                previous = current;
+                current = new SlowestWindow(now);
+            }
+            return current;
+        } finally {
+            windowLock.unlock();
+        }
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder(STAGE_DURATION)
+            .description("Tempo de cada etapa do processamento de transferências")
+            .tag("stage", stage)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Transferência lenta com os tempos por etapa
+     */
+    public record SlowTransfer(String transferId, boolean success, long totalNanos,
+                               Map<TransferStage, Long> stageNanos, Instant completedAt) {
+
+        SlowTransfer(TransferStageTrace trace, Instant completedAt) {
+            this(trace.transferId(), trace.isSuccess(), trace.totalNanos(), stagesOf(trace), completedAt);
+        }
+
+        private static Map<TransferStage, Long> stagesOf(TransferStageTrace trace) {
+            Map<TransferStage, Long> stages = new EnumMap<>(TransferStage.class);
+            for (TransferStage stage : TransferStage.values()) {
+                stages.put(stage, trace.stageNanos(stage));
+            }
+            return stages;
+        }
+    }
+
+    /**
+     * Heap mínimo com as N transferências mais lentas de uma janela; o limiar evita
+     * adquirir o lock para transferências mais rápidas que a mais lenta já guardada
+     */
+    private final class SlowestWindow {
+
+        private final long startedAt;
+        private final PriorityQueue<SlowTransfer> heap = new PriorityQueue<>(Comparator.comparingLong(SlowTransfer::totalNanos));
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long threshold = -1;
+
+        SlowestWindow(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        void offer(SlowTransfer transfer) {
+            lock.lock();
+            try {
+                heap.offer(transfer);
+                if (heap.size() > slowestSize) {
+                    heap.poll();
+                }
+                if (heap.size() == slowestSize) {
+                    threshold = heap.peek().totalNanos();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<SlowTransfer> snapshot() {
+            lock.lock();
+            try {
+                return new ArrayList<>(heap);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
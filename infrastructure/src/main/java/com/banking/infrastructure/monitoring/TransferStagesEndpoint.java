@@ -0,0 +1,58 @@
+package com.banking.infrastructure.monitoring;
+
+import com.banking.application.transfer.command.TransferStage;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint do Actuator com as transferências mais lentas recentes e seus tempos por etapa (em ms).
+ */
+@Component
+@Endpoint(id = "transferstages")
+public class TransferStagesEndpoint {
+
+    private final TransferStageMetrics stageMetrics;
+
+    public TransferStagesEndpoint(TransferStageMetrics stageMetrics) {
+        this.stageMetrics = stageMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowest() {
+        List<Map<String, Object>> transfers = stageMetrics.slowest().stream()
+            .map(TransferStagesEndpoint::describe)
+            .toList();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sampleRate", stageMetrics.sampleRate());
+        result.put("slowest", transfers);
+        return result;
+    }
+
+    private static Map<String, Object> describe(TransferStageMetrics.SlowTransfer transfer) {
+        Map<String, Object> stages = new LinkedHashMap<>();
+        long measured = 0;
+        for (Map.Entry<TransferStage, Long> entry : transfer.stageNanos().entrySet()) {
+            stages.put(entry.getKey().name().toLowerCase(), millis(entry.getValue()));
+            measured += entry.getValue();
+        }
+        // Tempo não atribuído a nenhuma etapa (ex.: espera por uma duplicata em andamento)
+        stages.put("other", millis(Math.max(0, transfer.totalNanos() - measured)));
+
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("transferId", transfer.transferId());
+        description.put("success", transfer.success());
+        description.put("completedAt", transfer.completedAt().toString());
+        description.put("totalMs", millis(transfer.totalNanos()));
+        description.put("stagesMs", stages);
+        return description;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,31 @@
+package com.banking.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Carga ou gravação de conta no AccountRepositoryImpl.
+ */
+@Name("com.banking.AccountRepository")
+@Label("Account Repository")
+@Category({"Banking", "Persistence"})
+@Description("Carga ou gravação de conta no AccountRepositoryImpl.")
+@StackTrace(false)
+public class AccountRepositoryEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Account")
+    public String accountId;
+
+    @Label("Found")
+    public boolean found;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,31 @@
+package com.banking.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Leitura ou escrita no cache Redis.
+ */
+@Name("com.banking.Cache")
+@Label("Cache Operation")
+@Category({"Banking", "Cache"})
+@Description("Leitura ou escrita no cache Redis.")
+@StackTrace(false)
+public class CacheOperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Hit")
+    public boolean hit;
+
+    @Label("Outcome")
+    public String outcome;
+}
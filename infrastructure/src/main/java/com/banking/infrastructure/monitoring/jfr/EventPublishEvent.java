@@ -0,0 +1,54 @@
+package com.banking.infrastructure.monitoring.jfr;
+
+import com.banking.domain.shared.base.DomainEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Publicação de um evento de domínio no transporte de mensageria.
+ */
+@Name("com.banking.EventPublish")
+@Label("Domain Event Publish")
+@Category({"Banking", "Messaging"})
+@Description("Publicação de um evento de domínio no transporte de mensageria.")
+@StackTrace(false)
+public class EventPublishEvent extends Event {
+
+    @Label("Transport")
+    public String transport;
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Event Id")
+    public String eventId;
+
+    @Label("Aggregate")
+    public String aggregateId;
+
+    @Label("Routing Key")
+    public String routingKey;
+
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * Finaliza e grava o evento, preenchendo os campos só quando a gravação está ativa
+     */
+    public void commit(String transport, DomainEvent domainEvent, String routingKey, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.transport = transport;
+            this.eventType = domainEvent.getEventType();
+            this.eventId = domainEvent.getEventId();
+            this.aggregateId = domainEvent.getAggregateId();
+            this.routingKey = routingKey;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
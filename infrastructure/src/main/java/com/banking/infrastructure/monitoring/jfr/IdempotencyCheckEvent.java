@@ -0,0 +1,31 @@
+package com.banking.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Consulta ou registro de chave de idempotência.
+ */
+@Name("com.banking.IdempotencyCheck")
+@Label("Idempotency Check")
+@Category({"Banking", "Persistence"})
+@Description("Consulta ou registro de chave de idempotência.")
+@StackTrace(false)
+public class IdempotencyCheckEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Source")
+    public String source;
+
+    @Label("Result")
+    public String result;
+
+    @Label("Outcome")
+    public String outcome;
+}
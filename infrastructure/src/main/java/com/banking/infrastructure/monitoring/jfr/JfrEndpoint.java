@@ -0,0 +1,126 @@
+package com.banking.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Endpoint do Actuator para gravações JFR sob demanda.
+ * POST inicia uma gravação com as configurações do JDK (default ou profile), que incluem
+ * os eventos com.banking.*; GET /actuator/jfr/{nome} grava o conteúdo atual em arquivo
+ * temporário, removido ao fim do download; DELETE encerra a gravação.
+ * O endpoint não é exposto por padrão e exige o papel ADMIN quando exposto.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrEndpoint.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path dumpDirectory;
+    private final String defaultSettings;
+    private final Duration defaultMaxAge;
+
+    private Recording recording;
+
+    public JfrEndpoint(@Value("${banking.monitoring.jfr.dump-dir:${java.io.tmpdir}}") String dumpDirectory,
+                       @Value("${banking.monitoring.jfr.settings:profile}") String defaultSettings,
+                       @Value("${banking.monitoring.jfr.max-age-minutes:10}") long defaultMaxAgeMinutes) {
+        this.dumpDirectory = Path.of(dumpDirectory);
+        this.defaultSettings = defaultSettings;
+        this.defaultMaxAge = Duration.ofMinutes(defaultMaxAgeMinutes);
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", RecordingState.NEW.name());
+            return status;
+        }
+        status.put("name", recording.getName());
+        status.put("state", recording.getState().name());
+        status.put("startTime", String.valueOf(recording.getStartTime()));
+        status.put("maxAge", String.valueOf(recording.getMaxAge()));
+        return status;
+    }
+
+    /**
+     * Inicia uma gravação contínua; uma gravação já em andamento é mantida
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings, @Nullable Long maxAgeMinutes) throws IOException, ParseException {
+        if (recording == null || recording.getState() == RecordingState.CLOSED || recording.getState() == RecordingState.STOPPED) {
+            closeRecording();
+            Configuration configuration = Configuration.getConfiguration(settings != null ? settings : defaultSettings);
+            recording = new Recording(configuration);
+            recording.setName("banking-" + LocalDateTime.now().format(FILE_TIMESTAMP));
+            recording.setToDisk(true);
+            recording.setMaxAge(maxAgeMinutes != null ? Duration.ofMinutes(maxAgeMinutes) : defaultMaxAge);
+            recording.start();
+            log.info("Gravação JFR {} iniciada", recording.getName());
+        }
+        return status();
+    }
+
+    /**
+     * Grava o conteúdo atual da gravação em arquivo temporário e o retorna;
+     * o arquivo é apagado quando o stream da resposta é fechado
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource dump(@Selector String name) throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("Nenhuma gravação JFR em andamento");
+        }
+        Files.createDirectories(dumpDirectory);
+        String fileName = name.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + UUID.randomUUID() + ".jfr";
+        Path file = dumpDirectory.resolve(fileName);
+        try {
+            recording.dump(file);
+            log.info("Gravação JFR {} salva em {}", recording.getName(), file);
+            return new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        closeRecording();
+        return status();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            log.info("Gravação JFR {} encerrada", recording.getName());
+            recording = null;
+        }
+    }
+}
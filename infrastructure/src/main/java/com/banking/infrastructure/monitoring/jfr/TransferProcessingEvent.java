@@ -0,0 +1,34 @@
+package com.banking.infrastructure.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Processamento de uma transferência pelo ProcessTransferHandler.
+ */
+@Name("com.banking.Transfer")
+@Label("Transfer Processing")
+@Category({"Banking", "Domain"})
+@Description("Processamento de uma transferência pelo ProcessTransferHandler.")
+@StackTrace(false)
+public class TransferProcessingEvent extends Event {
+
+    @Label("From Account")
+    public String fromAccountId;
+
+    @Label("To Account")
+    public String toAccountId;
+
+    @Label("Amount")
+    public String amount;
+
+    @Label("Idempotency Key")
+    public String idempotencyKey;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,154 @@
+package com.banking.infrastructure.persistence.counters;
+
+import com.banking.application.shared.interfaces.TransactionManager.Workload;
+import com.banking.infrastructure.persistence.routing.WorkloadContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verificador periódico dos contadores agregados.
+ * Recalcula os valores a partir das tabelas de origem e compara com os contadores no mesmo
+ * snapshot (REPEATABLE READ), de modo que gravações concorrentes não aparecem como divergência.
+ * Divergências são registradas em métrica e, se habilitado, corrigidas com uma variação compensatória.
+ * Um advisory lock transacional garante que apenas uma instância verifique e corrija por vez;
+ * como ele é o primeiro comando da transação, o snapshot já enxerga a correção de quem o liberou.
+ */
+@Component
+public class AggregateCounterVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(AggregateCounterVerifier.class);
+
+    private static final String EXPECTED_ACCOUNTS =
+        "SELECT ? AS name, ? AS bucket, COUNT(*) AS count_value, COALESCE(SUM(balance), 0) AS sum_value " +
+        "FROM accounts WHERE is_active = true";
+    private static final String EXPECTED_TRANSFER_TOTALS =
+        "SELECT 'transfers.' || status AS name, ? AS bucket, COUNT(*) AS count_value, COALESCE(SUM(amount), 0) AS sum_value " +
+        "FROM transfers GROUP BY status";
+    private static final String EXPECTED_TRANSFER_HOURS =
+        "SELECT 'transfers.' || status AS name, date_trunc('hour', created_at) AS bucket, COUNT(*) AS count_value, " +
+        "COALESCE(SUM(amount), 0) AS sum_value FROM transfers WHERE created_at >= ? " +
+        "GROUP BY status, date_trunc('hour', created_at)";
+    private static final String TRY_LOCK =
+        "SELECT pg_try_advisory_xact_lock(hashtext('aggregate_counters'), 0)";
+    private static final String ACTUAL =
+        "SELECT name, bucket, SUM(count_value) AS count_value, SUM(sum_value) AS sum_value FROM aggregate_counters " +
+        "WHERE bucket = ? OR bucket >= ? GROUP BY name, bucket";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AggregateCounters counters;
+    private final TransactionTemplate snapshot;
+    private final MeterRegistry meterRegistry;
+    private final int verifyHours;
+    private final boolean repair;
+
+    @Autowired
+    public AggregateCounterVerifier(JdbcTemplate jdbcTemplate,
+                                    AggregateCounters counters,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${banking.counters.verifier.hours:24}") int verifyHours,
+                                    @Value("${banking.counters.verifier.repair:true}") boolean repair) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.counters = counters;
+        this.snapshot = new TransactionTemplate(transactionManager);
+        this.snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.meterRegistry = meterRegistry;
+        this.verifyHours = verifyHours;
+        this.repair = repair;
+    }
+
+    /**
+     * Compara os contadores com os valores recalculados: totais e as últimas horas
+     */
+    @Scheduled(cron = "${banking.counters.verifier.cron:0 */10 * * * *}")
+    public void verify() {
+        if (!counters.isEnabled()) {
+            return;
+        }
+        try {
+            // Recalcular exige varrer as tabelas: executa no pool de lotes
+            Integer drifted = WorkloadContext.call(Workload.BATCH, () -> snapshot.execute(status -> verifySnapshot()));
+            if (drifted == null) {
+                log.debug("Verificação dos contadores agregados em andamento em outra instância");
+            } else if (drifted > 0) {
+                log.warn("{} contadores agregados divergentes{}", drifted, repair ? " corrigidos" : "");
+            }
+        } catch (Exception e) {
+            log.warn("Falha na verificação dos contadores agregados: {}", e.getMessage());
+        }
+    }
+
+    private Integer verifySnapshot() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK, Boolean.class))) {
+            return null;
+        }
+        Timestamp total = Timestamp.valueOf(AggregateCounters.TOTAL);
+        Timestamp since = Timestamp.valueOf(AggregateCounters.hourOf(LocalDateTime.now()).minusHours(verifyHours));
+
+        Map<String, AggregateCounters.Delta> expected = new HashMap<>();
+        collect(expected, EXPECTED_ACCOUNTS, AggregateCounters.ACCOUNTS_ACTIVE, total);
+        collect(expected, EXPECTED_TRANSFER_TOTALS, total);
+        collect(expected, EXPECTED_TRANSFER_HOURS, since);
+
+        Map<String, AggregateCounters.Delta> actual = new HashMap<>();
+        collect(actual, ACTUAL, total, since);
+
+        List<AggregateCounters.Delta> corrections = new ArrayList<>();
+        for (String key : union(expected, actual)) {
+            AggregateCounters.Delta want = expected.get(key);
+            AggregateCounters.Delta have = actual.get(key);
+            long count = (want != null ? want.count() : 0) - (have != null ? have.count() : 0);
+            BigDecimal sum = (want != null ? want.sum() : BigDecimal.ZERO).subtract(have != null ? have.sum() : BigDecimal.ZERO);
+            if (count == 0 && sum.signum() == 0) {
+                continue;
+            }
+            AggregateCounters.Delta reference = want != null ? want : have;
+            corrections.add(new AggregateCounters.Delta(reference.name(), reference.bucket(), count, sum));
+            meterRegistry.counter("banking.counters.drift", "counter", reference.name()).increment();
+            log.warn("Contador {} ({}) divergente: quantidade {}, soma {}", reference.name(), reference.bucket(), count, sum);
+        }
+        if (repair && !corrections.isEmpty()) {
+            counters.apply(corrections);
+        }
+        return corrections.size();
+    }
+
+    private void collect(Map<String, AggregateCounters.Delta> target, String sql, Object... args) {
+        jdbcTemplate.query(sql, rs -> {
+            AggregateCounters.Delta delta = new AggregateCounters.Delta(
+                rs.getString("name"),
+                rs.getTimestamp("bucket").toLocalDateTime(),
+                rs.getLong("count_value"),
+                rs.getBigDecimal("sum_value"));
+            target.put(delta.name() + "@" + delta.bucket(), delta);
+        }, args);
+    }
+
+    private static List<String> union(Map<String, ?> first, Map<String, ?> second) {
+        List<String> keys = new ArrayList<>(first.keySet());
+        for (String key : second.keySet()) {
+            if (!first.containsKey(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,202 @@
+package com.banking.infrastructure.persistence.counters;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Contadores agregados (quantidade e soma) mantidos na tabela aggregate_counters.
+ * As variações registradas durante uma transação são acumuladas e gravadas em lote antes do commit,
+ * na mesma transação das alterações que as originaram e depois do flush delas, de modo que as linhas
+ * dos contadores só ficam bloqueadas durante o commit. Cada transação escreve em uma stripe
+ * sorteada e as linhas são atualizadas em ordem fixa, evitando disputa e deadlock entre transações.
+ */
+@Component
+public class AggregateCounters {
+
+    /**
+     * Bucket que guarda o total do contador
+     */
+    public static final LocalDateTime TOTAL = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public static final String ACCOUNTS_ACTIVE = "accounts.active";
+    private static final String TRANSFERS_PREFIX = "transfers.";
+
+    private static final String UPSERT =
+        "INSERT INTO aggregate_counters (name, bucket, stripe, count_value, sum_value) VALUES (?, ?, ?, ?, ?) " +
+        "ON CONFLICT (name, bucket, stripe) DO UPDATE SET " +
+        "count_value = aggregate_counters.count_value + EXCLUDED.count_value, " +
+        "sum_value = aggregate_counters.sum_value + EXCLUDED.sum_value";
+    private static final String SELECT_BUCKET =
+        "SELECT COALESCE(SUM(count_value), 0) AS count_value, COALESCE(SUM(sum_value), 0) AS sum_value " +
+        "FROM aggregate_counters WHERE name = ? AND bucket = ?";
+    private static final String SELECT_RANGE =
+        "SELECT COALESCE(SUM(count_value), 0) AS count_value, COALESCE(SUM(sum_value), 0) AS sum_value " +
+        "FROM aggregate_counters WHERE name = ? AND bucket >= ? AND bucket < ? AND bucket <> ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int stripes;
+
+    @Autowired
+    public AggregateCounters(JdbcTemplate jdbcTemplate,
+                             @Value("${banking.counters.enabled:true}") boolean enabled,
+                             @Value("${banking.counters.stripes:8}") int stripes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.stripes = Math.max(1, stripes);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Nome do contador de transferências em um status
+     */
+    public static String transfers(String status) {
+        return TRANSFERS_PREFIX + status;
+    }
+
+    /**
+     * Bucket horário de um instante
+     */
+    public static LocalDateTime hourOf(LocalDateTime instant) {
+        return instant.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    /**
+     * Registra uma variação do contador. Dentro de uma transação a variação é acumulada e gravada
+     * antes do commit; fora de uma transação é gravada imediatamente.
+     */
+    public void record(String name, LocalDateTime bucket, long count, BigDecimal sum) {
+        if (!enabled || (count == 0 && sum.signum() == 0)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(new Delta(name, bucket, count, sum)));
+            return;
+        }
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(name, bucket, count, sum);
+    }
+
+    /**
+     * Total do contador
+     */
+    public Totals total(String name) {
+        return jdbcTemplate.queryForObject(SELECT_BUCKET, (rs, rowNum) ->
+            new Totals(rs.getLong("count_value"), rs.getBigDecimal("sum_value")), name, Timestamp.valueOf(TOTAL));
+    }
+
+    /**
+     * Soma dos buckets horários em [from, to); os limites devem estar alinhados à hora
+     */
+    public Totals between(String name, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject(SELECT_RANGE, (rs, rowNum) ->
+            new Totals(rs.getLong("count_value"), rs.getBigDecimal("sum_value")),
+            name, Timestamp.valueOf(from), Timestamp.valueOf(to), Timestamp.valueOf(TOTAL));
+    }
+
+    /**
+     * Grava as variações imediatamente, na transação corrente se houver uma
+     */
+    void apply(List<Delta> deltas) {
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        jdbcTemplate.batchUpdate(UPSERT, deltas, deltas.size(), (ps, delta) -> {
+            ps.setString(1, delta.name());
+            ps.setTimestamp(2, Timestamp.valueOf(delta.bucket()));
+            ps.setInt(3, stripe);
+            ps.setLong(4, delta.count());
+            ps.setBigDecimal(5, delta.sum());
+        });
+    }
+
+    /**
+     * Quantidade e soma de um contador
+     */
+    public record Totals(long count, BigDecimal sum) {
+    }
+
+    record Delta(String name, LocalDateTime bucket, long count, BigDecimal sum) {
+    }
+
+    private record Key(String name, LocalDateTime bucket) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byName = name.compareTo(other.name);
+            return byName != 0 ? byName : bucket.compareTo(other.bucket);
+        }
+    }
+
+    /**
+     * Variações acumuladas na transação; ordenadas por (name, bucket) para que todas as
+     * transações bloqueiem as linhas na mesma ordem
+     */
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final Map<Key, Delta> deltas = new TreeMap<>();
+
+        void add(String name, LocalDateTime bucket, long count, BigDecimal sum) {
+            deltas.merge(new Key(name, bucket), new Delta(name, bucket, count, sum),
+                (a, b) -> new Delta(name, bucket, a.count() + b.count(), a.sum().add(b.sum())));
+        }
+
+        // Transação suspensa (ex.: REQUIRES_NEW): a transação interna acumula as próprias variações
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(AggregateCounters.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(AggregateCounters.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // O JPA só faria o flush no commit, depois deste callback: sem o flush antecipado a transação
+            // seguraria a linha global do contador enquanto espera o lock de uma conta disputada
+            if (!readOnly && entityManager.isJoinedToTransaction()) {
+                entityManager.flush();
+            }
+            List<Delta> changed = new ArrayList<>(deltas.size());
+            for (Delta delta : deltas.values()) {
+                if (delta.count() != 0 || delta.sum().signum() != 0) {
+                    changed.add(delta);
+                }
+            }
+            if (!changed.isEmpty()) {
+                apply(changed);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AggregateCounters.this);
+        }
+    }
+}
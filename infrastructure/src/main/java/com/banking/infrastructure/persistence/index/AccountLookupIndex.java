@@ -0,0 +1,198 @@
+package com.banking.infrastructure.persistence.index;
+
+import com.banking.application.shared.interfaces.TransactionManager;
+import com.banking.application.shared.interfaces.TransactionManager.Workload;
+import com.banking.infrastructure.messaging.embedded.EmbeddedEventTransport;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice em memória de CPF e número de conta para o ID da conta.
+ * É carregado percorrendo a tabela accounts em streaming e mantido atualizado pelas gravações locais
+ * e pelos eventos AccountCreated e AccountDeleted recebidos numa fila exclusiva desta instância
+ * (AccountLookupIndexFeed). Enquanto a assinatura dessa fila estiver ativa desde o início da última carga,
+ * o índice está pronto e é autoritativo: uma ausência dispensa o banco. Se a assinatura cair, o índice
+ * deixa de estar pronto até ser recarregado na reconexão. No broker embutido (nó único) as gravações
+ * locais bastam. Uma conta criada em outra instância só aparece aqui quando o evento chega; nessa
+ * janela as restrições UNIQUE da tabela continuam sendo a garantia final contra duplicidade.
+ */
+@Component
+public class AccountLookupIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountLookupIndex.class);
+
+    private static final int CPF_LENGTH = 11;
+    private static final int ACCOUNT_NUMBER_LENGTH = 8;
+
+    private static final String SELECT_KEYS = "SELECT id, holder_cpf, account_number FROM accounts";
+
+    private final DigitRadixIndex byCpf = new DigitRadixIndex(CPF_LENGTH);
+    private final DigitRadixIndex byAccountNumber = new DigitRadixIndex(ACCOUNT_NUMBER_LENGTH);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionManager transactionManager;
+    private final boolean enabled;
+    private final int fetchSize;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // Incrementado a cada mudança da assinatura: uma carga só deixa o índice pronto se ele não mudou durante a carga
+    private final AtomicLong feedEpoch = new AtomicLong();
+    private volatile boolean feedConnected;
+    private volatile boolean started;
+    private volatile boolean ready;
+
+    @Autowired
+    public AccountLookupIndex(JdbcTemplate jdbcTemplate,
+                              TransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              Environment environment,
+                              @Value("${banking.accounts.lookup-index.enabled:true}") boolean enabled,
+                              @Value("${banking.accounts.lookup-index.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.enabled = enabled;
+        this.fetchSize = fetchSize;
+        this.feedConnected = environment.acceptsProfiles(Profiles.of(EmbeddedEventTransport.PROFILE));
+        Gauge.builder("banking.accounts.lookup.index.size", byCpf, DigitRadixIndex::size)
+            .description("Contas no índice em memória de CPF e número de conta")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Carga inicial, quando a aplicação está pronta
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        started = true;
+        load();
+    }
+
+    /**
+     * Assinatura da fila da instância confirmada pelo broker. Eventos publicados enquanto ela esteve
+     * fora foram perdidos, então o índice é recarregado
+     */
+    public void feedConnected() {
+        feedEpoch.incrementAndGet();
+        feedConnected = true;
+        if (started) {
+            load();
+        }
+    }
+
+    /**
+     * Assinatura da fila da instância perdida: o índice deixa de ser autoritativo até a próxima carga
+     */
+    public void feedLost() {
+        feedConnected = false;
+        ready = false;
+        feedEpoch.incrementAndGet();
+    }
+
+    /**
+     * Verdadeiro quando o índice contém todas as contas confirmadas: ausências dispensam o banco
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Carrega o índice percorrendo a tabela de contas em streaming (cursor com fetch size)
+     */
+    private void load() {
+        if (!enabled) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            long epoch = feedEpoch.get();
+            if (scan()) {
+                ready = feedConnected && epoch == feedEpoch.get();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private boolean scan() {
+        long start = System.nanoTime();
+        DigitRadixIndex.Loader cpfLoader = byCpf.beginLoad();
+        DigitRadixIndex.Loader numberLoader = byAccountNumber.beginLoad();
+        try {
+            // O driver só usa cursor com fetch size dentro de uma transação; a varredura vai para o pool de lotes
+            transactionManager.executeInTransaction(Workload.BATCH, () -> {
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SELECT_KEYS);
+                    statement.setFetchSize(fetchSize);
+                    return statement;
+                }, rs -> {
+                    UUID id = UUID.fromString(rs.getString("id"));
+                    cpfLoader.add(rs.getString("holder_cpf"), id);
+                    numberLoader.add(rs.getString("account_number"), id);
+                });
+                return null;
+            });
+            cpfLoader.install();
+            numberLoader.install();
+            log.info("Índice de CPF e número de conta carregado com {} contas em {} ms",
+                byCpf.size(), (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (Exception e) {
+            log.warn("Não foi possível carregar o índice de CPF e número de conta: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public UUID findByCpf(String cpf) {
+        return byCpf.get(cpf);
+    }
+
+    public UUID findByAccountNumber(String accountNumber) {
+        return byAccountNumber.get(accountNumber);
+    }
+
+    public boolean containsCpf(String cpf) {
+        return byCpf.contains(cpf);
+    }
+
+    public boolean containsAccountNumber(String accountNumber) {
+        return byAccountNumber.contains(accountNumber);
+    }
+
+    /**
+     * Registra uma conta criada (gravação local confirmada ou evento AccountCreated)
+     */
+    public void register(String accountId, String cpf, String accountNumber) {
+        if (!enabled) {
+            return;
+        }
+        UUID id = UUID.fromString(accountId);
+        byCpf.put(cpf, id);
+        byAccountNumber.put(accountNumber, id);
+    }
+
+    /**
+     * Remove uma conta excluída
+     */
+    public void unregister(String cpf, String accountNumber) {
+        if (!enabled) {
+            return;
+        }
+        byCpf.remove(cpf);
+        byAccountNumber.remove(accountNumber);
+    }
+}
@@ -0,0 +1,285 @@
+package com.banking.infrastructure.persistence.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice em memória de chaves numéricas de tamanho fixo (CPF, número de conta) para UUIDs.
+ * Os primeiros dígitos da chave escolhem o bucket (radix); cada bucket guarda arrays primitivos
+ * ordenados (chave e UUID em dois longs) e é substituído por cópia a cada escrita, de modo que
+ * as leituras não usam locks. As escritas são serializadas por um único lock.
+ */
+final class DigitRadixIndex {
+
+    private static final int BUCKET_DIGITS = 4;
+    private static final int MAX_KEY_LENGTH = 13;
+    private static final Bucket EMPTY = new Bucket(new long[0], new long[0], new long[0]);
+
+    private final int keyLength;
+    private final long bucketDivisor;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile int size;
+    // Escritas recebidas durante uma carga, reaplicadas sobre o resultado da carga
+    private List<Runnable> pendingWrites;
+
+    DigitRadixIndex(int keyLength) {
+        if (keyLength <= BUCKET_DIGITS || keyLength > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Tamanho de chave não suportado: " + keyLength);
+        }
+        this.keyLength = keyLength;
+        this.bucketDivisor = pow10(keyLength - BUCKET_DIGITS);
+        this.buckets = new AtomicReferenceArray<>((int) pow10(BUCKET_DIGITS));
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, EMPTY);
+        }
+    }
+
+    /**
+     * Retorna o UUID associado à chave, ou null se ausente
+     */
+    UUID get(String key) {
+        long value = parse(key, keyLength);
+        if (value < 0) {
+            return null;
+        }
+        Bucket bucket = buckets.get(bucketOf(value));
+        int position = Arrays.binarySearch(bucket.keys, value);
+        return position >= 0 ? new UUID(bucket.idHi[position], bucket.idLo[position]) : null;
+    }
+
+    boolean contains(String key) {
+        long value = parse(key, keyLength);
+        return value >= 0 && Arrays.binarySearch(buckets.get(bucketOf(value)).keys, value) >= 0;
+    }
+
+    /**
+     * Associa a chave ao UUID, substituindo uma associação anterior
+     */
+    void put(String key, UUID id) {
+        long value = parse(key, keyLength);
+        if (value < 0) {
+            throw new IllegalArgumentException("Chave inválida para o índice: " + key);
+        }
+        writeLock.lock();
+        try {
+            if (pendingWrites != null) {
+                pendingWrites.add(() -> put(key, id));
+            }
+            int b = bucketOf(value);
+            Bucket bucket = buckets.get(b);
+            int position = Arrays.binarySearch(bucket.keys, value);
+            if (position >= 0) {
+                long[] idHi = bucket.idHi.clone();
+                long[] idLo = bucket.idLo.clone();
+                idHi[position] = id.getMostSignificantBits();
+                idLo[position] = id.getLeastSignificantBits();
+                buckets.set(b, new Bucket(bucket.keys, idHi, idLo));
+                return;
+            }
+            int insertAt = -position - 1;
+            buckets.set(b, new Bucket(
+                insert(bucket.keys, insertAt, value),
+                insert(bucket.idHi, insertAt, id.getMostSignificantBits()),
+                insert(bucket.idLo, insertAt, id.getLeastSignificantBits())));
+            size++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove a chave; retorna false se ela não estava no índice
+     */
+    boolean remove(String key) {
+        long value = parse(key, keyLength);
+        if (value < 0) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            if (pendingWrites != null) {
+                pendingWrites.add(() -> remove(key));
+            }
+            int b = bucketOf(value);
+            Bucket bucket = buckets.get(b);
+            int position = Arrays.binarySearch(bucket.keys, value);
+            if (position < 0) {
+                return false;
+            }
+            buckets.set(b, new Bucket(
+                delete(bucket.keys, position),
+                delete(bucket.idHi, position),
+                delete(bucket.idLo, position)));
+            size--;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Inicia uma carga completa. As escritas feitas até a instalação da carga são
+     * aplicadas ao índice atual e reaplicadas sobre o conteúdo carregado.
+     */
+    Loader beginLoad() {
+        writeLock.lock();
+        try {
+            pendingWrites = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+        return new Loader();
+    }
+
+    private int bucketOf(long value) {
+        return (int) (value / bucketDivisor);
+    }
+
+    /**
+     * Converte a chave em número; retorna -1 se não tiver exatamente o tamanho esperado ou contiver não dígitos
+     */
+    private static long parse(String key, int length) {
+        if (key == null || key.length() != length) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = key.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    private static long[] insert(long[] source, int position, long value) {
+        long[] target = new long[source.length + 1];
+        System.arraycopy(source, 0, target, 0, position);
+        target[position] = value;
+        System.arraycopy(source, position, target, position + 1, source.length - position);
+        return target;
+    }
+
+    private static long[] delete(long[] source, int position) {
+        long[] target = new long[source.length - 1];
+        System.arraycopy(source, 0, target, 0, position);
+        System.arraycopy(source, position + 1, target, position, source.length - position - 1);
+        return target;
+    }
+
+    private record Bucket(long[] keys, long[] idHi, long[] idLo) {
+    }
+
+    /**
+     * Acumula as entradas de uma carga completa em arrays primitivos e monta os buckets de uma vez
+     */
+    final class Loader {
+
+        private long[] keys = new long[1024];
+        private long[] idHi = new long[1024];
+        private long[] idLo = new long[1024];
+        private int count;
+
+        void add(String key, UUID id) {
+            long value = parse(key, keyLength);
+            if (value < 0) {
+                return;
+            }
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                idHi = Arrays.copyOf(idHi, count * 2);
+                idLo = Arrays.copyOf(idLo, count * 2);
+            }
+            keys[count] = value;
+            idHi[count] = id.getMostSignificantBits();
+            idLo[count] = id.getLeastSignificantBits();
+            count++;
+        }
+
+        /**
+         * Substitui o conteúdo do índice pelas entradas carregadas e reaplica as escritas concorrentes
+         */
+        void install() {
+            Bucket[] built = build();
+            writeLock.lock();
+            try {
+                int total = 0;
+                for (int b = 0; b < built.length; b++) {
+                    buckets.set(b, built[b]);
+                    total += built[b].keys.length;
+                }
+                size = total;
+                List<Runnable> replay = pendingWrites;
+                pendingWrites = null;
+                replay.forEach(Runnable::run);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        /**
+         * Distribui as entradas por bucket e ordena cada bucket ordenando longs que combinam
+         * o resto da chave (até 10^9, 30 bits) com a posição da entrada no bucket
+         */
+        private Bucket[] build() {
+            int bucketCount = buckets.length();
+            int[] counts = new int[bucketCount + 1];
+            for (int i = 0; i < count; i++) {
+                counts[bucketOf(keys[i]) + 1]++;
+            }
+            for (int b = 0; b < bucketCount; b++) {
+                counts[b + 1] += counts[b];
+            }
+            int[] order = new int[count];
+            int[] cursor = Arrays.copyOf(counts, bucketCount);
+            for (int i = 0; i < count; i++) {
+                order[cursor[bucketOf(keys[i])]++] = i;
+            }
+
+            Bucket[] built = new Bucket[bucketCount];
+            for (int b = 0; b < bucketCount; b++) {
+                int start = counts[b];
+                int length = counts[b + 1] - start;
+                if (length == 0) {
+                    built[b] = EMPTY;
+                    continue;
+                }
+                long[] packed = new long[length];
+                for (int i = 0; i < length; i++) {
+                    packed[i] = ((keys[order[start + i]] % bucketDivisor) << 32) | i;
+                }
+                Arrays.sort(packed);
+                long[] bucketKeys = new long[length];
+                long[] bucketHi = new long[length];
+                long[] bucketLo = new long[length];
+                for (int i = 0; i < length; i++) {
+                    int entry = order[start + (int) (packed[i] & 0xFFFFFFFFL)];
+                    bucketKeys[i] = keys[entry];
+                    bucketHi[i] = idHi[entry];
+                    bucketLo[i] = idLo[entry];
+                }
+                built[b] = new Bucket(bucketKeys, bucketHi, bucketLo);
+            }
+            return built;
+        }
+    }
+}
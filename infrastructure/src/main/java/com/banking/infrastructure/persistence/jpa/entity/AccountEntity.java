@@ -2,6 +2,7 @@ package com.banking.infrastructure.persistence.jpa.entity;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -13,6 +14,7 @@ import java.util.Objects;
  * Representa a estrutura de dados no banco de dados.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "accounts", indexes = {
     @Index(name = "idx_account_number", columnList = "account_number", unique = true),
     @Index(name = "idx_holder_cpf", columnList = "holder_cpf", unique = true),
@@ -2,6 +2,7 @@ package com.banking.infrastructure.persistence.jpa.entity;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -13,8 +14,8 @@ import java.util.Objects;
  * Representa a estrutura de dados das transferências no banco de dados.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "transfers", indexes = {
-    @Index(name = "idx_idempotency_key", columnList = "idempotency_key", unique = true),
     @Index(name = "idx_from_account", columnList = "from_account_id"),
     @Index(name = "idx_to_account", columnList = "to_account_id"),
     @Index(name = "idx_transfer_status", columnList = "status"),
@@ -39,7 +40,7 @@ public class TransferEntity {
     @Column(name = "status", length = 20, nullable = false)
     private TransferStatusEnum status;
 
-    @Column(name = "idempotency_key", length = 255, nullable = false, unique = true)
+    @Column(name = "idempotency_key", length = 255, nullable = false)
     private String idempotencyKey;
 
     @Column(name = "description", length = 500)
@@ -1,11 +1,13 @@
 package com.banking.infrastructure.persistence.jpa.repository;
 
+import com.banking.application.shared.interfaces.AccountBalanceReader.AccountBalanceView;
 import com.banking.infrastructure.persistence.jpa.entity.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,20 @@ public interface JpaAccountRepository extends JpaRepository<AccountEntity, Strin
      */
     Optional<AccountEntity> findByHolderCpf(String holderCpf);
 
+    /**
+     * Projeção de saldo da conta (id, número, saldo, ativa, versão), sem carregar a entidade
+     */
+    @Query("SELECT new com.banking.application.shared.interfaces.AccountBalanceReader$AccountBalanceView(" +
+           "a.id, a.accountNumber, a.balance, a.active, a.version) FROM AccountEntity a WHERE a.id = :id")
+    Optional<AccountBalanceView> findBalanceById(@Param("id") String id);
+
+    /**
+     * Projeções de saldo de várias contas em uma única consulta (WHERE id IN (...))
+     */
+    @Query("SELECT new com.banking.application.shared.interfaces.AccountBalanceReader$AccountBalanceView(" +
+           "a.id, a.accountNumber, a.balance, a.active, a.version) FROM AccountEntity a WHERE a.id IN :ids")
+    List<AccountBalanceView> findBalancesByIdIn(@Param("ids") Collection<String> ids);
+
     /**
      * Verifica se existe uma conta com o número especificado
      */
@@ -58,12 +74,6 @@ public interface JpaAccountRepository extends JpaRepository<AccountEntity, Strin
      */
     long countByActiveTrue();
 
-    /**
-     * Encontra contas por nome do titular (busca parcial, case insensitive)
-     */
-    @Query("SELECT a FROM AccountEntity a WHERE LOWER(a.holderName) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY a.holderName")
-    List<AccountEntity> findByHolderNameContainingIgnoreCase(@Param("name") String name);
-
     /**
      * Encontra contas com saldo acima de um valor
      */
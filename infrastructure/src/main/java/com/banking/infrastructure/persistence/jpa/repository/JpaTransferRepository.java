@@ -7,7 +7,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Repositório JPA para operações de persistência de transferências.
@@ -16,16 +15,6 @@ import java.util.Optional;
 @Repository
 public interface JpaTransferRepository extends JpaRepository<TransferEntity, String> {
 
-    /**
-     * Encontra uma transferência pela chave de idempotência
-     */
-    Optional<TransferEntity> findByIdempotencyKey(String idempotencyKey);
-
-    /**
-     * Verifica se existe uma transferência com a chave de idempotência
-     */
-    boolean existsByIdempotencyKey(String idempotencyKey);
-
     /**
      * Encontra transferências por conta de origem
      */
@@ -75,6 +64,13 @@ public interface JpaTransferRepository extends JpaRepository<TransferEntity, Str
     java.math.BigDecimal calculateTotalTransferredBetween(@Param("startDate") java.time.LocalDateTime startDate, 
                                                          @Param("endDate") java.time.LocalDateTime endDate);
 
+    /**
+     * Calcula valor total transferido em [startDate, endDate)
+     */
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM TransferEntity t WHERE t.status = 'COMPLETED' AND t.createdAt >= :startDate AND t.createdAt < :endDate")
+    java.math.BigDecimal calculateTotalTransferredFrom(@Param("startDate") java.time.LocalDateTime startDate,
+                                                      @Param("endDate") java.time.LocalDateTime endDate);
+
     /**
      * Encontra transferências com falha para análise
      */
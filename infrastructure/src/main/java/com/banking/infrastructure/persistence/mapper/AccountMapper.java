@@ -30,7 +30,8 @@ public class AccountMapper {
                 HolderName.of(entity.getHolderName()),
                 Cpf.of(entity.getHolderCpf()),
                 Balance.of(entity.getBalance()),
-                entity.getActive()
+                entity.getActive(),
+                entity.getVersion()
         );
     }
 
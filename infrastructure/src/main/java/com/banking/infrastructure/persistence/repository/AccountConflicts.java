@@ -0,0 +1,39 @@
+package com.banking.infrastructure.persistence.repository;
+
+import com.banking.infrastructure.persistence.jpa.entity.AccountEntity;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleObjectStateException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.Optional;
+
+/**
+ * Identifica a conta envolvida em um conflito de versão.
+ * O conflito aparece com tipos diferentes conforme onde o UPDATE foi executado: exceções do Hibernate
+ * ou do JPA num flush explícito, ou já traduzida pelo Spring quando surge no commit.
+ */
+public final class AccountConflicts {
+
+    private AccountConflicts() {
+    }
+
+    /**
+     * Retorna o ID da conta cujo UPDATE falhou por conflito de versão, se a falha for desse tipo
+     */
+    public static Optional<String> accountIdOf(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ObjectOptimisticLockingFailureException conflict
+                && AccountEntity.class.getName().equals(conflict.getPersistentClassName())) {
+                return Optional.ofNullable(conflict.getIdentifier()).map(Object::toString);
+            }
+            if (cause instanceof StaleObjectStateException conflict
+                && AccountEntity.class.getName().equals(conflict.getEntityName())) {
+                return Optional.ofNullable(conflict.getIdentifier()).map(Object::toString);
+            }
+            if (cause instanceof OptimisticLockException conflict && conflict.getEntity() instanceof AccountEntity account) {
+                return Optional.ofNullable(account.getId());
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -1,62 +1,143 @@
 package com.banking.infrastructure.persistence.repository;
 
+import com.banking.application.shared.interfaces.AccountContentionTracker;
+import com.banking.application.shared.interfaces.EventBus;
+import com.banking.application.shared.interfaces.TransactionManager.Workload;
 import com.banking.domain.account.entity.Account;
+import com.banking.domain.account.event.AccountDeleted;
 import com.banking.domain.account.repository.AccountRepository;
 import com.banking.domain.account.valueobject.AccountNumber;
 import com.banking.domain.account.valueobject.Cpf;
 import com.banking.domain.account.valueobject.AccountId;
+import com.banking.infrastructure.monitoring.jfr.AccountRepositoryEvent;
+import com.banking.infrastructure.persistence.counters.AggregateCounters;
+import com.banking.infrastructure.persistence.index.AccountLookupIndex;
 import com.banking.infrastructure.persistence.jpa.entity.AccountEntity;
 import com.banking.infrastructure.persistence.jpa.repository.JpaAccountRepository;
 import com.banking.infrastructure.persistence.mapper.AccountMapper;
+import com.banking.infrastructure.persistence.routing.WorkloadContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Implementação do repositório de contas usando JPA.
- * Traduz entre entidades do domínio e entidades de persistência.
+ * Traduz entre entidades do domínio e entidades de persistência; na gravação, a entidade
+ * já carregada na transação é atualizada no lugar e apenas as colunas alteradas são escritas.
+ * Buscas e verificações por CPF e número de conta consultam o AccountLookupIndex: com o índice pronto, uma ausência
+ * é respondida sem acessar o banco e um acerto carrega a conta pela chave primária (contexto de persistência primeiro);
+ * enquanto o índice não está pronto, ausências são confirmadas no banco. Exclusões publicam AccountDeleted para os
+ * índices das outras instâncias;
+ * quantidade e saldo total das contas ativas vêm dos contadores agregados, atualizados a cada gravação.
  */
 @Repository
 public class AccountRepositoryImpl implements AccountRepository {
 
     private final JpaAccountRepository jpaAccountRepository;
     private final AccountMapper accountMapper;
+    private final AccountContentionTracker contentionTracker;
+    private final AccountLookupIndex lookupIndex;
+    private final AggregateCounters counters;
+    private final EventBus eventBus;
+    private final boolean flushOnSave;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public AccountRepositoryImpl(JpaAccountRepository jpaAccountRepository, AccountMapper accountMapper) {
+    public AccountRepositoryImpl(JpaAccountRepository jpaAccountRepository, AccountMapper accountMapper,
+                                 AccountContentionTracker contentionTracker, AccountLookupIndex lookupIndex,
+                                 AggregateCounters counters, EventBus eventBus,
+                                 @Value("${banking.monitoring.hot-accounts.flush-on-save:false}") boolean flushOnSave) {
         this.jpaAccountRepository = jpaAccountRepository;
         this.accountMapper = accountMapper;
+        this.contentionTracker = contentionTracker;
+        this.lookupIndex = lookupIndex;
+        this.counters = counters;
+        this.eventBus = eventBus;
+        this.flushOnSave = flushOnSave;
     }
 
     @Override
     public Optional<Account> findById(AccountId id) {
-        return jpaAccountRepository.findById(id.getValue())
-                .map(accountMapper::toDomain);
+        AccountRepositoryEvent event = new AccountRepositoryEvent();
+        event.begin();
+        String outcome = "failure";
+        boolean found = false;
+        try {
+            Optional<Account> account = jpaAccountRepository.findById(id.getValue())
+                    .map(accountMapper::toDomain);
+            found = account.isPresent();
+            outcome = "success";
+            return account;
+        } finally {
+            commit(event, "load", id.getValue(), found, outcome);
+        }
     }
 
     @Override
     public Optional<Account> findByAccountNumber(AccountNumber accountNumber) {
-        return jpaAccountRepository.findByAccountNumber(accountNumber.getValue())
-                .map(accountMapper::toDomain);
+        boolean ready = lookupIndex.isReady();
+        Optional<AccountEntity> indexed = findIndexed(lookupIndex.findByAccountNumber(accountNumber.getValue()));
+        if (indexed.isEmpty() && !ready) {
+            indexed = remember(jpaAccountRepository.findByAccountNumber(accountNumber.getValue()));
+        }
+        return indexed.map(accountMapper::toDomain);
     }
 
     @Override
     public Optional<Account> findByHolderCpf(Cpf cpf) {
-        return jpaAccountRepository.findByHolderCpf(cpf.getValue())
-                .map(accountMapper::toDomain);
+        boolean ready = lookupIndex.isReady();
+        Optional<AccountEntity> indexed = findIndexed(lookupIndex.findByCpf(cpf.getValue()));
+        if (indexed.isEmpty() && !ready) {
+            indexed = remember(jpaAccountRepository.findByHolderCpf(cpf.getValue()));
+        }
+        return indexed.map(accountMapper::toDomain);
     }
 
     @Override
     public boolean existsByHolderCpf(Cpf cpf) {
-        return jpaAccountRepository.existsByHolderCpf(cpf.getValue());
+        boolean ready = lookupIndex.isReady();
+        return lookupIndex.containsCpf(cpf.getValue())
+            || (!ready && jpaAccountRepository.existsByHolderCpf(cpf.getValue()));
     }
 
     @Override
     public boolean existsByAccountNumber(AccountNumber accountNumber) {
-        return jpaAccountRepository.existsByAccountNumber(accountNumber.getValue());
+        boolean ready = lookupIndex.isReady();
+        return lookupIndex.containsAccountNumber(accountNumber.getValue())
+            || (!ready && jpaAccountRepository.existsByAccountNumber(accountNumber.getValue()));
+    }
+
+    /**
+     * Carrega a conta encontrada no índice pela chave primária, consultando antes o contexto de persistência
+     */
+    private Optional<AccountEntity> findIndexed(UUID accountId) {
+        if (accountId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ManagedEntities.find(entityManager, AccountEntity.class, accountId.toString()));
+    }
+
+    /**
+     * Registra no índice a conta que só foi encontrada no banco
+     */
+    private Optional<AccountEntity> remember(Optional<AccountEntity> entity) {
+        entity.ifPresent(found -> lookupIndex.register(found.getId(), found.getHolderCpf(), found.getAccountNumber()));
+        return entity;
     }
 
     @Override
@@ -82,6 +163,9 @@ public class AccountRepositoryImpl implements AccountRepository {
 
     @Override
     public long countActive() {
+        if (counters.isEnabled()) {
+            return counters.total(AggregateCounters.ACCOUNTS_ACTIVE).count();
+        }
         return jpaAccountRepository.countByActiveTrue();
     }
 
@@ -91,28 +175,148 @@ public class AccountRepositoryImpl implements AccountRepository {
     }
 
     @Override
+    @Transactional
     public Account save(Account account) {
-        AccountEntity entity = accountMapper.toEntity(account);
-        AccountEntity savedEntity = jpaAccountRepository.save(entity);
-        return accountMapper.toDomain(savedEntity);
+        AccountRepositoryEvent event = new AccountRepositoryEvent();
+        event.begin();
+        String outcome = "failure";
+        String accountId = account.getId().getValue();
+        try {
+            AccountEntity entity = ManagedEntities.managed(entityManager, AccountEntity.class, accountId);
+            if (entity == null) {
+                // Fora do contexto de persistência a linha é lida de novo: a versão precisa ser a mesma da leitura original
+                entity = entityManager.find(AccountEntity.class, accountId);
+                if (entity != null) {
+                    ensureSameVersion(account, entity);
+                }
+            }
+            if (entity != null) {
+                long previousCount = activeCount(entity);
+                BigDecimal previousBalance = activeBalance(entity);
+                accountMapper.updateEntity(entity, account);
+                recordActive(activeCount(entity) - previousCount, activeBalance(entity).subtract(previousBalance));
+            } else {
+                AccountEntity created = accountMapper.toEntity(account);
+                entityManager.persist(created);
+                recordActive(activeCount(created), activeBalance(created));
+                afterCommit(() -> lookupIndex.register(accountId,
+                    account.getHolderCpf().getValue(), account.getAccountNumber().getValue()));
+            }
+            if (flushOnSave) {
+                // O flush imediato executa o UPDATE aqui: só o tempo dele é atribuído à conta como espera por lock de linha
+                long start = System.nanoTime();
+                flush();
+                contentionTracker.recordLockWait(accountId, System.nanoTime() - start);
+            }
+            outcome = "success";
+            return account;
+        } catch (OptimisticLockingFailureException e) {
+            contentionTracker.recordConflict(accountId);
+            throw e;
+        } finally {
+            commit(event, "save", accountId, true, outcome);
+        }
     }
 
     @Override
     public void delete(Account account) {
         AccountEntity entity = accountMapper.toEntity(account);
         jpaAccountRepository.delete(entity);
+        recordActive(-activeCount(entity), activeBalance(entity).negate());
+        unregister(entity);
     }
 
     @Override
     public void deleteById(AccountId id) {
-        jpaAccountRepository.deleteById(id.getValue());
+        jpaAccountRepository.findById(id.getValue()).ifPresent(entity -> {
+            jpaAccountRepository.delete(entity);
+            recordActive(-activeCount(entity), activeBalance(entity).negate());
+            unregister(entity);
+        });
+    }
+
+    /**
+     * Remove a conta do índice local após o commit e avisa os índices das outras instâncias
+     */
+    private void unregister(AccountEntity entity) {
+        afterCommit(() -> lookupIndex.unregister(entity.getHolderCpf(), entity.getAccountNumber()));
+        eventBus.publish(new AccountDeleted(entity.getId(), entity.getAccountNumber(), entity.getHolderCpf()));
+    }
+
+    /**
+     * Dentro do repositório o flush lança as exceções do JPA/Hibernate (PersistenceException) sem tradução: o conflito é registrado
+     * aqui para a conta que falhou, que pode não ser a conta sendo gravada. Conflitos que só aparecem no
+     * commit são registrados pelo SpringTransactionManager
+     */
+    private void flush() {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            AccountConflicts.accountIdOf(e).ifPresent(contentionTracker::recordConflict);
+            throw e;
+        }
+    }
+
+    private static void ensureSameVersion(Account account, AccountEntity entity) {
+        Long expected = account.getPersistedVersion();
+        if (expected != null && !expected.equals(entity.getVersion())) {
+            throw new OptimisticLockingFailureException(String.format(
+                "Conta %s alterada por outra transação (versão lida %d, atual %d)",
+                entity.getId(), expected, entity.getVersion()));
+        }
+    }
+
+    /**
+     * Atualiza o contador de contas ativas (quantidade e saldo total) na transação corrente
+     */
+    private void recordActive(long count, BigDecimal balance) {
+        counters.record(AggregateCounters.ACCOUNTS_ACTIVE, AggregateCounters.TOTAL, count, balance);
+    }
+
+    private static long activeCount(AccountEntity entity) {
+        return Boolean.TRUE.equals(entity.getActive()) ? 1 : 0;
+    }
+
+    private static BigDecimal activeBalance(AccountEntity entity) {
+        return Boolean.TRUE.equals(entity.getActive()) ? entity.getBalance() : BigDecimal.ZERO;
+    }
+
+    /**
+     * O índice em memória só reflete a gravação depois que a transação confirmar
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static void commit(AccountRepositoryEvent event, String operation, String accountId, boolean found, String outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.accountId = accountId;
+            event.found = found;
+            event.outcome = outcome;
+            event.commit();
+        }
     }
 
     /**
      * Métodos específicos de negócio não definidos na interface do domínio
      */
 
-    public java.math.BigDecimal calculateTotalBalance() {
-        return jpaAccountRepository.calculateTotalBalance();
+    public java.math.BigDecimal calculateTotalBalance() throws Exception {
+        if (counters.isEnabled()) {
+            return counters.total(AggregateCounters.ACCOUNTS_ACTIVE).sum();
+        }
+        // Varredura de todas as contas: executa no pool de lotes para não ocupar conexões das transferências
+        return WorkloadContext.call(Workload.BATCH, jpaAccountRepository::calculateTotalBalance);
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.banking.infrastructure.persistence.repository;
+
+import com.banking.application.shared.interfaces.AccountSearch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Implementação do AccountSearch com o índice de trigramas (pg_trgm) sobre normalize_holder_name(holder_name).
+ * O termo passa pela mesma normalização; as condições LIKE e &lt;% repetem a expressão do índice GIN,
+ * para que ele seja usado, e a ordenação por word_similarity é feita apenas sobre as linhas candidatas.
+ */
+@Repository
+public class JdbcAccountSearch implements AccountSearch {
+
+    private static final String SEARCH =
+        "SELECT a.id, a.account_number, a.holder_name, a.is_active, " +
+        "       word_similarity(t.term, normalize_holder_name(a.holder_name)) AS score " +
+        "FROM accounts a, (SELECT normalize_holder_name(?) AS term) t " +
+        "WHERE normalize_holder_name(a.holder_name) LIKE '%' || t.term || '%' " +
+        "   OR t.term <% normalize_holder_name(a.holder_name) " +
+        "ORDER BY score DESC, similarity(t.term, normalize_holder_name(a.holder_name)) DESC, a.holder_name " +
+        "LIMIT ? OFFSET ?";
+
+    private static final Pattern LIKE_WILDCARDS = Pattern.compile("[%_\\\\]");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public JdbcAccountSearch(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<AccountMatch> searchByHolderName(String name, int offset, int limit) {
+        return jdbcTemplate.query(SEARCH,
+            (rs, rowNum) -> new AccountMatch(
+                rs.getString("id"),
+                rs.getString("account_number"),
+                rs.getString("holder_name"),
+                rs.getBoolean("is_active"),
+                rs.getDouble("score")),
+            stripWildcards(name), limit, offset);
+    }
+
+    /**
+     * Remove os curingas do LIKE; pg_trgm ignora caracteres não alfanuméricos, então a similaridade não muda
+     */
+    private static String stripWildcards(String term) {
+        return LIKE_WILDCARDS.matcher(term).replaceAll(" ");
+    }
+}
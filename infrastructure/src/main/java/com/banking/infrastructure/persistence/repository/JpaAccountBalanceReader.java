@@ -0,0 +1,39 @@
+package com.banking.infrastructure.persistence.repository;
+
+import com.banking.application.shared.interfaces.AccountBalanceReader;
+import com.banking.infrastructure.persistence.jpa.repository.JpaAccountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementação do AccountBalanceReader com uma consulta de projeção JPQL.
+ * O resultado é construído diretamente na projeção: nenhuma entidade entra no contexto
+ * de persistência e o agregado Account não é reconstruído.
+ */
+@Repository
+public class JpaAccountBalanceReader implements AccountBalanceReader {
+
+    private final JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    public JpaAccountBalanceReader(JpaAccountRepository jpaAccountRepository) {
+        this.jpaAccountRepository = jpaAccountRepository;
+    }
+
+    @Override
+    public Optional<AccountBalanceView> findBalance(String accountId) {
+        return jpaAccountRepository.findBalanceById(accountId);
+    }
+
+    @Override
+    public List<AccountBalanceView> findBalances(Collection<String> accountIds) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaAccountRepository.findBalancesByIdIn(accountIds);
+    }
+}
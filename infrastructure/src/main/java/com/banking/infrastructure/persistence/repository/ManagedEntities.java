@@ -0,0 +1,38 @@
+package com.banking.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Acesso ao mapa de identidade da unidade de trabalho corrente.
+ * Permite que os repositórios atualizem no lugar a entidade já carregada na transação,
+ * em vez de montar uma entidade destacada e deixar o merge do Hibernate buscá-la de novo.
+ */
+final class ManagedEntities {
+
+    private ManagedEntities() {
+    }
+
+    /**
+     * Retorna a entidade gerenciada com o ID informado: primeiro consulta o contexto de
+     * persistência (sem acesso ao banco) e, se ela não estiver carregada, busca pela chave primária
+     */
+    static <T> T find(EntityManager entityManager, Class<T> type, Object id) {
+        T managed = managed(entityManager, type, id);
+        return managed != null ? managed : entityManager.find(type, id);
+    }
+
+    /**
+     * Retorna a entidade se ela já estiver no contexto de persistência, sem acessar o banco
+     */
+    static <T> T managed(EntityManager entityManager, Class<T> type, Object id) {
+        if (!entityManager.isJoinedToTransaction()) {
+            return null;
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(type);
+        Object entity = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+        return type.isInstance(entity) ? type.cast(entity) : null;
+    }
+}
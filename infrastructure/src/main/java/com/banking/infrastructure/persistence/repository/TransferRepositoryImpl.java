@@ -2,31 +2,47 @@ package com.banking.infrastructure.persistence.repository;
 
 import com.banking.domain.transfer.entity.Transfer;
 import com.banking.domain.transfer.repository.TransferRepository;
-import com.banking.domain.transfer.valueobject.IdempotencyKey;
 import com.banking.domain.transfer.valueobject.TransferId;
 import com.banking.domain.transfer.valueobject.TransferStatus;
 import com.banking.domain.account.valueobject.AccountId;
+import com.banking.infrastructure.persistence.counters.AggregateCounters;
 import com.banking.infrastructure.persistence.jpa.entity.TransferEntity;
 import com.banking.infrastructure.persistence.jpa.repository.JpaTransferRepository;
 import com.banking.infrastructure.persistence.mapper.TransferMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * Implementação do repositório de transferências usando JPA.
+ * Na gravação, a entidade já carregada na transação é atualizada no lugar
+ * e apenas as colunas alteradas são escritas. Cada mudança de status atualiza, na mesma transação,
+ * os contadores agregados por status (total e por hora de criação).
+ */
 @Repository
 public class TransferRepositoryImpl implements TransferRepository {
 
     private final JpaTransferRepository jpaTransferRepository;
     private final TransferMapper transferMapper;
+    private final AggregateCounters counters;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public TransferRepositoryImpl(JpaTransferRepository jpaTransferRepository, TransferMapper transferMapper) {
+    public TransferRepositoryImpl(JpaTransferRepository jpaTransferRepository, TransferMapper transferMapper,
+                                  AggregateCounters counters) {
         this.jpaTransferRepository = jpaTransferRepository;
         this.transferMapper = transferMapper;
+        this.counters = counters;
     }
 
     @Override
@@ -35,17 +51,6 @@ public class TransferRepositoryImpl implements TransferRepository {
                 .map(transferMapper::toDomain);
     }
 
-    @Override
-    public Optional<Transfer> findByIdempotencyKey(IdempotencyKey idempotencyKey) {
-        return jpaTransferRepository.findByIdempotencyKey(idempotencyKey.getValue())
-                .map(transferMapper::toDomain);
-    }
-
-    @Override
-    public boolean existsByIdempotencyKey(IdempotencyKey idempotencyKey) {
-        return jpaTransferRepository.existsByIdempotencyKey(idempotencyKey.getValue());
-    }
-
     @Override
     public boolean existsById(TransferId id) {
         return jpaTransferRepository.existsById(id.getValue());
@@ -81,21 +86,55 @@ public class TransferRepositoryImpl implements TransferRepository {
     }
 
     @Override
+    @Transactional
     public Transfer save(Transfer transfer) {
-        TransferEntity entity = transferMapper.toEntity(transfer);
-        TransferEntity savedEntity = jpaTransferRepository.save(entity);
-        return transferMapper.toDomain(savedEntity);
+        TransferEntity entity = ManagedEntities.find(entityManager, TransferEntity.class, transfer.getId().getValue());
+        if (entity != null) {
+            TransferEntity.TransferStatusEnum previous = entity.getStatus();
+            transferMapper.updateEntity(entity, transfer);
+            if (previous != entity.getStatus()) {
+                LocalDateTime hour = hourOf(entity);
+                recordStatus(previous, hour, -1, entity.getAmount().negate());
+                recordStatus(entity.getStatus(), hour, 1, entity.getAmount());
+            }
+        } else {
+            TransferEntity created = transferMapper.toEntity(transfer);
+            entityManager.persist(created);
+            recordStatus(created.getStatus(), hourOf(created), 1, created.getAmount());
+        }
+        return transfer;
     }
 
     @Override
     public void delete(Transfer transfer) {
-        TransferEntity entity = transferMapper.toEntity(transfer);
-        jpaTransferRepository.delete(entity);
+        jpaTransferRepository.findById(transfer.getId().getValue()).ifPresent(this::deleteEntity);
     }
 
     @Override
     public void deleteById(TransferId id) {
-        jpaTransferRepository.deleteById(id.getValue());
+        jpaTransferRepository.findById(id.getValue()).ifPresent(this::deleteEntity);
+    }
+
+    private void deleteEntity(TransferEntity entity) {
+        jpaTransferRepository.delete(entity);
+        recordStatus(entity.getStatus(), hourOf(entity), -1, entity.getAmount().negate());
+    }
+
+    /**
+     * Atualiza os contadores do status (total e bucket horário) na transação corrente
+     */
+    private void recordStatus(TransferEntity.TransferStatusEnum status, LocalDateTime hour, long count, BigDecimal amount) {
+        String name = AggregateCounters.transfers(status.name());
+        counters.record(name, AggregateCounters.TOTAL, count, amount);
+        counters.record(name, hour, count, amount);
+    }
+
+    /**
+     * Bucket horário da transferência; created_at só é preenchido na inserção, então uma
+     * transferência ainda não gravada usa o instante atual (o verificador corrige a virada da hora)
+     */
+    private static LocalDateTime hourOf(TransferEntity entity) {
+        return AggregateCounters.hourOf(entity.getCreatedAt() != null ? entity.getCreatedAt() : LocalDateTime.now());
     }
 
     @Override
@@ -114,6 +153,43 @@ public class TransferRepositoryImpl implements TransferRepository {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Métodos específicos de negócio não definidos na interface do domínio
+     */
+
+    /**
+     * Quantidade de transferências no status, lida dos contadores agregados
+     */
+    public long countByStatus(TransferStatus status) {
+        if (counters.isEnabled()) {
+            return counters.total(AggregateCounters.transfers(mapStatusToEntity(status).name())).count();
+        }
+        return jpaTransferRepository.countByStatus(mapStatusToEntity(status));
+    }
+
+    /**
+     * Valor total transferido (transferências completadas criadas entre start e end, inclusive).
+     * As horas completas do intervalo vêm dos buckets horários; apenas as pontas parciais
+     * consultam a tabela de transferências.
+     */
+    public BigDecimal calculateTotalTransferredBetween(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime firstHour = AggregateCounters.hourOf(start);
+        if (firstHour.isBefore(start)) {
+            firstHour = firstHour.plusHours(1);
+        }
+        LocalDateTime lastHour = AggregateCounters.hourOf(end);
+        if (!counters.isEnabled() || !firstHour.isBefore(lastHour)) {
+            return jpaTransferRepository.calculateTotalTransferredBetween(start, end);
+        }
+
+        String completed = AggregateCounters.transfers(TransferEntity.TransferStatusEnum.COMPLETED.name());
+        BigDecimal total = counters.between(completed, firstHour, lastHour).sum();
+        if (start.isBefore(firstHour)) {
+            total = total.add(jpaTransferRepository.calculateTotalTransferredFrom(start, firstHour));
+        }
+        return total.add(jpaTransferRepository.calculateTotalTransferredBetween(lastHour, end));
+    }
+
     private TransferEntity.TransferStatusEnum mapStatusToEntity(TransferStatus status) {
         switch (status) {
             case PENDING: return TransferEntity.TransferStatusEnum.PENDING;
@@ -0,0 +1,57 @@
+package com.banking.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DataSource que encaminha transações somente leitura para as réplicas e todo o resto ao primário.
+ * Deve ser envolvido por um LazyConnectionDataSourceProxy: a conexão física só é obtida no
+ * primeiro comando, quando a marcação readOnly da transação já está disponível.
+ * O destino escolhido fica registrado na thread para quem precisa saber se a leitura veio de réplica.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Object> LAST_TARGET = new ThreadLocal<>();
+
+    private final ReplicaPool replicaPool;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool) {
+        this.replicaPool = replicaPool;
+        Map<Object, Object> targets = new LinkedHashMap<>(replicaPool.targets());
+        targets.put(ReplicaPool.PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            String target = replicaPool.select();
+            LAST_TARGET.set(target);
+            return target;
+        }
+        LAST_TARGET.set(ReplicaPool.PRIMARY);
+        return ReplicaPool.PRIMARY;
+    }
+
+    /**
+     * Descarta o destino registrado na thread
+     */
+    public static void resetLastTarget() {
+        LAST_TARGET.remove();
+    }
+
+    /**
+     * Indica se a última conexão obtida na thread desde o reset foi de uma réplica
+     */
+    public static boolean lastTargetWasReplica() {
+        Object target = LAST_TARGET.get();
+        return target != null && !ReplicaPool.PRIMARY.equals(target);
+    }
+}
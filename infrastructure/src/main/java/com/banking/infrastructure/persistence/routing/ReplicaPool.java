@@ -0,0 +1,162 @@
+package com.banking.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Conjunto de réplicas de leitura com monitoramento de atraso de replicação.
+ * O atraso de cada réplica é medido periodicamente; transações somente leitura são
+ * distribuídas em rodízio entre as réplicas dentro do limite, e voltam ao primário
+ * quando nenhuma réplica está apta.
+ */
+public class ReplicaPool implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+
+    public static final String PRIMARY = "primary";
+
+    private static final String LAG_QUERY =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+        "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000 END";
+
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile Counter replicaReads;
+    private volatile Counter primaryFallbacks;
+
+    public ReplicaPool(Map<String, DataSource> replicas, long maxLagMillis) {
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    /**
+     * Escolhe a réplica para a próxima transação somente leitura, ou o primário se nenhuma estiver apta
+     */
+    public String select() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.lagMillis <= maxLagMillis) {
+                increment(replicaReads);
+                return replica.name;
+            }
+        }
+        increment(primaryFallbacks);
+        return PRIMARY;
+    }
+
+    /**
+     * Mede o atraso de replicação de cada réplica; réplicas inacessíveis ficam inaptas até a próxima medição
+     */
+    @Scheduled(fixedDelayString = "${banking.datasource.replicas.lag-check-interval-ms:1000}")
+    public void refreshLag() {
+        for (Replica replica : replicas) {
+            long previous = replica.lagMillis;
+            replica.lagMillis = measureLag(replica);
+            if ((previous <= maxLagMillis) != (replica.lagMillis <= maxLagMillis)) {
+                log.info("Réplica {} {} para leituras (atraso: {} ms)", replica.name,
+                    replica.lagMillis <= maxLagMillis ? "habilitada" : "desabilitada",
+                    replica.lagMillis == Long.MAX_VALUE ? "indisponível" : replica.lagMillis);
+            }
+        }
+    }
+
+    /**
+     * DataSources das réplicas indexados pelo nome usado como chave de roteamento
+     */
+    public Map<Object, Object> targets() {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            targets.put(replica.name, replica.dataSource);
+        }
+        return targets;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("banking.datasource.replica.lag", replica, r -> r.lagMillis == Long.MAX_VALUE ? Double.NaN : r.lagMillis)
+                .description("Atraso de replicação medido na réplica (ms)")
+                .baseUnit("milliseconds")
+                .tag("replica", replica.name)
+                .register(registry);
+        }
+        replicaReads = Counter.builder("banking.datasource.reads")
+            .description("Transações somente leitura por destino")
+            .tag("target", "replica")
+            .register(registry);
+        primaryFallbacks = Counter.builder("banking.datasource.reads")
+            .description("Transações somente leitura por destino")
+            .tag("target", PRIMARY)
+            .register(registry);
+    }
+
+    /**
+     * Fecha os pools de conexão das réplicas
+     */
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Erro ao fechar o pool da réplica {}: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static long measureLag(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+            if (rs.next()) {
+                double lag = rs.getDouble(1);
+                return rs.wasNull() ? Long.MAX_VALUE : (long) lag;
+            }
+            return Long.MAX_VALUE;
+        } catch (Exception e) {
+            log.warn("Não foi possível medir o atraso da réplica {}: {}", replica.name, e.getMessage());
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        // Inapta até a primeira medição
+        private volatile long lagMillis = Long.MAX_VALUE;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
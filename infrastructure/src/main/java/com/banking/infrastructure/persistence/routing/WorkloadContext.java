@@ -0,0 +1,41 @@
+package com.banking.infrastructure.persistence.routing;
+
+import com.banking.application.shared.interfaces.TransactionManager.Workload;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Carga de trabalho declarada pela thread corrente, usada para escolher o pool de conexões.
+ * Sem declaração, transações somente leitura usam o pool de consultas e o resto o de transferências.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * Carga de trabalho declarada, ou null
+     */
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executa o trabalho com a carga de trabalho informada, restaurando a anterior ao final
+     */
+    public static <T> T call(Workload workload, Callable<T> work) throws Exception {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return work.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
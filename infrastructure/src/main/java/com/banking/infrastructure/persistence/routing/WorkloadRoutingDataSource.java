@@ -0,0 +1,57 @@
+package com.banking.infrastructure.persistence.routing;
+
+import com.banking.application.shared.interfaces.TransactionManager.Workload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DataSource que encaminha cada conexão ao pool da carga de trabalho corrente, de modo que
+ * consultas lentas ou lotes não consumam as conexões reservadas às transferências.
+ * Assim como o roteamento para réplicas, depende de um LazyConnectionDataSourceProxy externo.
+ * Os pools pertencem a este DataSource e são fechados em close().
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadRoutingDataSource.class);
+
+    private final Map<Workload, DataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<Workload, DataSource> pools) {
+        this.pools = pools;
+        Map<Object, Object> targets = new LinkedHashMap<>(pools);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(pools.get(Workload.TRANSFER));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Workload workload = WorkloadContext.current();
+        if (workload != null) {
+            return workload;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Workload.QUERY : Workload.TRANSFER;
+    }
+
+    /**
+     * Fecha os pools de conexão de todas as cargas de trabalho
+     */
+    @Override
+    public void close() {
+        for (Map.Entry<Workload, DataSource> pool : pools.entrySet()) {
+            if (pool.getValue() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Erro ao fechar o pool {}: {}", pool.getKey(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -1,44 +1,109 @@
 package com.banking.infrastructure.transaction;
 
+import com.banking.application.shared.interfaces.AccountContentionTracker;
 import com.banking.application.shared.interfaces.TransactionManager;
+import com.banking.infrastructure.persistence.repository.AccountConflicts;
+import com.banking.infrastructure.persistence.routing.ReadReplicaRoutingDataSource;
+import com.banking.infrastructure.persistence.routing.WorkloadContext;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.UUID;
 
 /**
  * Implementação do TransactionManager usando Spring Transaction Management.
  * Integra com o PlatformTransactionManager do Spring para controle transacional.
+ * Os conflitos de versão que só aparecem no commit (flush do JPA) são atribuídos à conta
+ * envolvida no AccountContentionTracker, já que acontecem fora dos repositórios.
  */
 @Service
 public class SpringTransactionManager implements TransactionManager {
 
     private final PlatformTransactionManager platformTransactionManager;
+    private final AccountContentionTracker contentionTracker;
 
-    public SpringTransactionManager(PlatformTransactionManager platformTransactionManager) {
+    public SpringTransactionManager(PlatformTransactionManager platformTransactionManager,
+                                    AccountContentionTracker contentionTracker) {
         this.platformTransactionManager = platformTransactionManager;
+        this.contentionTracker = contentionTracker;
     }
 
+    // Como no @Transactional padrão, exceções verificadas da operação não desfazem a transação
     @Override
-    @Transactional
     public <T> T executeInTransaction(TransactionalOperation<T> operation) throws Exception {
-        return operation.execute();
+        return execute(false, false, operation);
     }
 
     @Override
-    @Transactional(rollbackFor = Exception.class)
     public <T> T executeInTransactionWithRollback(TransactionalOperation<T> operation) throws Exception {
-        return operation.execute();
+        return execute(false, true, operation);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public <T> T executeInReadOnlyTransaction(TransactionalOperation<T> operation) throws Exception {
-        return operation.execute();
+        return execute(true, false, operation);
+    }
+
+    @Override
+    public <T> ReadResult<T> executeInTrackedReadOnlyTransaction(TransactionalOperation<T> operation) throws Exception {
+        ReadReplicaRoutingDataSource.resetLastTarget();
+        try {
+            T value = execute(true, true, operation);
+            return new ReadResult<>(value, ReadReplicaRoutingDataSource.lastTargetWasReplica());
+        } finally {
+            ReadReplicaRoutingDataSource.resetLastTarget();
+        }
+    }
+
+    @Override
+    public <T> T executeInTransaction(Workload workload, TransactionalOperation<T> operation) throws Exception {
+        return WorkloadContext.call(workload, () -> execute(workload == Workload.QUERY, true, operation));
+    }
+
+    /**
+     * Executa a operação em uma transação; rollbackOnChecked indica se exceções verificadas desfazem a transação
+     */
+    private <T> T execute(boolean readOnly, boolean rollbackOnChecked, TransactionalOperation<T> operation) throws Exception {
+        TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
+        template.setReadOnly(readOnly);
+        Exception[] committedFailure = new Exception[1];
+        boolean[] operationFinished = new boolean[1];
+        T result;
+        try {
+            result = template.execute(status -> {
+                try {
+                    T value = operation.execute();
+                    operationFinished[0] = true;
+                    return value;
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    if (rollbackOnChecked) {
+                        throw new OperationFailure(e);
+                    }
+                    committedFailure[0] = e;
+                    operationFinished[0] = true;
+                    return null;
+                }
+            });
+        } catch (OperationFailure e) {
+            throw e.operationException;
+        } catch (ConcurrencyFailureException e) {
+            // Exceções da própria operação já passaram pelos repositórios; aqui só as do commit
+            if (operationFinished[0]) {
+                AccountConflicts.accountIdOf(e).ifPresent(contentionTracker::recordConflict);
+            }
+            throw e;
+        }
+        if (committedFailure[0] != null) {
+            throw committedFailure[0];
+        }
+        return result;
     }
 
     @Override
@@ -58,6 +123,19 @@ public class SpringTransactionManager implements TransactionManager {
         return null;
     }
 
+    /**
+     * Transporta para fora do TransactionTemplate a exceção verificada da operação, após o rollback
+     */
+    private static class OperationFailure extends RuntimeException {
+
+        private final Exception operationException;
+
+        OperationFailure(Exception operationException) {
+            super(operationException.getMessage(), operationException, false, false);
+            this.operationException = operationException;
+        }
+    }
+
     /**
      * Implementação do TransactionContext usando Spring TransactionStatus
      */
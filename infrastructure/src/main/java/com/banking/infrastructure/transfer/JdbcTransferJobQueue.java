@@ -0,0 +1,163 @@
+package com.banking.infrastructure.transfer;
+
+import com.banking.application.shared.interfaces.TransferJobQueue;
+import com.banking.application.transfer.command.ProcessTransferCommand;
+import com.banking.application.transfer.dto.ProcessTransferRequest;
+import com.banking.domain.transfer.valueobject.TransferStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementação da TransferJobQueue sobre a tabela transfer_jobs.
+ * A submissão é uma única inserção; os workers reservam lotes com FOR UPDATE SKIP LOCKED,
+ * de modo que várias instâncias consomem a mesma fila sem disputar as mesmas linhas.
+ */
+@Service
+public class JdbcTransferJobQueue implements TransferJobQueue {
+
+    static final String QUEUED = "QUEUED";
+    static final String PROCESSING = "PROCESSING";
+    static final String COMPLETED = "COMPLETED";
+    static final String FAILED = "FAILED";
+
+    private static final String INSERT_JOB =
+        "INSERT INTO transfer_jobs (id, idempotency_key, from_account_id, to_account_id, amount, description, callback_url) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (idempotency_key) DO NOTHING";
+    private static final String SELECT_ID_BY_KEY =
+        "SELECT id FROM transfer_jobs WHERE idempotency_key = ?";
+    private static final String SELECT_BY_ID =
+        "SELECT id, idempotency_key, from_account_id, to_account_id, amount, description, status, " +
+        "transfer_id, failure_reason, created_at, updated_at FROM transfer_jobs WHERE id = ?";
+    private static final String CLAIM =
+        "UPDATE transfer_jobs SET status = 'PROCESSING', attempts = attempts + 1, " +
+        "locked_until = CURRENT_TIMESTAMP + make_interval(secs => ?), updated_at = CURRENT_TIMESTAMP " +
+        "WHERE id IN (SELECT id FROM transfer_jobs " +
+        "  WHERE (status = 'QUEUED' AND available_at <= CURRENT_TIMESTAMP) " +
+        "     OR (status = 'PROCESSING' AND locked_until < CURRENT_TIMESTAMP) " +
+        "  ORDER BY available_at LIMIT ? FOR UPDATE SKIP LOCKED) " +
+        "RETURNING id, idempotency_key, from_account_id, to_account_id, amount, description, callback_url, attempts, created_at";
+    private static final String COMPLETE =
+        "UPDATE transfer_jobs SET status = 'COMPLETED', transfer_id = ?, failure_reason = NULL, locked_until = NULL, " +
+        "updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+    private static final String FAIL =
+        "UPDATE transfer_jobs SET status = 'FAILED', failure_reason = ?, locked_until = NULL, " +
+        "updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+    private static final String RETRY =
+        "UPDATE transfer_jobs SET status = 'QUEUED', failure_reason = ?, locked_until = NULL, " +
+        "available_at = CURRENT_TIMESTAMP + make_interval(secs => ?), updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+    private static final String RESCHEDULE =
+        "UPDATE transfer_jobs SET status = 'QUEUED', attempts = GREATEST(attempts - 1, 0), failure_reason = ?, " +
+        "locked_until = NULL, available_at = CURRENT_TIMESTAMP + make_interval(secs => ?), updated_at = CURRENT_TIMESTAMP " +
+        "WHERE id = ?";
+    private static final String PURGE =
+        "DELETE FROM transfer_jobs WHERE status IN ('COMPLETED', 'FAILED') AND updated_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public JdbcTransferJobQueue(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String enqueue(ProcessTransferCommand command, String callbackUrl) {
+        ProcessTransferRequest request = command.request();
+        int inserted = jdbcTemplate.update(INSERT_JOB,
+            command.getTransferId(), request.idempotencyKey(), request.fromAccountId(), request.toAccountId(),
+            request.amount(), request.description(), blankToNull(callbackUrl));
+        if (inserted == 1) {
+            return command.getTransferId();
+        }
+        // Submissão repetida: retorna a transferência já enfileirada com a mesma chave
+        return jdbcTemplate.queryForObject(SELECT_ID_BY_KEY, String.class, request.idempotencyKey());
+    }
+
+    @Override
+    public Optional<QueuedTransfer> find(String transferId) {
+        return jdbcTemplate.query(SELECT_BY_ID, (rs, rowNum) -> new QueuedTransfer(
+            rs.getString("id"),
+            requestFrom(rs),
+            statusOf(rs.getString("status")),
+            rs.getString("transfer_id"),
+            rs.getString("failure_reason"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at"))
+        ), transferId).stream().findFirst();
+    }
+
+    /**
+     * Reserva até max transferências prontas (ou com reserva vencida) por leaseSeconds
+     */
+    List<TransferJob> claim(int max, int leaseSeconds) {
+        return jdbcTemplate.query(CLAIM, (rs, rowNum) -> new TransferJob(
+            rs.getString("id"),
+            requestFrom(rs),
+            rs.getString("callback_url"),
+            rs.getInt("attempts"),
+            toLocalDateTime(rs.getTimestamp("created_at"))
+        ), leaseSeconds, max);
+    }
+
+    void complete(String jobId, String transferId) {
+        jdbcTemplate.update(COMPLETE, transferId, jobId);
+    }
+
+    void fail(String jobId, String reason) {
+        jdbcTemplate.update(FAIL, reason, jobId);
+    }
+
+    /**
+     * Devolve a transferência à fila para nova tentativa após delaySeconds
+     */
+    void retry(String jobId, String reason, double delaySeconds) {
+        jdbcTemplate.update(RETRY, reason, delaySeconds, jobId);
+    }
+
+    /**
+     * Devolve a transferência à fila após delaySeconds sem contar a reserva como tentativa
+     */
+    void reschedule(String jobId, String reason, double delaySeconds) {
+        jdbcTemplate.update(RESCHEDULE, reason, delaySeconds, jobId);
+    }
+
+    /**
+     * Remove as transferências finalizadas antes do instante informado
+     */
+    int purgeFinishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(PURGE, Timestamp.valueOf(cutoff));
+    }
+
+    private static ProcessTransferRequest requestFrom(ResultSet rs) throws SQLException {
+        return new ProcessTransferRequest(
+            rs.getString("from_account_id"),
+            rs.getString("to_account_id"),
+            rs.getBigDecimal("amount"),
+            rs.getString("description"),
+            rs.getString("idempotency_key"));
+    }
+
+    private static TransferStatus statusOf(String jobStatus) {
+        return switch (jobStatus) {
+            case QUEUED -> TransferStatus.PENDING;
+            case PROCESSING -> TransferStatus.PROCESSING;
+            case COMPLETED -> TransferStatus.COMPLETED;
+            default -> TransferStatus.FAILED;
+        };
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
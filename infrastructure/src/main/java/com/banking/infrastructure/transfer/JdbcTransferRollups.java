@@ -0,0 +1,349 @@
+package com.banking.infrastructure.transfer;
+
+import com.banking.application.shared.interfaces.TransactionManager;
+import com.banking.application.shared.interfaces.TransactionManager.Workload;
+import com.banking.application.shared.interfaces.TransferAnalytics;
+import com.banking.domain.shared.base.DomainEvent;
+import com.banking.domain.transfer.event.TransferCompleted;
+import com.banking.domain.transfer.event.TransferFailed;
+import com.banking.infrastructure.persistence.routing.WorkloadContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Agregados de transferências por minuto, hora e dia, mantidos a partir dos eventos
+ * TransferCompleted e TransferFailed. Cada lote de eventos é consolidado em memória e gravado
+ * com um upsert por bucket; o bucket vem do instante do evento, então um evento atrasado
+ * corrige o bucket em que ocorreu. Cada transferência conta uma única vez por resultado: a deduplicação
+ * é por (transfer_id, outcome), e não pelo event_id, porque uma nova tentativa da mesma transferência
+ * publica outro evento com outro ID. O EventBus só publica depois do commit, então os agregados refletem
+ * apenas estado confirmado: uma tentativa desfeita não chega aqui nem como COMPLETED nem como FAILED.
+ */
+@Service
+public class JdbcTransferRollups implements TransferAnalytics {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcTransferRollups.class);
+
+    static final String COMPLETED = "COMPLETED";
+    static final String FAILED = "FAILED";
+
+    private static final int MAX_REASON_LENGTH = 120;
+    private static final Pattern DIGITS = Pattern.compile("[0-9]");
+
+    private static final String INSERT_EVENTS =
+        "INSERT INTO transfer_rollup_events (transfer_id, outcome) SELECT * FROM unnest(?::varchar[], ?::varchar[]) " +
+        "ON CONFLICT (transfer_id, outcome) DO NOTHING RETURNING transfer_id, outcome";
+    private static final String UPSERT_ROLLUP =
+        "INSERT INTO transfer_rollups (granularity, bucket, outcome, count_value, sum_value, min_value, max_value) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (granularity, bucket, outcome) DO UPDATE SET " +
+        "count_value = transfer_rollups.count_value + EXCLUDED.count_value, " +
+        "sum_value = transfer_rollups.sum_value + EXCLUDED.sum_value, " +
+        "min_value = LEAST(transfer_rollups.min_value, EXCLUDED.min_value), " +
+        "max_value = GREATEST(transfer_rollups.max_value, EXCLUDED.max_value)";
+    private static final String UPSERT_FAILURE =
+        "INSERT INTO transfer_failure_rollups (granularity, bucket, reason, count_value) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (granularity, bucket, reason) DO UPDATE SET " +
+        "count_value = transfer_failure_rollups.count_value + EXCLUDED.count_value";
+    private static final String SELECT_ROLLUPS =
+        "SELECT bucket, outcome, count_value, sum_value, min_value, max_value FROM transfer_rollups " +
+        "WHERE granularity = ? AND bucket >= ? AND bucket < ?";
+    private static final String SELECT_FAILURES =
+        "SELECT bucket, reason, count_value FROM transfer_failure_rollups " +
+        "WHERE granularity = ? AND bucket >= ? AND bucket < ? ORDER BY count_value DESC";
+    private static final String PURGE_ROLLUPS =
+        "DELETE FROM transfer_rollups WHERE granularity = ? AND bucket < ?";
+    private static final String PURGE_FAILURES =
+        "DELETE FROM transfer_failure_rollups WHERE granularity = ? AND bucket < ?";
+    private static final String PURGE_EVENTS =
+        "DELETE FROM transfer_rollup_events WHERE received_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionManager transactionManager;
+    private final Duration lateThreshold;
+    private final int minuteRetentionDays;
+    private final int hourRetentionDays;
+    private final int eventRetentionHours;
+    private final Counter lateEvents;
+    private final Counter duplicateEvents;
+
+    @Autowired
+    public JdbcTransferRollups(JdbcTemplate jdbcTemplate,
+                               TransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${banking.transfer.rollups.late-threshold-seconds:120}") long lateThresholdSeconds,
+                               @Value("${banking.transfer.rollups.minute-retention-days:7}") int minuteRetentionDays,
+                               @Value("${banking.transfer.rollups.hour-retention-days:90}") int hourRetentionDays,
+                               @Value("${banking.transfer.rollups.event-retention-hours:48}") int eventRetentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.lateThreshold = Duration.ofSeconds(lateThresholdSeconds);
+        this.minuteRetentionDays = minuteRetentionDays;
+        this.hourRetentionDays = hourRetentionDays;
+        this.eventRetentionHours = eventRetentionHours;
+        this.lateEvents = Counter.builder("banking.transfer.rollups.late")
+            .description("Eventos de transferência agregados em buckets já encerrados")
+            .register(meterRegistry);
+        this.duplicateEvents = Counter.builder("banking.transfer.rollups.duplicates")
+            .description("Eventos de transferência reentregues e descartados")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Agrega um lote de eventos de transferência em uma única transação
+     */
+    public void record(List<? extends DomainEvent> events) throws Exception {
+        if (events.isEmpty()) {
+            return;
+        }
+        transactionManager.executeInTransaction(Workload.BATCH, () -> {
+            List<DomainEvent> fresh = claim(events);
+            if (!fresh.isEmpty()) {
+                write(fresh);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<TransferRollup> rollups(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        Timestamp start = Timestamp.valueOf(granularity.bucketOf(from));
+        Timestamp end = Timestamp.valueOf(to);
+        Map<LocalDateTime, RollupBuilder> buckets = new TreeMap<>();
+
+        jdbcTemplate.query(SELECT_ROLLUPS, rs -> {
+            RollupBuilder bucket = buckets.computeIfAbsent(rs.getTimestamp("bucket").toLocalDateTime(), RollupBuilder::new);
+            if (COMPLETED.equals(rs.getString("outcome"))) {
+                bucket.completedCount = rs.getLong("count_value");
+                bucket.completedAmount = rs.getBigDecimal("sum_value");
+                bucket.minAmount = rs.getBigDecimal("min_value");
+                bucket.maxAmount = rs.getBigDecimal("max_value");
+            } else {
+                bucket.failedCount = rs.getLong("count_value");
+            }
+        }, granularity.name(), start, end);
+
+        jdbcTemplate.query(SELECT_FAILURES, rs -> {
+            buckets.computeIfAbsent(rs.getTimestamp("bucket").toLocalDateTime(), RollupBuilder::new)
+                .failureReasons.put(rs.getString("reason"), rs.getLong("count_value"));
+        }, granularity.name(), start, end);
+
+        List<TransferRollup> rollups = new ArrayList<>(buckets.size());
+        buckets.values().forEach(bucket -> rollups.add(bucket.build()));
+        return rollups;
+    }
+
+    /**
+     * Remove buckets de minuto e hora fora da retenção e as transferências já fora da janela de reentrega;
+     * os buckets diários são mantidos
+     */
+    @Scheduled(cron = "${banking.transfer.rollups.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            WorkloadContext.call(Workload.BATCH, () -> {
+                Timestamp minuteCutoff = Timestamp.valueOf(now.minusDays(minuteRetentionDays));
+                Timestamp hourCutoff = Timestamp.valueOf(now.minusDays(hourRetentionDays));
+                int removed = jdbcTemplate.update(PURGE_ROLLUPS, Granularity.MINUTE.name(), minuteCutoff)
+                    + jdbcTemplate.update(PURGE_FAILURES, Granularity.MINUTE.name(), minuteCutoff)
+                    + jdbcTemplate.update(PURGE_ROLLUPS, Granularity.HOUR.name(), hourCutoff)
+                    + jdbcTemplate.update(PURGE_FAILURES, Granularity.HOUR.name(), hourCutoff);
+                int events = jdbcTemplate.update(PURGE_EVENTS, Timestamp.valueOf(now.minusHours(eventRetentionHours)));
+                log.info("Agregados de transferências: {} buckets e {} registros de deduplicação removidos", removed, events);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Falha na limpeza dos agregados de transferências: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Registra os pares (transferência, resultado) do lote e retorna apenas os eventos
+     * cujo par ainda não tinha sido agregado
+     */
+    private List<DomainEvent> claim(List<? extends DomainEvent> events) {
+        List<String> transferIds = new ArrayList<>(events.size());
+        List<String> outcomes = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            String outcome = outcomeOf(event);
+            if (outcome != null) {
+                transferIds.add(transferIdOf(event));
+                outcomes.add(outcome);
+            }
+        }
+        if (transferIds.isEmpty()) {
+            return List.of();
+        }
+        Set<String> inserted = new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_EVENTS);
+            statement.setArray(1, connection.createArrayOf("varchar", transferIds.toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar", outcomes.toArray()));
+            return statement;
+        }, (rs, rowNum) -> claimKey(rs.getString("transfer_id"), rs.getString("outcome"))));
+        List<DomainEvent> fresh = new ArrayList<>(inserted.size());
+        for (DomainEvent event : events) {
+            // remove: a mesma transferência repetida dentro do próprio lote também conta uma única vez
+            String outcome = outcomeOf(event);
+            if (outcome != null && inserted.remove(claimKey(transferIdOf(event), outcome))) {
+                fresh.add(event);
+            }
+        }
+        duplicateEvents.increment(events.size() - fresh.size());
+        return fresh;
+    }
+
+    private static String outcomeOf(DomainEvent event) {
+        if (event instanceof TransferCompleted) {
+            return COMPLETED;
+        }
+        return event instanceof TransferFailed ? FAILED : null;
+    }
+
+    private static String transferIdOf(DomainEvent event) {
+        return event instanceof TransferCompleted completed
+            ? completed.getTransferId()
+            : ((TransferFailed) event).getTransferId();
+    }
+
+    private static String claimKey(String transferId, String outcome) {
+        return transferId + ":" + outcome;
+    }
+
+    /**
+     * Consolida o lote em um agregado por (granularidade, bucket, resultado) e grava os upserts
+     * ordenados pela chave, para que consumidores concorrentes bloqueiem as linhas na mesma ordem
+     */
+    private void write(List<DomainEvent> events) {
+        Map<RollupKey, Aggregate> rollups = new TreeMap<>(RollupKey.ORDER);
+        Map<FailureKey, Long> failures = new TreeMap<>(FailureKey.ORDER);
+        LocalDateTime lateBefore = LocalDateTime.now().minus(lateThreshold);
+
+        for (DomainEvent event : events) {
+            String outcome;
+            BigDecimal amount;
+            String reason = null;
+            if (event instanceof TransferCompleted completed) {
+                outcome = COMPLETED;
+                amount = completed.getAmount();
+            } else if (event instanceof TransferFailed failed) {
+                outcome = FAILED;
+                amount = failed.getAmount();
+                reason = normalizeReason(failed.getReason());
+            } else {
+                continue;
+            }
+            if (event.getOccurredOn().isBefore(lateBefore)) {
+                lateEvents.increment();
+            }
+            for (Granularity granularity : Granularity.values()) {
+                LocalDateTime bucket = granularity.bucketOf(event.getOccurredOn());
+                rollups.computeIfAbsent(new RollupKey(granularity.name(), bucket, outcome), key -> new Aggregate())
+                    .add(amount);
+                if (reason != null) {
+                    failures.merge(new FailureKey(granularity.name(), bucket, reason), 1L, Long::sum);
+                }
+            }
+        }
+
+        if (rollups.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<RollupKey, Aggregate>> rollupRows = new ArrayList<>(rollups.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP, rollupRows, rollupRows.size(), (ps, row) -> {
+            ps.setString(1, row.getKey().granularity());
+            ps.setTimestamp(2, Timestamp.valueOf(row.getKey().bucket()));
+            ps.setString(3, row.getKey().outcome());
+            ps.setLong(4, row.getValue().count);
+            ps.setBigDecimal(5, row.getValue().sum);
+            ps.setBigDecimal(6, row.getValue().min);
+            ps.setBigDecimal(7, row.getValue().max);
+        });
+        if (failures.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<FailureKey, Long>> failureRows = new ArrayList<>(failures.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_FAILURE, failureRows, failureRows.size(), (ps, row) -> {
+            ps.setString(1, row.getKey().granularity());
+            ps.setTimestamp(2, Timestamp.valueOf(row.getKey().bucket()));
+            ps.setString(3, row.getKey().reason());
+            ps.setLong(4, row.getValue());
+        });
+    }
+
+    /**
+     * Motivo da falha como categoria: dígitos trocados por # (valores, IDs) e tamanho limitado
+     */
+    static String normalizeReason(String reason) {
+        if (reason == null || reason.isBlank()) {
+            return "unknown";
+        }
+        String normalized = DIGITS.matcher(reason.trim()).replaceAll("#");
+        return normalized.length() > MAX_REASON_LENGTH ? normalized.substring(0, MAX_REASON_LENGTH) : normalized;
+    }
+
+    private record RollupKey(String granularity, LocalDateTime bucket, String outcome) {
+        static final Comparator<RollupKey> ORDER = Comparator.comparing(RollupKey::granularity)
+            .thenComparing(RollupKey::bucket)
+            .thenComparing(RollupKey::outcome);
+    }
+
+    private record FailureKey(String granularity, LocalDateTime bucket, String reason) {
+        static final Comparator<FailureKey> ORDER = Comparator.comparing(FailureKey::granularity)
+            .thenComparing(FailureKey::bucket)
+            .thenComparing(FailureKey::reason);
+    }
+
+    private static final class Aggregate {
+        long count;
+        BigDecimal sum = BigDecimal.ZERO;
+        BigDecimal min;
+        BigDecimal max;
+
+        void add(BigDecimal amount) {
+            count++;
+            sum = sum.add(amount);
+            min = min == null || amount.compareTo(min) < 0 ? amount : min;
+            max = max == null || amount.compareTo(max) > 0 ? amount : max;
+        }
+    }
+
+    private static final class RollupBuilder {
+        final LocalDateTime bucket;
+        long completedCount;
+        BigDecimal completedAmount = BigDecimal.ZERO;
+        BigDecimal minAmount;
+        BigDecimal maxAmount;
+        long failedCount;
+        final Map<String, Long> failureReasons = new LinkedHashMap<>();
+
+        RollupBuilder(LocalDateTime bucket) {
+            this.bucket = bucket;
+        }
+
+        TransferRollup build() {
+            return new TransferRollup(bucket, completedCount, completedAmount, minAmount, maxAmount,
+                failedCount, failureReasons);
+        }
+    }
+}
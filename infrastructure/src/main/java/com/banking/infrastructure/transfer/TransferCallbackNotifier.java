@@ -0,0 +1,184 @@
+package com.banking.infrastructure.transfer;
+
+import com.banking.application.transfer.command.CallbackUrlPolicy;
+import com.banking.application.transfer.dto.TransferResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.nio.entity.DiscardingEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notifica o resultado final de uma transferência assíncrona na URL de callback informada na submissão.
+ * O envio é feito sem bloquear o worker, com novas tentativas em caso de falha; a consulta
+ * GET /api/v1/transfers/{id} continua sendo a fonte do status caso a notificação não chegue.
+ * A conexão usa exatamente os endereços aprovados pela CallbackUrlPolicy na resolução feita pelo
+ * próprio cliente HTTP, de modo que um DNS que mude de resposta entre a verificação e a conexão
+ * (DNS rebinding) não alcança endereços internos; o TLS continua validando o nome original.
+ */
+@Component
+public class TransferCallbackNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferCallbackNotifier.class);
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CallbackUrlPolicy callbackUrlPolicy;
+    private final CloseableHttpAsyncClient httpClient;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    @Autowired
+    public TransferCallbackNotifier(ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    CallbackUrlPolicy callbackUrlPolicy,
+                                    @Value("${banking.transfer.async.callback.timeout-ms:5000}") long timeoutMillis,
+                                    @Value("${banking.transfer.async.callback.max-attempts:3}") int maxAttempts,
+                                    @Value("${banking.transfer.async.callback.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.callbackUrlPolicy = callbackUrlPolicy;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        Timeout timeout = Timeout.ofMilliseconds(timeoutMillis);
+        this.httpClient = HttpAsyncClients.custom()
+            .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                .setDnsResolver(new VettedDnsResolver())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setConnectTimeout(timeout)
+                    .setSocketTimeout(timeout)
+                    .build())
+                .build())
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setRedirectsEnabled(false)
+                .setResponseTimeout(timeout)
+                .build())
+            .disableAutomaticRetries()
+            .build();
+        this.httpClient.start();
+    }
+
+    /**
+     * Envia o resultado para a URL de callback, se houver
+     */
+    public void notify(String callbackUrl, TransferResponse response) {
+        if (callbackUrl == null) {
+            return;
+        }
+        try {
+            URI uri = URI.create(callbackUrl);
+            if (!callbackUrlPolicy.isAllowed(uri)) {
+                record("rejected");
+                log.warn("Callback da transferência {} não enviado: host {} não permitido", response.id(), uri.getHost());
+                return;
+            }
+            send(uri, objectMapper.writeValueAsBytes(response), response.id(), 1);
+        } catch (Exception e) {
+            record("error");
+            log.warn("Não foi possível preparar o callback da transferência {}: {}", response.id(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    private void send(URI uri, byte[] body, String transferId, int attempt) {
+        SimpleRequestProducer request = SimpleRequestProducer.create(SimpleRequestBuilder.post(uri)
+            .setBody(body, ContentType.APPLICATION_JSON)
+            .build());
+        httpClient.execute(request, new BasicResponseConsumer<>(new DiscardingEntityConsumer<>()),
+            new FutureCallback<Message<HttpResponse, Void>>() {
+                @Override
+                public void completed(Message<HttpResponse, Void> result) {
+                    int status = result.getHead().getCode();
+                    if (status / 100 == 2) {
+                        record("delivered");
+                    } else {
+                        retryOrGiveUp(uri, body, transferId, attempt, "HTTP " + status);
+                    }
+                }
+
+                @Override
+                public void failed(Exception error) {
+                    if (error instanceof RejectedAddressException) {
+                        record("rejected");
+                        log.warn("Callback da transferência {} não enviado: {}", transferId, error.getMessage());
+                        return;
+                    }
+                    retryOrGiveUp(uri, body, transferId, attempt, error.getMessage());
+                }
+
+                @Override
+                public void cancelled() {
+                    retryOrGiveUp(uri, body, transferId, attempt, "cancelado");
+                }
+            });
+    }
+
+    private void retryOrGiveUp(URI uri, byte[] body, String transferId, int attempt, String cause) {
+        if (attempt >= maxAttempts) {
+            record("failed");
+            log.warn("Callback da transferência {} não entregue após {} tentativas: {}", transferId, attempt, cause);
+            return;
+        }
+        CompletableFuture.delayedExecutor(retryBackoffMillis * attempt, TimeUnit.MILLISECONDS)
+            .execute(() -> send(uri, body, transferId, attempt + 1));
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("banking.transfer.async.callbacks", "result", result).increment();
+    }
+
+    /**
+     * Resolução usada pelo cliente HTTP na conexão: recusa o host se algum endereço não for permitido
+     */
+    private final class VettedDnsResolver extends SystemDefaultDnsResolver {
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            if (!callbackUrlPolicy.isAllowedHost(host)) {
+                throw new RejectedAddressException("host " + host + " não permitido");
+            }
+            InetAddress[] addresses = super.resolve(host);
+            for (InetAddress address : addresses) {
+                if (!callbackUrlPolicy.isAllowedAddress(address)) {
+                    throw new RejectedAddressException("host " + host + " resolve para endereço não permitido " + address.getHostAddress());
+                }
+            }
+            return addresses;
+        }
+    }
+
+    private static final class RejectedAddressException extends UnknownHostException {
+        RejectedAddressException(String message) {
+            super(message);
+        }
+    }
+}
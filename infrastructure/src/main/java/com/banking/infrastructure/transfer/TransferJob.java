@@ -0,0 +1,22 @@
+package com.banking.infrastructure.transfer;
+
+import com.banking.application.transfer.command.ProcessTransferCommand;
+import com.banking.application.transfer.dto.ProcessTransferRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transferência reservada por um worker para processamento
+ */
+record TransferJob(
+    String id,
+    ProcessTransferRequest request,
+    String callbackUrl,
+    int attempts,
+    LocalDateTime createdAt
+) {
+
+    ProcessTransferCommand toCommand() {
+        return ProcessTransferCommand.from(request, id);
+    }
+}
@@ -0,0 +1,202 @@
+package com.banking.infrastructure.transfer;
+
+import com.banking.application.shared.exception.TransferBacklogException;
+import com.banking.application.shared.exception.TransferPendingException;
+import com.banking.application.shared.exception.ValidationException;
+import com.banking.application.shared.interfaces.TransactionManager.Workload;
+import com.banking.application.transfer.command.TransferDispatcher;
+import com.banking.application.transfer.dto.TransferResponse;
+import com.banking.domain.transfer.valueobject.TransferStatus;
+import com.banking.infrastructure.persistence.routing.WorkloadContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker das transferências submetidas para processamento assíncrono.
+ * A cada ciclo reserva na fila apenas o número de transferências que cabe nos workers livres
+ * e as executa pelo TransferDispatcher; falhas de negócio são definitivas, falhas
+ * transitórias voltam à fila com espera crescente até o limite de tentativas.
+ */
+@Component
+@ConditionalOnProperty(name = "banking.transfer.async.worker-enabled", havingValue = "true", matchIfMissing = true)
+public class TransferJobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferJobWorker.class);
+
+    private final JdbcTransferJobQueue queue;
+    private final TransferDispatcher transferDispatcher;
+    private final TransferCallbackNotifier callbackNotifier;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWait;
+    private final ExecutorService executor;
+    private final Semaphore freeWorkers;
+    private final int leaseSeconds;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final int retentionDays;
+
+    @Autowired
+    public TransferJobWorker(JdbcTransferJobQueue queue,
+                             TransferDispatcher transferDispatcher,
+                             TransferCallbackNotifier callbackNotifier,
+                             MeterRegistry meterRegistry,
+                             @Value("${banking.transfer.async.workers:4}") int workers,
+                             @Value("${banking.transfer.async.lease-seconds:60}") int leaseSeconds,
+                             @Value("${banking.transfer.async.max-attempts:5}") int maxAttempts,
+                             @Value("${banking.transfer.async.retry-backoff-ms:1000}") long retryBackoffMillis,
+                             @Value("${banking.transfer.async.retention-days:7}") int retentionDays) {
+        this.queue = queue;
+        this.transferDispatcher = transferDispatcher;
+        this.callbackNotifier = callbackNotifier;
+        this.meterRegistry = meterRegistry;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.retentionDays = retentionDays;
+        this.freeWorkers = new Semaphore(Math.max(1, workers));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable, "transfer-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.queueWait = Timer.builder("banking.transfer.async.wait")
+            .description("Tempo entre a submissão e o início do processamento da transferência")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reserva transferências prontas na quantidade de workers livres
+     */
+    @Scheduled(fixedDelayString = "${banking.transfer.async.poll-interval-ms:200}")
+    public void poll() {
+        int capacity = freeWorkers.availablePermits();
+        if (capacity == 0) {
+            return;
+        }
+        List<TransferJob> jobs;
+        try {
+            jobs = queue.claim(capacity, leaseSeconds);
+        } catch (Exception e) {
+            log.warn("Falha ao reservar transferências assíncronas: {}", e.getMessage());
+            return;
+        }
+        for (TransferJob job : jobs) {
+            freeWorkers.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    freeWorkers.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove periodicamente as transferências finalizadas fora da janela de retenção
+     */
+    @Scheduled(cron = "${banking.transfer.async.purge-cron:0 15 * * * *}")
+    public void purge() throws Exception {
+        int removed = WorkloadContext.call(Workload.BATCH,
+            () -> queue.purgeFinishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        if (removed > 0) {
+            log.info("{} transferências assíncronas finalizadas removidas da fila", removed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            // Reservas não concluídas vencem e são retomadas por outra instância
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void process(TransferJob job) {
+        if (job.attempts() == 1 && job.createdAt() != null) {
+            queueWait.record(Duration.between(job.createdAt(), LocalDateTime.now()));
+        }
+        try {
+            TransferResponse response = transferDispatcher.dispatch(job.toCommand());
+            queue.complete(job.id(), response.id());
+            record("completed");
+            callbackNotifier.notify(job.callbackUrl(), response);
+        } catch (TransferPendingException e) {
+            // A transferência segue na partição e ainda pode concluir; a nova tentativa obtém o resultado pela chave
+            reschedule(job, e.getMessage(), e.getRetryAfterSeconds());
+        } catch (TransferBacklogException e) {
+            reschedule(job, e.getMessage(), e.getRetryAfterSeconds());
+        } catch (Exception e) {
+            if (isRetryable(e) && job.attempts() < maxAttempts) {
+                queue.retry(job.id(), e.getMessage(), backoffSeconds(job));
+                record("retried");
+                log.warn("Transferência {} será reprocessada (tentativa {}): {}", job.id(), job.attempts(), e.getMessage());
+                return;
+            }
+            queue.fail(job.id(), e.getMessage());
+            record("failed");
+            log.warn("Transferência assíncrona {} falhou: {}", job.id(), e.getMessage());
+            callbackNotifier.notify(job.callbackUrl(), TransferResponse.queued(job.id(), job.request(),
+                TransferStatus.FAILED, e.getMessage(), job.createdAt(), LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Devolve a transferência à fila após o Retry-After indicado, sem marcá-la como falha
+     * nem consumir o limite de tentativas: a reserva que acabou de ser feita é descontada
+     */
+    private void reschedule(TransferJob job, String reason, long retryAfterSeconds) {
+        queue.reschedule(job.id(), reason, retryAfterSeconds);
+        record("rescheduled");
+        log.info("Transferência {} reagendada: {}", job.id(), reason);
+    }
+
+    private double backoffSeconds(TransferJob job) {
+        return retryBackoffMillis * (1L << Math.min(job.attempts() - 1, 10)) / 1000.0;
+    }
+
+    /**
+     * Falhas de negócio não mudam com nova tentativa; indisponibilidade e conflitos de concorrência sim
+     */
+    private static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                || cause instanceof DataAccessResourceFailureException
+                || cause instanceof SQLTransientException) {
+                return true;
+            }
+        }
+        return !(error instanceof ValidationException
+            || error instanceof IllegalArgumentException
+            || error instanceof IllegalStateException);
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("banking.transfer.async.jobs", "result", result).increment();
+    }
+}
@@ -0,0 +1,52 @@
+-- Armazenamento compacto de chaves de idempotência
+-- Cada chave é guardada como digest de 128 bits (16 primeiros bytes do SHA-256)
+-- em partições diárias; a expiração descarta partições inteiras.
+
+CREATE TABLE idempotency_keys (
+    bucket_day DATE NOT NULL,
+    digest_hi BIGINT NOT NULL,
+    digest_lo BIGINT NOT NULL,
+    operation_id UUID NOT NULL,
+
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (digest_hi, digest_lo, bucket_day)
+) PARTITION BY RANGE (bucket_day);
+
+-- Partição de segurança para dias ainda não criados pela manutenção agendada
+CREATE TABLE idempotency_keys_default PARTITION OF idempotency_keys DEFAULT;
+
+-- Partições iniciais (ontem, hoje e os dois próximos dias), em dias UTC como a aplicação
+DO $$
+DECLARE
+    today DATE := (now() AT TIME ZONE 'UTC')::DATE;
+    d DATE;
+BEGIN
+    FOR d IN SELECT generate_series(today - 1, today + 2, INTERVAL '1 day')::DATE LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF idempotency_keys FOR VALUES FROM (%L) TO (%L)',
+            'idempotency_keys_p' || to_char(d, 'YYYYMMDD'), d, d + 1);
+    END LOOP;
+END $$;
+
+-- Migração das chaves das transferências ainda dentro da janela de retenção.
+-- created_at é horário local da sessão; o dia do bucket é calculado em UTC.
+-- Cada digest fica em um único dia (o mais recente), como faz o registro pela aplicação.
+INSERT INTO idempotency_keys (bucket_day, digest_hi, digest_lo, operation_id)
+SELECT DISTINCT ON (digest_hi, digest_lo) bucket_day, digest_hi, digest_lo, operation_id
+FROM (
+    SELECT
+        (t.created_at::TIMESTAMPTZ AT TIME ZONE 'UTC')::DATE AS bucket_day,
+        ('x' || encode(substring(sha256(convert_to(t.idempotency_key, 'UTF8')) FROM 1 FOR 8), 'hex'))::BIT(64)::BIGINT AS digest_hi,
+        ('x' || encode(substring(sha256(convert_to(t.idempotency_key, 'UTF8')) FROM 9 FOR 8), 'hex'))::BIT(64)::BIGINT AS digest_lo,
+        t.id::UUID AS operation_id
+    FROM transfers t
+    WHERE (t.created_at::TIMESTAMPTZ AT TIME ZONE 'UTC')::DATE >= (now() AT TIME ZONE 'UTC')::DATE - 1
+) k
+ORDER BY digest_hi, digest_lo, bucket_day DESC;
+
+-- A unicidade passa a ser garantida por idempotency_keys; a coluna em transfers
+-- é mantida apenas para auditoria e aceita o tamanho completo de IdempotencyKey
+ALTER TABLE transfers DROP CONSTRAINT IF EXISTS transfers_idempotency_key_key;
+DROP INDEX IF EXISTS idx_transfers_idempotency_key;
+ALTER TABLE transfers ALTER COLUMN idempotency_key TYPE VARCHAR(255);
+
+COMMENT ON TABLE idempotency_keys IS 'Chaves de idempotência em digest de 128 bits, particionadas por dia';
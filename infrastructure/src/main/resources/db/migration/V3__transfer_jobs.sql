@@ -0,0 +1,32 @@
+-- Fila durável de transferências submetidas para processamento assíncrono
+-- Os workers reservam lotes com FOR UPDATE SKIP LOCKED e mantêm a reserva por um
+-- prazo (locked_until); reservas vencidas voltam a ser elegíveis.
+
+CREATE TABLE transfer_jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    idempotency_key VARCHAR(255) NOT NULL,
+    from_account_id VARCHAR(36) NOT NULL,
+    to_account_id VARCHAR(36) NOT NULL,
+    amount DECIMAL(15,2) NOT NULL,
+    description TEXT,
+    callback_url VARCHAR(2048),
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_until TIMESTAMP,
+    transfer_id VARCHAR(36),
+    failure_reason TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_transfer_jobs_idempotency_key UNIQUE (idempotency_key),
+    CONSTRAINT chk_transfer_jobs_amount_positive CHECK (amount > 0),
+    CONSTRAINT chk_transfer_jobs_status CHECK (status IN ('QUEUED', 'PROCESSING', 'COMPLETED', 'FAILED'))
+);
+
+-- Índices parciais: só as linhas pendentes participam da busca dos workers
+CREATE INDEX idx_transfer_jobs_ready ON transfer_jobs(available_at) WHERE status = 'QUEUED';
+CREATE INDEX idx_transfer_jobs_lease ON transfer_jobs(locked_until) WHERE status = 'PROCESSING';
+CREATE INDEX idx_transfer_jobs_finished ON transfer_jobs(updated_at) WHERE status IN ('COMPLETED', 'FAILED');
+
+COMMENT ON TABLE transfer_jobs IS 'Transferências aceitas para processamento assíncrono';
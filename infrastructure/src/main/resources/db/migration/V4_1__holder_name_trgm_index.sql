@@ -0,0 +1,7 @@
+-- Índice de trigramas sobre o nome normalizado do titular
+-- CONCURRENTLY não bloqueia escritas em accounts durante a construção; por isso esta
+-- migração roda fora de transação (V4_1__holder_name_trgm_index.sql.conf).
+-- GIN com gin_trgm_ops atende tanto LIKE '%termo%' quanto os operadores de similaridade (% e <%).
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_accounts_holder_name_trgm
+    ON accounts USING GIN (normalize_holder_name(holder_name) gin_trgm_ops);
@@ -0,0 +1,16 @@
+-- Busca de contas por nome do titular com índice de trigramas (pg_trgm)
+-- O nome é normalizado (minúsculas, sem acentos, espaços colapsados) por uma função imutável;
+-- a mesma função normaliza o termo buscado e define o índice de expressão (V4_1), de modo que
+-- consulta e índice usam a mesma forma sem coluna nova nem reescrita da tabela accounts.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- translate() é imutável, ao contrário de unaccent(), e pode ser usado em índice de expressão
+CREATE OR REPLACE FUNCTION normalize_holder_name(name TEXT)
+RETURNS TEXT AS $$
+    SELECT btrim(regexp_replace(
+        translate(lower(name),
+                  'áàâãäåéèêëíìîïóòôõöúùûüçñý',
+                  'aaaaaaeeeeiiiiooooouuuucny'),
+        '\s+', ' ', 'g'))
+$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE;
@@ -0,0 +1,29 @@
+-- Contadores agregados mantidos incrementalmente na mesma transação das gravações
+-- Cada contador (name, bucket) é dividido em stripes: transações concorrentes atualizam linhas
+-- diferentes e a leitura soma as stripes. O bucket 1970-01-01 guarda o total; os demais, a hora.
+
+CREATE TABLE aggregate_counters (
+    name VARCHAR(64) NOT NULL,
+    bucket TIMESTAMP NOT NULL,
+    stripe SMALLINT NOT NULL,
+    count_value BIGINT NOT NULL DEFAULT 0,
+    sum_value DECIMAL(20,2) NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_aggregate_counters PRIMARY KEY (name, bucket, stripe)
+);
+
+-- Valores iniciais a partir dos dados existentes
+INSERT INTO aggregate_counters (name, bucket, stripe, count_value, sum_value)
+SELECT 'accounts.active', TIMESTAMP '1970-01-01 00:00:00', 0, COUNT(*), COALESCE(SUM(balance), 0)
+FROM accounts
+WHERE is_active = true;
+
+INSERT INTO aggregate_counters (name, bucket, stripe, count_value, sum_value)
+SELECT 'transfers.' || status, TIMESTAMP '1970-01-01 00:00:00', 0, COUNT(*), COALESCE(SUM(amount), 0)
+FROM transfers
+GROUP BY status;
+
+INSERT INTO aggregate_counters (name, bucket, stripe, count_value, sum_value)
+SELECT 'transfers.' || status, date_trunc('hour', created_at), 0, COUNT(*), COALESCE(SUM(amount), 0)
+FROM transfers
+GROUP BY status, date_trunc('hour', created_at);
@@ -0,0 +1,57 @@
+package com.banking.interfaces.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Executor das respostas assíncronas do MVC (StreamingResponseBody da consulta de saldos em lote).
+ * Com um taskExecutor próprio na aplicação o Spring Boot não configura o executor do MVC,
+ * que cairia em um executor sem limite de threads; aqui ele tem pool e timeout próprios.
+ */
+@Configuration
+public class AsyncMvcConfig implements WebMvcConfigurer {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${banking.web.async.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${banking.web.async.max-pool-size:32}")
+    private int maxPoolSize;
+
+    @Value("${banking.web.async.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${banking.web.async.timeout-ms:30000}")
+    private long timeoutMillis;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcTaskExecutor());
+        configurer.setDefaultTimeout(timeoutMillis);
+    }
+
+    @Bean
+    public AsyncTaskExecutor mvcTaskExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxPoolSize);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,75 @@
+package com.banking.interfaces.config;
+
+import com.banking.interfaces.limiter.AdaptiveConcurrencyLimiter;
+import com.banking.interfaces.limiter.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Configuração do descarte de carga adaptativo.
+ * Escritas (POST de transferências) e leituras (GET de contas e saldos) têm limites separados,
+ * para que uma degradação nas escritas não bloqueie as consultas e vice-versa.
+ */
+@Configuration
+@ConditionalOnProperty(name = "banking.web.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Value("${banking.web.concurrency-limit.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    @Value("${banking.web.concurrency-limit.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${banking.web.concurrency-limit.tolerance:1.5}")
+    private double tolerance;
+
+    @Value("${banking.web.concurrency-limit.window-size:50}")
+    private int windowSize;
+
+    @Value("${banking.web.concurrency-limit.long-window:20}")
+    private int longWindow;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${banking.web.concurrency-limit.writes.initial:20}") int writesInitial,
+            @Value("${banking.web.concurrency-limit.writes.min:5}") int writesMin,
+            @Value("${banking.web.concurrency-limit.writes.max:200}") int writesMax,
+            @Value("${banking.web.concurrency-limit.reads.initial:50}") int readsInitial,
+            @Value("${banking.web.concurrency-limit.reads.min:10}") int readsMin,
+            @Value("${banking.web.concurrency-limit.reads.max:500}") int readsMax) {
+        ConcurrencyLimitFilter.Route writes = new ConcurrencyLimitFilter.Route(
+            limiter("writes", writesInitial, writesMin, writesMax),
+            List.of("POST", "PUT", "DELETE"),
+            List.of("/api/v1/transfers/**"));
+        AdaptiveConcurrencyLimiter readsLimiter = limiter("reads", readsInitial, readsMin, readsMax);
+        ConcurrencyLimitFilter.Route reads = new ConcurrencyLimitFilter.Route(
+            readsLimiter,
+            List.of("GET"),
+            List.of("/api/v1/accounts/**", "/api/v1/transfers/**"));
+        // Consulta de saldos em lote: é leitura, apesar do POST
+        ConcurrencyLimitFilter.Route bulkReads = new ConcurrencyLimitFilter.Route(
+            readsLimiter,
+            List.of("POST"),
+            List.of("/api/v1/accounts/balances"));
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+            new ConcurrencyLimitFilter(List.of(writes, reads, bulkReads), retryAfterSeconds, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(String name, int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter(name, initial, min, max, smoothing, tolerance, windowSize, longWindow);
+    }
+}
@@ -1,10 +1,17 @@
 package com.banking.interfaces.controller;
 
+import com.banking.application.account.query.GetAccountBalancesHandler;
+import com.banking.application.account.query.GetAccountBalancesQuery;
 import com.banking.application.account.query.GetAccountQuery;
 import com.banking.application.account.query.GetAccountHandler;
+import com.banking.application.account.query.SearchAccountsHandler;
+import com.banking.application.account.query.SearchAccountsQuery;
+import com.banking.application.account.dto.AccountSearchResponse;
 import com.banking.application.account.command.CreateAccountCommand;
 import com.banking.application.account.command.CreateAccountHandler;
+import com.banking.application.shared.exception.ValidationException;
 import com.banking.domain.account.entity.Account;
+import com.banking.interfaces.dto.request.AccountBalancesRequest;
 import com.banking.interfaces.dto.request.CreateAccountRequest;
 import com.banking.interfaces.dto.response.AccountResponse;
 import com.banking.interfaces.dto.response.ApiResponse;
@@ -13,12 +20,17 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -33,15 +45,24 @@ public class AccountController {
 
     private final CreateAccountHandler createAccountHandler;
     private final GetAccountHandler getAccountHandler;
+    private final GetAccountBalancesHandler getAccountBalancesHandler;
+    private final SearchAccountsHandler searchAccountsHandler;
     private final InterfaceMapper interfaceMapper;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public AccountController(CreateAccountHandler createAccountHandler,
                            GetAccountHandler getAccountHandler,
-                           InterfaceMapper interfaceMapper) {
+                           GetAccountBalancesHandler getAccountBalancesHandler,
+                           SearchAccountsHandler searchAccountsHandler,
+                           InterfaceMapper interfaceMapper,
+                           ObjectMapper objectMapper) {
         this.createAccountHandler = createAccountHandler;
         this.getAccountHandler = getAccountHandler;
+        this.getAccountBalancesHandler = getAccountBalancesHandler;
+        this.searchAccountsHandler = searchAccountsHandler;
         this.interfaceMapper = interfaceMapper;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -77,6 +98,85 @@ public class AccountController {
         }
     }
 
+    /**
+     * Consulta o saldo de várias contas em uma única requisição.
+     * A resposta é transmitida à medida que os saldos são resolvidos: primeiro os do cache,
+     * depois os carregados do banco; contas inexistentes ou inativas são listadas em "missing".
+     */
+    @PostMapping("/balances")
+    @Operation(summary = "Consultar saldos em lote",
+               description = "Retorna o saldo de até " + GetAccountBalancesQuery.MAX_ACCOUNTS + " contas; contas inexistentes ou inativas são listadas em missing")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Saldos consultados"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "ID de conta inválido")
+    })
+    public ResponseEntity<?> getBalances(@Valid @RequestBody AccountBalancesRequest request) {
+        var query = GetAccountBalancesQuery.of(request.getAccountIds());
+        try {
+            // Valida antes de iniciar a transmissão, enquanto ainda é possível responder com erro
+            getAccountBalancesHandler.validate(query);
+        } catch (ValidationException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ApiResponse.error("Erro de validação: " + e.getMessage()));
+        }
+
+        StreamingResponseBody body = output -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(output)) {
+                json.writeStartObject();
+                json.writeBooleanField("success", true);
+                json.writeObjectFieldStart("data");
+                json.writeArrayFieldStart("balances");
+                List<String> missing = getAccountBalancesHandler.stream(query, balance -> {
+                    try {
+                        json.writeObject(balance);
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Falha ao escrever saldo na resposta", e);
+                    }
+                });
+                json.writeEndArray();
+                json.writeObjectField("missing", missing);
+                json.writeEndObject();
+                json.writeEndObject();
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Erro ao consultar saldos: " + e.getMessage(), e);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * Busca contas pelo nome do titular, ordenadas por similaridade.
+     * Ignora maiúsculas e acentos e tolera erros de digitação.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Buscar contas por nome",
+               description = "Busca paginada pelo nome do titular, ordenada por similaridade; ignora maiúsculas e acentos")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Busca realizada"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "Parâmetros de busca inválidos")
+    })
+    public ResponseEntity<ApiResponse<List<AccountSearchResponse>>> searchAccounts(
+            @Parameter(description = "Nome ou parte do nome do titular (mínimo 3 caracteres)") @RequestParam String name,
+            @Parameter(description = "Página (a partir de 0)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Tamanho da página (máximo " + SearchAccountsQuery.MAX_PAGE_SIZE + ")") @RequestParam(defaultValue = "20") int size) {
+
+        try {
+            var results = searchAccountsHandler.handle(SearchAccountsQuery.of(name, page, size));
+            return ResponseEntity.ok(ApiResponse.success(results));
+        } catch (ValidationException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ApiResponse.error("Erro de validação: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro interno: " + e.getMessage()));
+        }
+    }
+
     /**
      * Busca uma conta por ID
      */
@@ -1,7 +1,18 @@
 package com.banking.interfaces.controller;
 
 import com.banking.application.transfer.command.ProcessTransferCommand;
-import com.banking.application.transfer.command.ProcessTransferHandler;
+import com.banking.application.shared.exception.TransferBacklogException;
+import com.banking.application.shared.exception.TransferPendingException;
+import com.banking.application.shared.exception.ValidationException;
+import com.banking.application.shared.interfaces.TransferAnalytics.Granularity;
+import com.banking.application.transfer.command.SubmitTransferCommand;
+import com.banking.application.transfer.command.SubmitTransferHandler;
+import com.banking.application.transfer.command.TransferDispatcher;
+import com.banking.application.transfer.dto.TransferAnalyticsResponse;
+import com.banking.application.transfer.query.GetTransferAnalyticsHandler;
+import com.banking.application.transfer.query.GetTransferAnalyticsQuery;
+import com.banking.application.transfer.query.GetTransferHandler;
+import com.banking.application.transfer.query.GetTransferQuery;
 import com.banking.interfaces.dto.request.TransferRequest;
 import com.banking.interfaces.dto.response.ApiResponse;
 import com.banking.interfaces.dto.response.TransferResponse;
@@ -12,9 +23,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Controller REST para gerenciamento de transferências bancárias
@@ -26,39 +43,79 @@ import org.springframework.web.bind.annotation.*;
 public class TransferController {
 
     @Autowired
-    private ProcessTransferHandler processTransferHandler;
+    private TransferDispatcher transferDispatcher;
+
+    @Autowired
+    private SubmitTransferHandler submitTransferHandler;
+
+    @Autowired
+    private GetTransferHandler getTransferHandler;
+
+    @Autowired
+    private GetTransferAnalyticsHandler getTransferAnalyticsHandler;
 
     @Autowired
     private InterfaceMapper interfaceMapper;
 
     /**
-     * Processa uma nova transferência bancária
+     * Processa uma nova transferência bancária.
+     * Com mode=async a transferência é enfileirada e a resposta 202 traz o ID para consulta do status.
      */
     @PostMapping
     @Operation(summary = "Processar transferência", 
-               description = "Processa uma nova transferência bancária entre contas")
+               description = "Processa uma nova transferência bancária entre contas; com mode=async apenas aceita a transferência para processamento")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Transferência processada com sucesso"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Transferência aceita para processamento assíncrono"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Dados inválidos"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Transferência duplicada (idempotência)"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "Saldo insuficiente ou conta inválida")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "Saldo insuficiente ou conta inválida"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Fila de transferências cheia; repetir após Retry-After")
     })
     public ResponseEntity<ApiResponse<TransferResponse>> processTransfer(
-            @Valid @RequestBody TransferRequest request) {
+            @Valid @RequestBody TransferRequest request,
+            @Parameter(description = "Modo de processamento: sync (padrão) ou async")
+            @RequestParam(name = "mode", defaultValue = "sync") String mode) {
         
         try {
             var transferDTO = interfaceMapper.toTransferDTO(request);
+
+            if ("async".equalsIgnoreCase(mode)) {
+                var submitted = submitTransferHandler.handle(SubmitTransferCommand.from(transferDTO, request.getCallbackUrl()));
+                var response = interfaceMapper.fromApplication(submitted);
+                var location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                        .replaceQuery(null)
+                        .path("/{id}")
+                        .buildAndExpand(submitted.id())
+                        .toUri();
+
+                return ResponseEntity.accepted()
+                        .location(location)
+                        .body(ApiResponse.success("Transferência aceita para processamento", response));
+            }
+
             var command = ProcessTransferCommand.from(transferDTO);
-            var applicationResponse = processTransferHandler.handle(command);
+            var applicationResponse = transferDispatcher.dispatch(command);
             
             // Convert application DTO to interface DTO
             var response = interfaceMapper.fromApplication(applicationResponse);
             
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("Transferência processada com sucesso", response));
+        } catch (TransferPendingException e) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(ApiResponse.error("Transferência em processamento: repita com a mesma chave de idempotência"));
+        } catch (TransferBacklogException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(ApiResponse.error("Serviço sobrecarregado: tente novamente em instantes"));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error("Dados inválidos: " + e.getMessage()));
+        } catch (ValidationException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ApiResponse.error("Erro de negócio: " + e.getMessage()));
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
                     .body(ApiResponse.error("Erro de negócio: " + e.getMessage()));
@@ -68,6 +125,67 @@ public class TransferController {
         }
     }
 
+    /**
+     * Agregados de transferências por minuto, hora ou dia no intervalo [from, to).
+     * Sem intervalo informado, retorna a última hora.
+     */
+    @GetMapping("/analytics")
+    @Operation(summary = "Consultar agregados de transferências",
+               description = "Quantidade, volume, menor e maior valor e taxa de falha por motivo em buckets de minuto, hora ou dia")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Agregados consultados"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Granularidade inválida"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "422", description = "Intervalo inválido ou grande demais")
+    })
+    public ResponseEntity<ApiResponse<List<TransferAnalyticsResponse>>> getAnalytics(
+            @Parameter(description = "Granularidade: minute, hour ou day") @RequestParam(defaultValue = "minute") String granularity,
+            @Parameter(description = "Início do intervalo (ISO-8601)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fim do intervalo, exclusivo (ISO-8601)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        try {
+            LocalDateTime end = to != null ? to : LocalDateTime.now();
+            LocalDateTime start = from != null ? from : end.minusHours(1);
+            var query = GetTransferAnalyticsQuery.of(Granularity.valueOf(granularity.trim().toUpperCase()), start, end);
+            return ResponseEntity.ok(ApiResponse.success(getTransferAnalyticsHandler.handle(query)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Granularidade inválida: " + granularity));
+        } catch (ValidationException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ApiResponse.error("Erro de validação: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro interno: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Consulta uma transferência por ID, inclusive as submetidas de forma assíncrona
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Consultar transferência",
+               description = "Retorna a transferência e seu status; transferências assíncronas ficam PENDING até serem processadas")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Transferência encontrada"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Transferência não encontrada")
+    })
+    public ResponseEntity<ApiResponse<TransferResponse>> getTransfer(
+            @Parameter(description = "ID da transferência") @PathVariable String id) {
+
+        try {
+            var applicationResponse = getTransferHandler.handle(GetTransferQuery.of(id));
+            return ResponseEntity.ok(ApiResponse.success(interfaceMapper.fromApplication(applicationResponse)));
+        } catch (ValidationException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Transferência não encontrada: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Erro interno: " + e.getMessage()));
+        }
+    }
+
     /**
      * Endpoint de health check
      */
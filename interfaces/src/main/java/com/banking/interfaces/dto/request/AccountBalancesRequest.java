@@ -0,0 +1,38 @@
+package com.banking.interfaces.dto.request;
+
+import com.banking.application.account.query.GetAccountBalancesQuery;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para requisição de consulta de saldo de várias contas.
+ */
+@Schema(description = "Contas cujo saldo deve ser consultado")
+public class AccountBalancesRequest {
+
+    @Schema(description = "IDs das contas (UUID)",
+            example = "[\"123e4567-e89b-12d3-a456-426614174000\"]",
+            required = true)
+    @NotEmpty(message = "Lista de contas é obrigatória")
+    @Size(max = GetAccountBalancesQuery.MAX_ACCOUNTS, message = "No máximo {max} contas por requisição")
+    private List<String> accountIds;
+
+    // Constructors
+    public AccountBalancesRequest() {}
+
+    public AccountBalancesRequest(List<String> accountIds) {
+        this.accountIds = accountIds;
+    }
+
+    // Getters and Setters
+    public List<String> getAccountIds() {
+        return accountIds;
+    }
+
+    public void setAccountIds(List<String> accountIds) {
+        this.accountIds = accountIds;
+    }
+}
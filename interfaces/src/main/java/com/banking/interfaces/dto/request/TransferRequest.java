@@ -46,6 +46,12 @@ public class TransferRequest {
     @Size(min = 10, max = 64, message = "Chave de idempotência deve ter entre 10 e 64 caracteres")
     private String idempotencyKey;
 
+    @Schema(description = "URL notificada com o resultado final (apenas no modo assíncrono)",
+            example = "https://cliente.exemplo.com/transferencias/callback",
+            maxLength = 2048)
+    @Size(max = 2048, message = "URL de callback não pode exceder 2048 caracteres")
+    private String callbackUrl;
+
     // Constructors
     public TransferRequest() {}
 
@@ -99,6 +105,14 @@ public class TransferRequest {
         this.idempotencyKey = idempotencyKey;
     }
 
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    public void setCallbackUrl(String callbackUrl) {
+        this.callbackUrl = callbackUrl;
+    }
+
     @Override
     public String toString() {
         return "TransferRequest{" +
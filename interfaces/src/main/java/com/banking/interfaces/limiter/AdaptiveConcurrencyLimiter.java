@@ -0,0 +1,127 @@
+package com.banking.interfaces.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de concorrência adaptativo baseado no gradiente de latência.
+ * Compara a latência recente (média de uma janela de amostras) com a latência de referência
+ * (média móvel longa): enquanto a recente se mantém próxima da referência o limite cresce
+ * pela raiz do limite atual; quando ela sobe, o limite é reduzido na proporção do gradiente.
+ * Falhas por sobrecarga (5xx, timeouts) reduzem o limite multiplicativamente.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_FACTOR = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final int windowSize;
+    private final int longWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile double limit;
+
+    private long windowSumNanos;
+    private int windowCount;
+    private int windowMaxInFlight;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double smoothing, double tolerance, int windowSize, int longWindow) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.windowSize = windowSize;
+        this.longWindow = longWindow;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Ocupa uma vaga se houver; retorna false quando o limite foi atingido
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e registra a latência observada; dropped indica falha por sobrecarga
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        // ReentrantLock em vez de synchronized: chamado por toda requisição, inclusive em virtual threads
+        lock.lock();
+        try {
+            if (dropped) {
+                setLimit(limit * DROP_FACTOR);
+                return;
+            }
+            windowSumNanos += rttNanos;
+            windowCount++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+            if (windowCount >= windowSize) {
+                closeWindow();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void closeWindow() {
+        double shortRtt = (double) windowSumNanos / windowCount;
+        int maxInFlight = windowMaxInFlight;
+        windowSumNanos = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+            return;
+        }
+        longRttNanos += (shortRtt - longRttNanos) / longWindow;
+        // Após uma degradação longa a referência fica inflada: volta rapidamente à latência atual
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos = shortRtt;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        // Sem demanda suficiente a latência não diz nada sobre a capacidade: não aumenta o limite
+        if (newLimit > limit && maxInFlight < limit / 2) {
+            return;
+        }
+        setLimit(limit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private void setLimit(double value) {
+        limit = Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
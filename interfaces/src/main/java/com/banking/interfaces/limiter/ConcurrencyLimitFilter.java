@@ -0,0 +1,192 @@
+package com.banking.interfaces.limiter;
+
+import com.banking.interfaces.dto.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Filtro de descarte de carga para os endpoints de transferência e consulta.
+ * Leituras e escritas têm limitadores independentes; quando o limite é atingido a
+ * requisição é recusada imediatamente com 503 e Retry-After, sem ocupar o pool de conexões.
+ * Em respostas assíncronas (streaming) a vaga só é liberada quando o processamento assíncrono termina.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Route> routes;
+    private final long retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(List<Route> routes, long retryAfterSeconds, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.routes = routes;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.objectMapper = objectMapper;
+        for (Route route : routes) {
+            route.registerMetrics(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = routeFor(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        AdaptiveConcurrencyLimiter limiter = route.limiter();
+        if (!limiter.tryAcquire()) {
+            route.rejected.increment();
+            reject(response);
+            return;
+        }
+
+        route.accepted.increment();
+        long start = System.nanoTime();
+        boolean dropped = true;
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (async) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(limiter, start));
+            } else {
+                limiter.release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+
+    private Route routeFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.endsWith("/health")) {
+            return null;
+        }
+        for (Route route : routes) {
+            if (route.matches(request.getMethod(), path, pathMatcher)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+            ApiResponse.error("Serviço temporariamente sobrecarregado, tente novamente"));
+    }
+
+    /**
+     * Libera a vaga do limitador ao fim do processamento assíncrono
+     */
+    private static final class ReleaseOnCompletion implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long start;
+        private boolean dropped;
+
+        ReleaseOnCompletion(AdaptiveConcurrencyLimiter limiter, long start) {
+            this.limiter = limiter;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            boolean failed = dropped || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+            limiter.release(System.nanoTime() - start, failed);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            dropped = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            dropped = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Reinício do processamento assíncrono: o listener precisa continuar registrado
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * Conjunto de métodos e padrões de caminho atendidos por um limitador
+     */
+    public static final class Route {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final List<String> methods;
+        private final List<String> patterns;
+        private Counter accepted;
+        private Counter rejected;
+
+        public Route(AdaptiveConcurrencyLimiter limiter, List<String> methods, List<String> patterns) {
+            this.limiter = limiter;
+            this.methods = methods;
+            this.patterns = patterns;
+        }
+
+        AdaptiveConcurrencyLimiter limiter() {
+            return limiter;
+        }
+
+        boolean matches(String method, String path, AntPathMatcher matcher) {
+            if (!methods.contains(method)) {
+                return false;
+            }
+            for (String pattern : patterns) {
+                if (matcher.match(pattern, path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void registerMetrics(MeterRegistry meterRegistry) {
+            String name = limiter.name();
+            Gauge.builder("banking.web.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .description("Limite de concorrência atual")
+                .tag("limiter", name)
+                .register(meterRegistry);
+            Gauge.builder("banking.web.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Requisições em andamento no limitador")
+                .tag("limiter", name)
+                .register(meterRegistry);
+            this.accepted = Counter.builder("banking.web.concurrency.requests")
+                .description("Requisições avaliadas pelo limitador")
+                .tag("limiter", name)
+                .tag("result", "accepted")
+                .register(meterRegistry);
+            this.rejected = Counter.builder("banking.web.concurrency.requests")
+                .description("Requisições avaliadas pelo limitador")
+                .tag("limiter", name)
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        }
+    }
+}